@@ -27,6 +27,7 @@ import jakarta.enterprise.inject.spi.Bean;
 import org.apache.webbeans.component.OwbBean;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.container.BeanManagerImpl;
+import org.apache.webbeans.container.BeanNameIndex;
 import org.apache.webbeans.el.ELContextStore;
 
 import java.lang.reflect.Type;
@@ -125,6 +126,13 @@ public class WebBeansELResolver extends ELResolver
         //Name of the bean
         final String beanName = (String) property;
 
+        // once the deployment is done all names and dotted prefixes are known upfront
+        final BeanNameIndex beanNameIndex = beanManager.getBeanNameIndex();
+        if (beanNameIndex != null)
+        {
+            return getIndexedValue(context, base, beanManager, beanNameIndex, beanName);
+        }
+
         // Fast path for root-level identifiers already known to never resolve to any CDI
         // bean (exact or dot-prefixed), e.g. JSF implicit objects (#{request}, #{cc}, ...)
         // or <ui:repeat>/<h:dataTable> row variables, which get re-evaluated for every row
@@ -171,6 +179,51 @@ public class WebBeansELResolver extends ELResolver
 
     }
 
+    private Object getIndexedValue(final ELContext context, final Object base, final BeanManagerImpl beanManager,
+                                   final BeanNameIndex beanNameIndex, final String beanName)
+    {
+        final String fqBeanName = base == null ? beanName : ((WrappedValueExpressionNode) base).getFqBeanName() + "." + beanName;
+        final BeanNameIndex.Entry entry = beanNameIndex.get(fqBeanName);
+        if (entry == null)
+        {
+            return null;
+        }
+
+        final Bean<?> bean = entry.getBean();
+        if (bean != null && (base == null || !entry.isPrefix()))
+        {
+            final ELContextStore elContextStore = ELContextStore.getInstance(true);
+            final int slot = entry.getSlot();
+            if (slot < 0)
+            {
+                return getDependentContextualInstance(beanManager, elContextStore, context, bean);
+            }
+
+            Object contextualInstance = elContextStore.getNormalScoped(slot);
+            if (contextualInstance == null)
+            {
+                CreationalContext<?> creationalContext = beanManager.createCreationalContext(bean);
+                contextualInstance = beanManager.getReference(bean, Object.class, creationalContext);
+                if (contextualInstance == null)
+                {
+                    return null;
+                }
+                elContextStore.addNormalScoped(slot, contextualInstance, beanNameIndex.getSlotCount());
+            }
+            context.setPropertyResolved(true);
+            return contextualInstance;
+        }
+
+        if (entry.isPrefix())
+        {
+            context.setPropertyResolved(true);
+            return new WrappedValueExpressionNode(fqBeanName);
+        }
+
+        // ambiguous name, let the resolution report it
+        return getBeanWithScope(context, beanManager, fqBeanName, ELContextStore.getInstance(true), entry.getBeans());
+    }
+
     private Object getBeanWithScope(final ELContext context, final BeanManagerImpl beanManager, final String beanName,
                                     final ELContextStore elContextStore, final Set<Bean<?>> beans)
     {
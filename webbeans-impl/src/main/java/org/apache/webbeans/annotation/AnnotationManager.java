@@ -18,10 +18,12 @@
  */
 package org.apache.webbeans.annotation;
 
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.container.BeanManagerImpl;
 import org.apache.webbeans.deployment.stereotype.IStereoTypeModel;
 import org.apache.webbeans.exception.WebBeansConfigurationException;
+import org.apache.webbeans.logger.WebBeansLoggerFacade;
 
 
 import org.apache.webbeans.util.AnnotationUtil;
@@ -63,12 +65,16 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
 
 /**
  * Manages annotation usage by classes in this application.
  */
 public final class AnnotationManager
 {
+    private static final Logger logger = WebBeansLoggerFacade.getLogger(AnnotationManager.class);
+
     private Map<Class<? extends Annotation>, Boolean> checkedQualifierAnnotations =
         new ConcurrentHashMap<>();
     private Map<Class<? extends Annotation>, Boolean> checkedStereotypeAnnotations =
@@ -76,6 +82,15 @@ public final class AnnotationManager
 
     private ConcurrentMap<Class<?>, Optional<Method>> repeatableMethodCache = new ConcurrentHashMap<>();
 
+    /**
+     * Canonical ids of the qualifiers without binding members, by annotation type.
+     */
+    private final ConcurrentMap<Class<? extends Annotation>, QualifierId> memberlessQualifiers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<? extends Annotation>, List<Method>> qualifierBindingMembers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QualifierId, QualifierId> internedQualifiers = new ConcurrentHashMap<>();
+    private final int maxInternedQualifiers;
+    private final AtomicBoolean internLimitReported = new AtomicBoolean();
+
     private final BeanManagerImpl beanManagerImpl;
     private final WebBeansContext webBeansContext;
 
@@ -88,6 +103,95 @@ public final class AnnotationManager
         webBeansContext = context;
         beanManagerImpl = context.getBeanManagerImpl();
         strictValidation = context.getOpenWebBeansConfiguration().strictDynamicValidation();
+        // qualifier values of dynamic lookups are not bound by the deployment
+        maxInternedQualifiers = context.getOpenWebBeansConfiguration().getQualifierInternSize();
+    }
+
+    /**
+     * Maps the given qualifier to its canonical {@link QualifierId}.
+     * Equal qualifiers (ignoring {@link Nonbinding} members) get the same id instance,
+     * so cache keys can compare them by identity.
+     * <p>
+     * Before the bean discovery is done the qualifier model can still change,
+     * in this case as well as once too many distinct qualifier values got interned
+     * a non canonical id gets returned which compares by value.
+     * </p>
+     * <p>
+     * The number of interned qualifiers with members is limited by
+     * {@link org.apache.webbeans.config.OpenWebBeansConfiguration#QUALIFIER_INTERN_SIZE}.
+     * Interned ids are never evicted: cache keys compare canonical ids by identity, so a re-interned
+     * qualifier would not find the entries of its evicted id anymore. Once the limit is reached the
+     * qualifiers interned so far keep their ids and new values only get the slower non canonical ids
+     * for the rest of the life of the container. This gets logged once.
+     * </p>
+     */
+    public QualifierId internQualifier(Annotation qualifier)
+    {
+        Class<? extends Annotation> type = qualifier.annotationType();
+        QualifierId id = memberlessQualifiers.get(type);
+        if (id != null)
+        {
+            return id;
+        }
+
+        if (!beanManagerImpl.isAfterBeanDiscoveryDone())
+        {
+            return QualifierId.of(qualifier, beanManagerImpl.getAdditionalAnnotatedTypeQualifiers().get(type));
+        }
+
+        List<Method> members = qualifierBindingMembers.computeIfAbsent(type,
+            t -> QualifierId.getBindingMembers(t, beanManagerImpl.getAdditionalAnnotatedTypeQualifiers().get(t)));
+        if (members.isEmpty())
+        {
+            return memberlessQualifiers.computeIfAbsent(type, QualifierId::canonical);
+        }
+
+        QualifierId probe = new QualifierId(type, QualifierId.getBindingValues(qualifier, members), false);
+        id = internedQualifiers.get(probe);
+        if (id != null)
+        {
+            return id;
+        }
+        if (maxInternedQualifiers > 0 && internedQualifiers.size() >= maxInternedQualifiers)
+        {
+            if (internLimitReported.compareAndSet(false, true))
+            {
+                logger.info("Reached the limit of " + maxInternedQualifiers + " interned qualifiers, "
+                    + "further qualifier values get resolved without canonical ids. See "
+                    + OpenWebBeansConfiguration.QUALIFIER_INTERN_SIZE);
+            }
+            return probe;
+        }
+        return internedQualifiers.computeIfAbsent(probe, QualifierId::toCanonical);
+    }
+
+    /**
+     * @return the {@link #internQualifier(Annotation) ids} of the given qualifiers in the order of {@link QualifierId#sort(QualifierId[])}
+     */
+    public QualifierId[] internQualifiers(Annotation... qualifiers)
+    {
+        QualifierId[] ids = new QualifierId[qualifiers.length];
+        for (int i = 0; i < qualifiers.length; i++)
+        {
+            ids[i] = internQualifier(qualifiers[i]);
+        }
+        QualifierId.sort(ids);
+        return ids;
+    }
+
+    /**
+     * @see #internQualifiers(Annotation...)
+     */
+    public QualifierId[] internQualifiers(Collection<Annotation> qualifiers)
+    {
+        QualifierId[] ids = new QualifierId[qualifiers.size()];
+        int i = 0;
+        for (Annotation qualifier : qualifiers)
+        {
+            ids[i++] = internQualifier(qualifier);
+        }
+        QualifierId.sort(ids);
+        return ids;
     }
 
     public Annotation getDeclaredScopeAnnotation(Class<?> beanClass)
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.annotation;
+
+import org.apache.webbeans.util.AnnotationUtil;
+
+import jakarta.enterprise.inject.spi.AnnotatedType;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Identity of a qualifier: its annotation type and the values of all
+ * members which are not {@link jakarta.enterprise.util.Nonbinding}.
+ * <p>
+ * Ids handed out by {@link AnnotationManager#internQualifier(Annotation)} are canonical:
+ * there is exactly one canonical id per distinct qualifier, so two canonical ids
+ * are only equal if they are the same instance. Other ids compare their member values.
+ * </p>
+ */
+public final class QualifierId
+{
+    private static final Object[] NO_VALUES = new Object[0];
+
+    /**
+     * Total order which is consistent with {@link #equals(Object)}: by hash code first as it is cheap,
+     * then by the name of the annotation type and the member values.
+     */
+    private static final Comparator<QualifierId> ORDER = Comparator.comparingInt(QualifierId::hashCode)
+            .thenComparing(id -> id.type.getName())
+            .thenComparing((a, b) -> compareValues(a.values, b.values));
+
+    private final Class<? extends Annotation> type;
+    private final Object[] values;
+    private final boolean canonical;
+    private final int hashCode;
+
+    QualifierId(Class<? extends Annotation> type, Object[] values, boolean canonical)
+    {
+        this.type = type;
+        this.values = values;
+        this.canonical = canonical;
+        this.hashCode = 31 * type.hashCode() + Arrays.deepHashCode(values);
+    }
+
+    /**
+     * Creates a non canonical id.
+     *
+     * @param qualifier the qualifier
+     * @param model the AnnotatedType of the qualifier if it got added by an Extension or {@code null}
+     */
+    public static QualifierId of(Annotation qualifier, AnnotatedType<?> model)
+    {
+        Class<? extends Annotation> type = qualifier.annotationType();
+        return new QualifierId(type, getBindingValues(qualifier, getBindingMembers(type, model)), false);
+    }
+
+    /**
+     * Sorts the given ids into a stable order so that arrays of equal qualifiers
+     * can get compared element by element.
+     */
+    public static void sort(QualifierId[] ids)
+    {
+        if (ids.length > 1)
+        {
+            Arrays.sort(ids, ORDER);
+        }
+    }
+
+    /**
+     * Compares two annotation member values of the same member.
+     * Those are primitive wrappers, Strings, enums, classes, annotations or arrays of them.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object a, Object b)
+    {
+        if (a == b)
+        {
+            return 0;
+        }
+        if (a.getClass().isArray())
+        {
+            int length = Array.getLength(a);
+            int result = Integer.compare(length, Array.getLength(b));
+            for (int i = 0; result == 0 && i < length; i++)
+            {
+                result = compareValues(Array.get(a, i), Array.get(b, i));
+            }
+            return result;
+        }
+        if (a instanceof Class)
+        {
+            return ((Class<?>) a).getName().compareTo(((Class<?>) b).getName());
+        }
+        if (a instanceof Annotation)
+        {
+            Class<? extends Annotation> type = ((Annotation) a).annotationType();
+            int result = type.getName().compareTo(((Annotation) b).annotationType().getName());
+            if (result != 0)
+            {
+                return result;
+            }
+            Method[] members = type.getDeclaredMethods();
+            Arrays.sort(members, Comparator.comparing(Method::getName));
+            for (int i = 0; result == 0 && i < members.length; i++)
+            {
+                result = compareValues(AnnotationUtil.callMethod(a, members[i]), AnnotationUtil.callMethod(b, members[i]));
+            }
+            return result;
+        }
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    static List<Method> getBindingMembers(Class<? extends Annotation> type, AnnotatedType<?> model)
+    {
+        List<Method> members = new ArrayList<>(model == null
+                ? AnnotationUtil.getBindingCdiAnnotationMethods(type)
+                : AnnotationUtil.getBindingCdiAnnotationMethods(model));
+        // the order of getDeclaredMethods() is not specified
+        members.sort(Comparator.comparing(Method::getName));
+        return members;
+    }
+
+    static Object[] getBindingValues(Annotation qualifier, List<Method> members)
+    {
+        if (members.isEmpty())
+        {
+            return NO_VALUES;
+        }
+        Object[] values = new Object[members.size()];
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = AnnotationUtil.callMethod(qualifier, members.get(i));
+        }
+        return values;
+    }
+
+    static QualifierId canonical(Class<? extends Annotation> type)
+    {
+        return new QualifierId(type, NO_VALUES, true);
+    }
+
+    QualifierId toCanonical()
+    {
+        return canonical ? this : new QualifierId(type, values, true);
+    }
+
+    public boolean isCanonical()
+    {
+        return canonical;
+    }
+
+    public Class<? extends Annotation> getType()
+    {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof QualifierId))
+        {
+            return false;
+        }
+        QualifierId other = (QualifierId) o;
+        if (canonical && other.canonical)
+        {
+            return false;
+        }
+        return hashCode == other.hashCode && type == other.type && Arrays.deepEquals(values, other.values);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "@" + type.getName() + (values.length == 0 ? "" : Arrays.deepToString(values));
+    }
+}
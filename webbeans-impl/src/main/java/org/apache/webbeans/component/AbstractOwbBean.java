@@ -21,10 +21,13 @@ package org.apache.webbeans.component;
 import jakarta.enterprise.inject.spi.BeanAttributes;
 import org.apache.webbeans.config.OWBLogConst;
 import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.container.BeanManagerImpl;
+import org.apache.webbeans.container.ReferenceStrategy;
 import org.apache.webbeans.container.SerializableBean;
 import org.apache.webbeans.context.creational.CreationalContextImpl;
 import org.apache.webbeans.exception.WebBeansException;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
+import org.apache.webbeans.spi.MetricsService;
 
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.context.spi.CreationalContext;
@@ -79,6 +82,11 @@ public abstract class AbstractOwbBean<T>
     
     protected final WebBeansContext webBeansContext;
 
+    /**
+     * How the BeanManager gets the reference of this bean, assigned once the deployment got validated.
+     */
+    private volatile ReferenceStrategy referenceStrategy;
+
     protected AbstractOwbBean(WebBeansContext webBeansContext,
                               WebBeansType webBeansType,
                               BeanAttributes<T> beanAttributes,
@@ -106,6 +114,16 @@ public abstract class AbstractOwbBean<T>
     {
         return beanClass;
     }
+
+    public ReferenceStrategy getReferenceStrategy()
+    {
+        return referenceStrategy;
+    }
+
+    public void setReferenceStrategy(ReferenceStrategy referenceStrategy)
+    {
+        this.referenceStrategy = referenceStrategy;
+    }
     
     /**
      * {@inheritDoc}
@@ -113,6 +131,8 @@ public abstract class AbstractOwbBean<T>
     @Override
     public T create(CreationalContext<T> creationalContext)
     {
+        webBeansContext.getDeferredValidation().ensureValidated(this);
+
         try
         {
             if(!(creationalContext instanceof CreationalContextImpl))
@@ -132,6 +152,15 @@ public abstract class AbstractOwbBean<T>
             {
                 ((CreationalContextImpl<T>)creationalContext).addDependent(this, instance);
             }
+            MetricsService metrics = webBeansContext.getMetricsService();
+            if (metrics.isEnabled() && instance != null)
+            {
+                metrics.increment(MetricsService.INSTANCES_CREATED, getScope().getName());
+                if (getScope().equals(Dependent.class))
+                {
+                    metrics.increment(MetricsService.DEPENDENT_INSTANCES_LIVE, null);
+                }
+            }
             return instance;
         }
         catch (Exception re)
@@ -169,14 +198,34 @@ public abstract class AbstractOwbBean<T>
     @Override
     public void destroy(T instance, CreationalContext<T> creationalContext)
     {
-        if (getScope().equals(Dependent.class)
+        boolean dependent = getScope().equals(Dependent.class);
+        if (dependent
             && creationalContext instanceof CreationalContextImpl
             && ((CreationalContextImpl<T>)creationalContext).containsDependent(this, instance))
         {
-            // we just have to call release, because release will destroy us since we are @Dependent
+            // we just have to call release, because release will destroy us since we are @Dependent.
+            // It removes the instance from the creational context and calls this method again,
+            // which then takes the path below and counts the instance down exactly once.
             creationalContext.release();
             return;
         }
+
+        BeanManagerImpl beanManager = webBeansContext.getBeanManagerImpl();
+        if (dependent)
+        {
+            // the one place a @Dependent instance actually gets destroyed
+            MetricsService metrics = webBeansContext.getMetricsService();
+            if (metrics.isEnabled())
+            {
+                metrics.decrement(MetricsService.DEPENDENT_INSTANCES_LIVE, null);
+            }
+        }
+        else if (beanManager.isNormalScope(getScope()))
+        {
+            // a caching normal scope proxy must not hand out the destroyed instance anymore
+            beanManager.clearCachedProxyInstance(this);
+        }
+
         try
         {
             Producer<T> producer = getProducer();
@@ -21,13 +21,13 @@ package org.apache.webbeans.component;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanAttributes;
 import org.apache.webbeans.util.AnnotationUtil;
+import org.apache.webbeans.util.ImmutableArraySet;
 
 public class BeanAttributesImpl<T> implements BeanAttributes<T>
 {
@@ -95,13 +95,11 @@ public class BeanAttributesImpl<T> implements BeanAttributes<T>
                         Set<Class<? extends Annotation>> stereotypes,
                         boolean alternative)
     {
-        this.types = types == null? Collections.<Type>emptySet(): Collections.unmodifiableSet(new HashSet<>(types));
-        this.qualifiers = qualifiers == null? Collections.<Annotation>emptySet(): Collections.unmodifiableSet(new HashSet<>(qualifiers));
+        this.types = ImmutableArraySet.copyOf(types);
+        this.qualifiers = ImmutableArraySet.copyOf(qualifiers);
         this.scope = scope;
         this.name = name;
-        this.stereotypes = stereotypes == null
-                ? Collections.<Class<? extends Annotation>>emptySet()
-                : Collections.unmodifiableSet(new HashSet<>(stereotypes));
+        this.stereotypes = ImmutableArraySet.copyOf(stereotypes);
         this.alternative = alternative;
     }
 
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.util.ImmutableArraySet;
 
 
 /**
@@ -50,7 +51,7 @@ public class CdiInterceptorBean<T> extends InterceptorBean<T>
                               Map<InterceptionType, Method[]> interceptionMethods)
     {
         super(webBeansContext, annotatedType, beanAttributes, beanClass, interceptionMethods);
-        this.interceptorBindings = interceptorBindings;
+        this.interceptorBindings = ImmutableArraySet.copyOf(interceptorBindings);
         this.setEnabled(enabled);
     }
 
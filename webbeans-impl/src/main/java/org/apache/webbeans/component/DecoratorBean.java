@@ -27,6 +27,7 @@ import java.util.Set;
 import jakarta.enterprise.inject.spi.BeanAttributes;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.container.DecoratorInjectionTargetFactory;
+import org.apache.webbeans.util.ImmutableArraySet;
 
 /**
  * Decorator Bean implementation.
@@ -60,9 +61,9 @@ public class DecoratorBean<T> extends InjectionTargetBean<T> implements Decorato
 
     public void setDecoratorInfo(Set<Type> decoratedTypes, Type delegateType, Set<Annotation> delegateQualifiers)
     {
-        this.decoratedTypes = decoratedTypes;
+        this.decoratedTypes = ImmutableArraySet.copyOf(decoratedTypes);
         this.delegateType = delegateType;
-        this.delegateQualifiers = delegateQualifiers;
+        this.delegateQualifiers = ImmutableArraySet.copyOf(delegateQualifiers);
     }
 
     @Override
@@ -48,6 +48,7 @@ import org.apache.webbeans.corespi.se.DefaultJndiService;
 import org.apache.webbeans.decorator.DecoratorsManager;
 import org.apache.webbeans.deployment.StereoTypeManager;
 import org.apache.webbeans.deployment.StereoTypeModel;
+import org.apache.webbeans.event.NotificationManager;
 import org.apache.webbeans.event.ObserverMethodImpl;
 import org.apache.webbeans.event.OwbObserverMethod;
 import org.apache.webbeans.exception.WebBeansConfigurationException;
@@ -65,6 +66,7 @@ import org.apache.webbeans.intercept.InterceptorsManager;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
 import org.apache.webbeans.portable.AbstractProducer;
 import org.apache.webbeans.portable.AnnotatedElementFactory;
+import org.apache.webbeans.portable.AnnotatedTypeImpl;
 import org.apache.webbeans.portable.BaseProducerProducer;
 import org.apache.webbeans.portable.events.ProcessBeanAttributesImpl;
 import org.apache.webbeans.portable.events.ProcessBeanImpl;
@@ -77,6 +79,7 @@ import org.apache.webbeans.portable.events.discovery.BeforeBeanDiscoveryImpl;
 import org.apache.webbeans.portable.events.generics.GProcessAnnotatedType;
 import org.apache.webbeans.portable.events.generics.GProcessBean;
 import org.apache.webbeans.portable.events.generics.GProcessManagedBean;
+import org.apache.webbeans.proxy.NormalScopeProxyFactory;
 import org.apache.webbeans.spi.BdaScannerService;
 import org.apache.webbeans.spi.BeanArchiveService;
 import org.apache.webbeans.spi.JNDIService;
@@ -92,12 +95,17 @@ import org.apache.webbeans.util.WebBeansConstants;
 import org.apache.webbeans.util.WebBeansUtil;
 import org.apache.webbeans.xml.DefaultBeanArchiveInformation;
 
+import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.AmbiguousResolutionException;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Model;
 import jakarta.enterprise.inject.UnproxyableResolutionException;
 import jakarta.enterprise.inject.UnsatisfiedResolutionException;
+import jakarta.enterprise.inject.spi.Annotated;
 import jakarta.enterprise.inject.spi.AnnotatedField;
+import jakarta.enterprise.inject.spi.AnnotatedMember;
 import jakarta.enterprise.inject.spi.AnnotatedMethod;
+import jakarta.enterprise.inject.spi.AnnotatedParameter;
 import jakarta.enterprise.inject.spi.AnnotatedType;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.Decorator;
@@ -106,6 +114,7 @@ import jakarta.enterprise.inject.spi.InjectionTarget;
 import jakarta.enterprise.inject.spi.Interceptor;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.enterprise.inject.spi.Producer;
+import jakarta.inject.Provider;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -127,9 +136,19 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode;
@@ -151,6 +170,9 @@ public class BeansDeployer
     // 1 new thread per every this number.
     public static final int BEANS_PER_THREAD_MIN = 500;
 
+    // how long do we wait for interrupted warm-up tasks before the deployment continues?
+    private static final long WARM_UP_TERMINATION_MILLIS = 100;
+
 
     /**Deployment is started or not*/
     protected boolean deployed;
@@ -166,7 +188,7 @@ public class BeansDeployer
     private final DecoratorsManager decoratorsManager;
     private final InterceptorsManager interceptorsManager;
 
-    private final Map<String, Boolean> packageVetoCache = new HashMap<>();
+    private final Map<String, Boolean> packageVetoCache = new ConcurrentHashMap<>();
 
     protected boolean skipVetoedOnPackages;
     protected boolean skipNoClassDefFoundTriggers;
@@ -215,11 +237,13 @@ public class BeansDeployer
      */
     public synchronized void deploy(ScannerService scanner)
     {
+        BootstrapMonitor monitor = webBeansContext.getBootstrapMonitor();
         try
         {
             if (!deployed)
             {                
                 //Load Extensions
+                monitor.startPhase("loadExtensions");
                 webBeansContext.getExtensionLoader().loadExtensionServices();
 
                 // Bind manager
@@ -246,11 +270,13 @@ public class BeansDeployer
                         jakarta.interceptor.Interceptor.Priority.PLATFORM_BEFORE + 100);
 
                 //Fire Event
+                monitor.startPhase("beforeBeanDiscovery");
                 fireBeforeBeanDiscoveryEvent();
                 
                 //Configure Default Beans
                 configureDefaultBeans();
 
+                monitor.startPhase("annotatedTypes");
                 Map<BeanArchiveInformation, List<AnnotatedType<?>>> annotatedTypesPerBda = annotatedTypesFromClassPath(scanner);
 
                 List<AnnotatedType<?>> globalBdaAnnotatedTypes = annotatedTypesPerBda.get(defaultBeanArchiveInformation);
@@ -266,17 +292,21 @@ public class BeansDeployer
                 }
 
                 // Also configures deployments, interceptors, decorators.
+                monitor.startPhase("deployFromXML");
                 deployFromXML(scanner);
 
+                monitor.startPhase("afterTypeDiscovery");
                 addAdditionalAnnotatedTypes(fireAfterTypeDiscoveryEvent(), globalBdaAnnotatedTypes);
 
 
+                monitor.startPhase("beanAttributes");
                 Map<BeanArchiveInformation, Map<AnnotatedType<?>, ExtendedBeanAttributes<?>>> beanAttributesPerBda
                     = getBeanAttributes(annotatedTypesPerBda);
 
                 // shouldn't be used anymore, view is now beanAttributes
                 annotatedTypesPerBda.clear();
 
+                monitor.startPhase("specialization");
                 SpecializationUtil specializationUtil = new SpecializationUtil(webBeansContext);
                 specializationUtil.removeDisabledBeanAttributes(beanAttributesPerBda, null, true);
 
@@ -308,6 +338,7 @@ public class BeansDeployer
                         false);
 
                 // create beans from the discovered AnnotatedTypes
+                monitor.startPhase("deployBeans");
                 deployFromBeanAttributes(beanAttributesPerBda);
 
                 configureProducerMethodSpecializations();
@@ -316,6 +347,7 @@ public class BeansDeployer
                 removeDisabledBeans();
                 
                 // We are finally done with our bean discovery
+                monitor.startPhase("afterBeanDiscovery");
                 fireAfterBeanDiscoveryEvent();
 
                 if (webBeansContext.getContextsService() instanceof AbstractContextsService acs)
@@ -326,7 +358,14 @@ public class BeansDeployer
                 // activate InjectionResolver cache now
                 webBeansContext.getBeanManagerImpl().getInjectionResolver().setStartup(false);
 
-                if (!skipValidations)
+                monitor.startPhase("validation");
+                boolean deferredValidation = !skipValidations && webBeansContext.getOpenWebBeansConfiguration().isDeferredValidation();
+                if (deferredValidation)
+                {
+                    // validated on first use and in the background once we are started
+                    webBeansContext.getDeferredValidation().enable(this::validateBean);
+                }
+                else if (!skipValidations)
                 {
                     validateAlternatives(beanAttributesPerBda);
 
@@ -384,6 +423,12 @@ public class BeansDeployer
                     });
                 }
 
+                if (webBeansContext.getOpenWebBeansConfiguration().isEagerProxyGeneration())
+                {
+                    monitor.startPhase("proxyGeneration");
+                    generateNormalScopeProxies();
+                }
+
                 if (webBeansContext.getNotificationManager().getObserverMethods().stream()
                         .anyMatch(ObserverMethod::isAsync))
                 {
@@ -393,14 +438,30 @@ public class BeansDeployer
                 }
 
                 // fire event
+                monitor.startPhase("afterDeploymentValidation");
                 fireAfterDeploymentValidationEvent();
-
+                webBeansContext.getBeanManagerImpl().deploymentDone();
 
                 // do some cleanup after the deployment
                 scanner.release();
                 webBeansContext.getAnnotatedElementFactory().clear();
                 webBeansContext.getNotificationManager().clearCaches();
                 webBeansContext.getAnnotationManager().clearCaches();
+
+                if (webBeansContext.getOpenWebBeansConfiguration().isWarmUp())
+                {
+                    monitor.startPhase("warmUp");
+                    warmUp();
+                }
+
+                if (deferredValidation)
+                {
+                    startDeferredValidation(beanAttributesPerBda);
+                }
+                else if (webBeansContext.getOpenWebBeansConfiguration().isReleaseDeploymentMetadata())
+                {
+                    releaseDeploymentMetadata();
+                }
             }
         }
         catch (UnsatisfiedResolutionException | UnproxyableResolutionException | AmbiguousResolutionException e)
@@ -421,6 +482,8 @@ public class BeansDeployer
             //if bootstrapping failed, it doesn't make sense to do it again
             //esp. because #addInternalBean might have been called already and would cause an exception in the next run
             deployed = true;
+
+            monitor.deploymentFinished();
         }
     }
 
@@ -475,71 +538,115 @@ public class BeansDeployer
         Map<BeanArchiveInformation, Map<AnnotatedType<?>, ExtendedBeanAttributes<?>>> beanAttributesPerBda
             = new HashMap<>();
 
-        for (Map.Entry<BeanArchiveInformation, List<AnnotatedType<?>>> atEntry : annotatedTypesPerBda.entrySet())
+        ForkJoinPool pool = webBeansContext.getOpenWebBeansConfiguration().isParallelDiscovery() ? newDeployerPool() : null;
+        try
         {
-            BeanArchiveInformation bdaInfo = atEntry.getKey();
-            List<AnnotatedType<?>> annotatedTypes = atEntry.getValue();
+            for (Map.Entry<BeanArchiveInformation, List<AnnotatedType<?>>> atEntry : annotatedTypesPerBda.entrySet())
+            {
+                BeanArchiveInformation bdaInfo = atEntry.getKey();
+                List<AnnotatedType<?>> annotatedTypes = atEntry.getValue();
 
-            boolean onlyScopedBeans = BeanDiscoveryMode.TRIM == bdaInfo.getBeanDiscoveryMode();
+                boolean onlyScopedBeans = BeanDiscoveryMode.TRIM == bdaInfo.getBeanDiscoveryMode();
 
-            Map<AnnotatedType<?>, ExtendedBeanAttributes<?>> bdaBeanAttributes = new IdentityHashMap<>(annotatedTypes.size());
-            Iterator<AnnotatedType<?>> iterator = annotatedTypes.iterator();
-            while (iterator.hasNext())
-            {
-                AnnotatedType<?> at = iterator.next();
-                Class beanClass = at.getJavaClass();
-                boolean isEjb = discoverEjb && EJBWebBeansConfigurator.isSessionBean(beanClass, webBeansContext);
-                try
+                // the expensive part has no side effect, let's compute it upfront in parallel
+                // and keep the events and the registration on this thread in the original order
+                PendingBeanAttributes[] pending = null;
+                if (pool != null && annotatedTypes.size() > 1)
+                {
+                    PendingBeanAttributes[] computed = new PendingBeanAttributes[annotatedTypes.size()];
+                    runInPool(pool, computed.length, i -> computed[i] = createBeanAttributes(annotatedTypes.get(i), onlyScopedBeans));
+                    pending = computed;
+                }
+
+                Map<AnnotatedType<?>, ExtendedBeanAttributes<?>> bdaBeanAttributes = new IdentityHashMap<>(annotatedTypes.size());
+                Iterator<AnnotatedType<?>> iterator = annotatedTypes.iterator();
+                int index = 0;
+                while (iterator.hasNext())
                 {
-                    if (isEjb || (ClassUtil.isConcrete(beanClass) || WebBeansUtil.isDecorator(at)) && isValidManagedBean(at))
+                    AnnotatedType<?> at = iterator.next();
+                    PendingBeanAttributes data = pending != null ? pending[index] : createBeanAttributes(at, onlyScopedBeans);
+                    index++;
+                    try
                     {
-                        BeanAttributesImpl beanAttributes = BeanAttributesBuilder.forContext(webBeansContext).newBeanAttibutes(at, onlyScopedBeans && !isEjb).build();
-                        if (beanAttributes != null &&
-                                (!beanAttributes.isAlternative() || isEnabledAlternative(at, beanAttributes.getStereotypes())))
+                        data.rethrow();
+                        if (data.valid)
                         {
-                            ProcessBeanAttributesImpl<?> processBeanAttributes
-                                = webBeansContext.getWebBeansUtil().fireProcessBeanAttributes(at, at.getJavaClass(), beanAttributes);
-                            if (processBeanAttributes != null)
+                            BeanAttributesImpl beanAttributes = data.beanAttributes;
+                            if (beanAttributes != null &&
+                                    (!beanAttributes.isAlternative() || isEnabledAlternative(at, beanAttributes.getStereotypes())))
                             {
-                                BeanAttributes<?> newBeanAttributes = processBeanAttributes.getAttributes();
-                                if (beanAttributes != newBeanAttributes)
+                                ProcessBeanAttributesImpl<?> processBeanAttributes
+                                    = webBeansContext.getWebBeansUtil().fireProcessBeanAttributes(at, at.getJavaClass(), beanAttributes);
+                                if (processBeanAttributes != null)
                                 {
-                                    // check stereotypes
-                                    for (Class<? extends Annotation> stereotype : newBeanAttributes.getStereotypes())
+                                    BeanAttributes<?> newBeanAttributes = processBeanAttributes.getAttributes();
+                                    if (beanAttributes != newBeanAttributes)
                                     {
-                                        if (!webBeansContext.getBeanManagerImpl().isStereotype((stereotype)))
+                                        // check stereotypes
+                                        for (Class<? extends Annotation> stereotype : newBeanAttributes.getStereotypes())
                                         {
-                                            throw new WebBeansConfigurationException("Custom BeanAttributes#getStereotypes() must only contain Stereotypes!");
+                                            if (!webBeansContext.getBeanManagerImpl().isStereotype((stereotype)))
+                                            {
+                                                throw new WebBeansConfigurationException("Custom BeanAttributes#getStereotypes() must only contain Stereotypes!");
+                                            }
                                         }
                                     }
-                                }
 
-                                bdaBeanAttributes.put(at, new ExtendedBeanAttributes(newBeanAttributes, isEjb, processBeanAttributes.isIgnoreFinalMethods()));
+                                    bdaBeanAttributes.put(at, new ExtendedBeanAttributes(newBeanAttributes, data.isEjb, processBeanAttributes.isIgnoreFinalMethods()));
+                                }
                             }
                         }
+                        else
+                        {
+                            iterator.remove();
+                        }
                     }
-                    else
+                    catch (NoClassDefFoundError | UnsatisfiedLinkError e)
                     {
-                        iterator.remove();
+                        logSkippedClass(at.getJavaClass(), e);
                     }
                 }
-                catch (NoClassDefFoundError ncdfe)
-                {
-                    logger.info("Skipping deployment of Class " + beanClass + " due to a NoClassDefFoundError: " + ncdfe.getMessage());
-                }
-                catch (UnsatisfiedLinkError ule)
-                {
-                    logger.info("Skipping deployment of Class " + beanClass + " due to a UnsatisfiedLinkError: " + ule.getMessage());
-                }
-            }
 
-            beanAttributesPerBda.put(bdaInfo, bdaBeanAttributes);
+                beanAttributesPerBda.put(bdaInfo, bdaBeanAttributes);
+            }
+        }
+        finally
+        {
+            if (pool != null)
+            {
+                pool.shutdown();
+            }
         }
 
 
         return beanAttributesPerBda;
     }
 
+    /**
+     * Runs the checks and creates the BeanAttributes of the given type without firing any event.
+     * Failures get captured to be rethrown when the type gets processed in the original order.
+     */
+    private PendingBeanAttributes createBeanAttributes(AnnotatedType<?> at, boolean onlyScopedBeans)
+    {
+        PendingBeanAttributes data = new PendingBeanAttributes();
+        try
+        {
+            Class beanClass = at.getJavaClass();
+            data.isEjb = discoverEjb && EJBWebBeansConfigurator.isSessionBean(beanClass, webBeansContext);
+            if (data.isEjb || (ClassUtil.isConcrete(beanClass) || WebBeansUtil.isDecorator(at)) && isValidManagedBean(at))
+            {
+                data.valid = true;
+                data.beanAttributes = BeanAttributesBuilder.forContext(webBeansContext).newBeanAttibutes(at, onlyScopedBeans && !data.isEjb).build();
+            }
+        }
+        catch (RuntimeException | Error e)
+        {
+            data.valid = true; // the error has to be reported, not the type silently removed
+            data.error = e;
+        }
+        return data;
+    }
+
     private boolean isEnabledAlternative(AnnotatedType<?> at, Set<Class<? extends Annotation>> stereotypes)
     {
         AlternativesManager alternativesManager = webBeansContext.getAlternativesManager();
@@ -683,7 +790,7 @@ public class BeansDeployer
      */
     private void removeDisabledBeans()
     {
-        webBeansContext.getBeanManagerImpl().getBeans().removeIf(bean -> !((OwbBean) bean).isEnabled());
+        webBeansContext.getBeanManagerImpl().removeBeans(bean -> !((OwbBean) bean).isEnabled());
     }
 
     private void registerAlternativesDecoratorsAndInterceptorsWithPriority(List<AnnotatedType<?>> annotatedTypes)
@@ -972,7 +1079,7 @@ public class BeansDeployer
     private boolean hasAlternativeProducerMethod(Class<?> alternativeClass)
     {
         // It's also ok if the class has an @Alternative producer method
-        List<Method> nonPrivateMethods = ClassUtil.getNonPrivateMethods(alternativeClass, true);
+        List<Method> nonPrivateMethods = webBeansContext.getClassMetadata().getNonPrivateMethods(alternativeClass, true, false);
         for (Method method : nonPrivateMethods)
         {
             if ((method.getAnnotation(Alternative.class) != null ||
@@ -1189,6 +1296,340 @@ public class BeansDeployer
         logger.info(OWBLogConst.INFO_0003);
     }
 
+    /**
+     * Drops the reflective member metadata of the AnnotatedTypes of all deployed beans.
+     * It only gets rebuilt if somebody asks for the members again at runtime.
+     * Types with members which are referenced by injection points, observer methods or producers
+     * are kept, otherwise {@link InjectionPoint#getAnnotated()} and friends would not be
+     * identical to the members of {@link AnnotatedType#getFields()} etc. anymore.
+     *
+     * @see OpenWebBeansConfiguration#RELEASE_DEPLOYMENT_METADATA
+     */
+    private void releaseDeploymentMetadata()
+    {
+        List<Bean<?>> beans = new ArrayList<>(webBeansContext.getBeanManagerImpl().getBeans());
+        beans.addAll(interceptorsManager.getCdiInterceptors());
+        beans.addAll(decoratorsManager.getDecorators());
+
+        Set<AnnotatedType<?>> referenced = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Bean<?> bean : beans)
+        {
+            addDeclaringTypes(referenced, bean.getInjectionPoints());
+            if (bean instanceof AbstractProducerBean)
+            {
+                InjectionTargetBean<?> owner = ((AbstractProducerBean<?>) bean).getOwnerComponent();
+                if (owner != null)
+                {
+                    referenced.add(owner.getAnnotatedType());
+                }
+            }
+        }
+        for (ObserverMethod<?> observerMethod : webBeansContext.getNotificationManager().getObserverMethods())
+        {
+            if (observerMethod instanceof ObserverMethodImpl)
+            {
+                ObserverMethodImpl<?> observer = (ObserverMethodImpl<?>) observerMethod;
+                referenced.add(observer.getObserverMethod().getDeclaringType());
+                addDeclaringTypes(referenced, observer.getInjectionPoints());
+            }
+        }
+
+        int released = 0;
+        for (Bean<?> bean : beans)
+        {
+            if (bean instanceof InjectionTargetBean)
+            {
+                AnnotatedType<?> annotatedType = ((InjectionTargetBean<?>) bean).getAnnotatedType();
+                if (annotatedType instanceof AnnotatedTypeImpl && ((AnnotatedTypeImpl<?>) annotatedType).releaseMemberMetadata(referenced))
+                {
+                    released++;
+                }
+            }
+        }
+
+        if (logger.isLoggable(Level.FINE))
+        {
+            logger.fine("Released the member metadata of " + released + " AnnotatedTypes after the deployment, kept "
+                + referenced.size() + " AnnotatedTypes with referenced members.");
+        }
+    }
+
+    private static void addDeclaringTypes(Set<AnnotatedType<?>> types, Set<InjectionPoint> injectionPoints)
+    {
+        for (InjectionPoint injectionPoint : injectionPoints)
+        {
+            Annotated annotated = injectionPoint.getAnnotated();
+            if (annotated instanceof AnnotatedParameter)
+            {
+                types.add(((AnnotatedParameter<?>) annotated).getDeclaringCallable().getDeclaringType());
+            }
+            else if (annotated instanceof AnnotatedMember)
+            {
+                types.add(((AnnotatedMember<?>) annotated).getDeclaringType());
+            }
+        }
+    }
+
+    /**
+     * Runs the validations which got skipped in the deployment in a background thread.
+     * Beans which already got validated on their first use are not validated again.
+     *
+     * @see DeferredValidation
+     */
+    private void startDeferredValidation(Map<BeanArchiveInformation, Map<AnnotatedType<?>, ExtendedBeanAttributes<?>>> beanAttributesPerBda)
+    {
+        DeferredValidation deferred = webBeansContext.getDeferredValidation();
+        deferred.start(() ->
+        {
+            deferred.check(() ->
+            {
+                decoratorsManager.validateDecoratorClasses();
+                interceptorsManager.validateInterceptorClasses();
+            });
+            deferred.check(() -> validate(decoratorsManager.getDecorators()));
+            deferred.check(() -> validate(interceptorsManager.getCdiInterceptors()));
+
+            Set<String> beanNames = new HashSet<>();
+            for (Bean<?> bean : new ArrayList<>(webBeansContext.getBeanManagerImpl().getBeans()))
+            {
+                if (deferred.isCancelled())
+                {
+                    return;
+                }
+                deferred.validate(bean);
+                if (bean.getName() != null
+                        && !(bean instanceof OwbBean && !((OwbBean<?>) bean).isEnabled())
+                        && !bean.getBeanClass().getName().startsWith(JAVAX_ENTERPRISE_PACKAGE))
+                {
+                    beanNames.add(bean.getName());
+                }
+            }
+            deferred.check(() -> validateBeanNames(beanNames));
+            deferred.check(() -> validateObservers(webBeansContext.getNotificationManager().getObserverMethods()));
+            deferred.check(this::validateDisposeParameters);
+            deferred.check(this::validateDecoratorDecoratedTypes);
+            deferred.check(this::validateDecoratorGenericTypes);
+            deferred.check(this::validateNames);
+            deferred.check(() -> validateAlternatives(beanAttributesPerBda));
+
+            if (deferred.isHealthy() && !deferred.isCancelled())
+            {
+                logger.info(OWBLogConst.INFO_0003);
+            }
+            if (!deferred.isCancelled() && webBeansContext.getOpenWebBeansConfiguration().isReleaseDeploymentMetadata())
+            {
+                releaseDeploymentMetadata();
+            }
+        }, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Generates the proxy classes of all normal scoped beans upfront so the first requests
+     * do not need to do it. Interceptor and decorator proxies got already generated while
+     * defining the interceptor stacks in the validation.
+     * Failures are ignored here, they will show up again when the proxy gets used.
+     */
+    private void generateNormalScopeProxies()
+    {
+        BeanManagerImpl beanManager = webBeansContext.getBeanManagerImpl();
+        NormalScopeProxyFactory proxyFactory = webBeansContext.getNormalScopeProxyFactory();
+        List<Bean<?>> normalScopedBeans = beanManager.getBeans().stream()
+                .filter(bean -> bean instanceof OwbBean && ((OwbBean<?>) bean).isEnabled())
+                .filter(bean -> !(bean instanceof EnterpriseBeanMarker))
+                .filter(bean -> beanManager.isNormalScope(bean.getScope()))
+                .collect(Collectors.toList());
+        if (normalScopedBeans.isEmpty())
+        {
+            return;
+        }
+
+        ForkJoinPool pool = newDeployerPool();
+        logger.fine(() -> "Generating the proxies of " + normalScopedBeans.size() + " normal scoped beans using "
+                + pool.getParallelism() + " threads");
+        try
+        {
+            pool.submit(() -> normalScopedBeans.parallelStream().forEach(bean ->
+            {
+                try
+                {
+                    proxyFactory.createProxyClass(bean);
+                }
+                catch (RuntimeException e)
+                {
+                    logger.log(Level.FINE, e, () -> "Can't generate the proxy of " + bean + ", will be retried lazily");
+                }
+            })).join();
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Walks the bean graph after the deployment to fill the runtime caches upfront:
+     * the resolution of all injection points and {@code Instance<>} types, the normal scoped proxies
+     * and the observers of the event types which got observed or injected via {@code Event<>}.
+     * Runs in parallel and stops after {@link OpenWebBeansConfiguration#WARM_UP_TIMEOUT} milliseconds.
+     * Failures are ignored here, they will show up again when the bean gets used.
+     */
+    private void warmUp()
+    {
+        long timeout = webBeansContext.getOpenWebBeansConfiguration().getWarmUpTimeout();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        BeanManagerImpl beanManager = webBeansContext.getBeanManagerImpl();
+        NotificationManager notificationManager = webBeansContext.getNotificationManager();
+
+        List<Bean<?>> beans = beanManager.getBeans().stream()
+                .filter(bean -> !(bean instanceof OwbBean) || ((OwbBean<?>) bean).isEnabled())
+                .collect(Collectors.toList());
+        beans.addAll(interceptorsManager.getCdiInterceptors());
+        beans.addAll(decoratorsManager.getDecorators());
+
+        List<InjectionPoint> injectionPoints = new ArrayList<>();
+        Set<Class<?>> eventClasses = ConcurrentHashMap.newKeySet();
+        for (ObserverMethod<?> observerMethod : notificationManager.getObserverMethods())
+        {
+            if (observerMethod instanceof ObserverMethodImpl)
+            {
+                injectionPoints.addAll(((ObserverMethodImpl<?>) observerMethod).getInjectionPoints());
+            }
+            addEventClass(eventClasses, observerMethod.getObservedType());
+        }
+
+        AtomicInteger skipped = new AtomicInteger();
+        Set<Bean<?>> running = ConcurrentHashMap.newKeySet();
+        ForkJoinPool pool = newDeployerPool();
+        try
+        {
+            pool.submit(() ->
+            {
+                beans.parallelStream().forEach(bean ->
+                {
+                    if (System.nanoTime() > deadline)
+                    {
+                        skipped.incrementAndGet();
+                        return;
+                    }
+                    running.add(bean);
+                    try
+                    {
+                        warmUp(bean, bean.getInjectionPoints(), eventClasses);
+                    }
+                    finally
+                    {
+                        running.remove(bean);
+                    }
+                });
+                warmUp(null, injectionPoints, eventClasses);
+                eventClasses.parallelStream()
+                        .filter(eventClass -> System.nanoTime() <= deadline)
+                        .forEach(notificationManager::warmUpObservers);
+            }).get(timeout, TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            logger.fine(() -> "The warm-up did not finish within " + timeout + " ms, the remaining beans get initialised lazily");
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e)
+        {
+            logger.log(Level.FINE, e.getCause(), () -> "The warm-up failed, the remaining beans get initialised lazily");
+        }
+        finally
+        {
+            shutdownWarmUp(pool, running);
+        }
+
+        if (skipped.get() > 0)
+        {
+            logger.fine(() -> "The warm-up skipped " + skipped.get() + " beans after " + timeout + " ms");
+        }
+    }
+
+    /**
+     * Interrupts the remaining warm-up tasks and gives them a moment to finish.
+     * Tasks which ignore the interruption keep running in the background and get logged.
+     */
+    private void shutdownWarmUp(ForkJoinPool pool, Set<Bean<?>> running)
+    {
+        pool.shutdownNow();
+        try
+        {
+            if (pool.awaitTermination(WARM_UP_TERMINATION_MILLIS, TimeUnit.MILLISECONDS))
+            {
+                return;
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        logger.warning(() -> "The warm-up still runs " + pool.getActiveThreadCount() + " tasks after its shutdown, beans in progress: " + running);
+    }
+
+    private void warmUp(Bean<?> bean, Collection<InjectionPoint> injectionPoints, Set<Class<?>> eventClasses)
+    {
+        BeanManagerImpl beanManager = webBeansContext.getBeanManagerImpl();
+        InjectionResolver injectionResolver = beanManager.getInjectionResolver();
+        for (InjectionPoint injectionPoint : injectionPoints)
+        {
+            if (injectionPoint.isDelegate())
+            {
+                continue;
+            }
+            try
+            {
+                Type type = injectionPoint.getType();
+                Class<?> rawType = ClassUtil.getClazz(type);
+                if ((rawType == Instance.class || rawType == Provider.class) && type instanceof ParameterizedType)
+                {
+                    injectionResolver.implResolveByType(false, ((ParameterizedType) type).getActualTypeArguments()[0],
+                            injectionPoint.getQualifiers().toArray(new Annotation[0]));
+                }
+                else if (rawType == Event.class && type instanceof ParameterizedType)
+                {
+                    addEventClass(eventClasses, ((ParameterizedType) type).getActualTypeArguments()[0]);
+                }
+                else
+                {
+                    injectionResolver.getInjectionPointBean(injectionPoint);
+                }
+            }
+            catch (RuntimeException e)
+            {
+                logger.log(Level.FINE, e, () -> "Can't resolve " + injectionPoint + " while warming up, will be retried lazily");
+            }
+        }
+
+        if (bean instanceof OwbBean && !(bean instanceof EnterpriseBeanMarker) && beanManager.isNormalScope(bean.getScope()))
+        {
+            try
+            {
+                beanManager.getReference(bean, null, beanManager.createCreationalContext(bean));
+            }
+            catch (RuntimeException e)
+            {
+                logger.log(Level.FINE, e, () -> "Can't create the proxy of " + bean + " while warming up, will be retried lazily");
+            }
+        }
+    }
+
+    private static void addEventClass(Set<Class<?>> eventClasses, Type eventType)
+    {
+        if (eventType instanceof Class)
+        {
+            Class<?> eventClass = (Class<?>) eventType;
+            if (!eventClass.isInterface() && !Modifier.isAbstract(eventClass.getModifiers()))
+            {
+                eventClasses.add(eventClass);
+            }
+        }
+    }
+
     private List<Collection<Bean<?>>> partition(Set<Bean<?>> beans, int numParts)
     {
         int beanSize = beans.size();
@@ -1222,7 +1663,7 @@ public class BeansDeployer
      * 
      * @param beans deployed beans
      */
-    private <T, B extends Bean<?>> void validate(Collection<B> beans)
+    private <B extends Bean<?>> void validate(Collection<B> beans)
     {
         webBeansContext.getBeanManagerImpl().getInjectionResolver().clearCaches();
 
@@ -1231,90 +1672,101 @@ public class BeansDeployer
             Set<String> beanNames = new HashSet<>(Math.min(beans.size(), 200));
             for (Bean<?> bean : beans)
             {
-                try
+                if (validateBean(bean))
                 {
-
-                    if (bean instanceof OwbBean && !((OwbBean) bean).isEnabled())
-                    {
-                        // we skip disabled beans
-                        continue;
-                    }
-
-                    //don't validate the cdi-api
-                    if (bean.getBeanClass().getName().startsWith(JAVAX_ENTERPRISE_PACKAGE))
-                    {
-                        if (BuiltInOwbBean.class.isInstance(bean))
-                        {
-                            Class<?> proxyable = BuiltInOwbBean.class.cast(bean).proxyableType();
-                            if (proxyable != null)
-                            {
-                                AbstractProducer producer = AbstractProducer.class.cast(OwbBean.class.cast(bean).getProducer());
-                                AnnotatedType<?> annotatedType = webBeansContext.getAnnotatedElementFactory().newAnnotatedType(proxyable);
-                                producer.defineInterceptorStack(bean, annotatedType, webBeansContext);
-                            }
-                        }
-                        continue;
-                    }
-
                     String beanName = bean.getName();
                     if (beanName != null)
                     {
                         beanNames.add(beanName);
                     }
+                }
+            }
+            //Validate Bean names
+            validateBeanNames(beanNames);
 
-                    if (bean instanceof OwbBean && !(bean instanceof Interceptor) && !(bean instanceof Decorator))
-                    {
-                        AbstractProducer<T> producer = null;
+            //Clear Names
+            beanNames.clear();
+        }
+        
+    }
 
-                        OwbBean<T> owbBean = (OwbBean<T>) bean;
-                        if (ManagedBean.class.isInstance(bean)) // in this case don't use producer which can be wrapped
-                        {
-                            producer = ManagedBean.class.cast(bean).getOriginalInjectionTarget();
-                        }
-                        if (producer == null && owbBean.getProducer() instanceof AbstractProducer)
-                        {
-                            producer = (AbstractProducer<T>) owbBean.getProducer();
-                        }
-                        if (producer != null)
-                        {
-                            AnnotatedType<T> annotatedType;
-                            if (owbBean instanceof InjectionTargetBean)
-                            {
-                                annotatedType = ((InjectionTargetBean<T>) owbBean).getAnnotatedType();
-                            }
-                            else
-                            {
-                                annotatedType = webBeansContext.getAnnotatedElementFactory().newAnnotatedType(owbBean.getReturnType());
-                            }
-                            producer.defineInterceptorStack(owbBean, annotatedType, webBeansContext);
-                        }
-                    }
+    /**
+     * Defines the interceptor stack of the bean and validates its injection points and passivation constraints.
+     *
+     * @return {@code false} if the bean got skipped because it is disabled or part of the CDI API
+     */
+    private <T> boolean validateBean(Bean<?> bean)
+    {
+        try
+        {
 
-                    //Bean injection points
-                    Set<InjectionPoint> injectionPoints = bean.getInjectionPoints();
+            if (bean instanceof OwbBean && !((OwbBean) bean).isEnabled())
+            {
+                // we skip disabled beans
+                return false;
+            }
 
-                    //Check injection points
-                    if (injectionPoints != null)
+            //don't validate the cdi-api
+            if (bean.getBeanClass().getName().startsWith(JAVAX_ENTERPRISE_PACKAGE))
+            {
+                if (BuiltInOwbBean.class.isInstance(bean))
+                {
+                    Class<?> proxyable = BuiltInOwbBean.class.cast(bean).proxyableType();
+                    if (proxyable != null)
                     {
-                        webBeansContext.getWebBeansUtil().validate(injectionPoints, bean);
+                        AbstractProducer producer = AbstractProducer.class.cast(OwbBean.class.cast(bean).getProducer());
+                        AnnotatedType<?> annotatedType = webBeansContext.getAnnotatedElementFactory().newAnnotatedType(proxyable);
+                        producer.defineInterceptorStack(bean, annotatedType, webBeansContext);
                     }
+                }
+                return false;
+            }
 
-                    //Check passivation scope
-                    checkPassivationScope(bean);
+            if (bean instanceof OwbBean && !(bean instanceof Interceptor) && !(bean instanceof Decorator))
+            {
+                AbstractProducer<T> producer = null;
+
+                OwbBean<T> owbBean = (OwbBean<T>) bean;
+                if (ManagedBean.class.isInstance(bean)) // in this case don't use producer which can be wrapped
+                {
+                    producer = ManagedBean.class.cast(bean).getOriginalInjectionTarget();
                 }
-                catch (RuntimeException e)
+                if (producer == null && owbBean.getProducer() instanceof AbstractProducer)
                 {
-                    throw ExceptionUtil.addInformation(e, "Problem while validating bean " + bean);
+                    producer = (AbstractProducer<T>) owbBean.getProducer();
                 }
+                if (producer != null)
+                {
+                    AnnotatedType<T> annotatedType;
+                    if (owbBean instanceof InjectionTargetBean)
+                    {
+                        annotatedType = ((InjectionTargetBean<T>) owbBean).getAnnotatedType();
+                    }
+                    else
+                    {
+                        annotatedType = webBeansContext.getAnnotatedElementFactory().newAnnotatedType(owbBean.getReturnType());
+                    }
+                    producer.defineInterceptorStack(owbBean, annotatedType, webBeansContext);
+                }
+            }
+
+            //Bean injection points
+            Set<InjectionPoint> injectionPoints = bean.getInjectionPoints();
 
+            //Check injection points
+            if (injectionPoints != null)
+            {
+                webBeansContext.getWebBeansUtil().validate(injectionPoints, bean);
             }
-            //Validate Bean names
-            validateBeanNames(beanNames);
 
-            //Clear Names
-            beanNames.clear();
+            //Check passivation scope
+            checkPassivationScope(bean);
+            return true;
+        }
+        catch (RuntimeException e)
+        {
+            throw ExceptionUtil.addInformation(e, "Problem while validating bean " + bean);
         }
-        
     }
     
     private void validateObservers(Collection<ObserverMethod<?>> observerMethods)
@@ -1383,39 +1835,59 @@ public class BeansDeployer
         Map<BeanArchiveInformation, List<AnnotatedType<?>>> annotatedTypesPerBda
             = new HashMap<>();
 
-        if (scanner instanceof BdaScannerService)
+        ForkJoinPool pool = webBeansContext.getOpenWebBeansConfiguration().isParallelDiscovery() ? newDeployerPool() : null;
+        try
         {
-            Map<BeanArchiveInformation, Set<Class<?>>> beanClassesPerBda = ((BdaScannerService) scanner).getBeanClassesPerBda();
-
-            for (Map.Entry<BeanArchiveInformation, Set<Class<?>>> bdaEntry : beanClassesPerBda.entrySet())
+            if (scanner instanceof BdaScannerService)
             {
-                List<AnnotatedType<?>> annotatedTypes = annotatedTypesFromBdaClassPath(bdaEntry.getValue(), foundClasses);
-                annotatedTypesPerBda.put(bdaEntry.getKey(), annotatedTypes);
+                Map<BeanArchiveInformation, Set<Class<?>>> beanClassesPerBda = ((BdaScannerService) scanner).getBeanClassesPerBda();
+
+                for (Map.Entry<BeanArchiveInformation, Set<Class<?>>> bdaEntry : beanClassesPerBda.entrySet())
+                {
+                    List<AnnotatedType<?>> annotatedTypes = annotatedTypesFromBdaClassPath(bdaEntry.getValue(), foundClasses, pool);
+                    annotatedTypesPerBda.put(bdaEntry.getKey(), annotatedTypes);
+                    webBeansContext.getBootstrapMonitor().beanArchive(bdaEntry.getKey().getBdaUrl(), annotatedTypes.size());
+                }
+
+                // also add the rest of the class es to the default bda
+                // we also need this initialised in case annotatedTypes get added manually at a later step
+                annotatedTypesPerBda.put(defaultBeanArchiveInformation, annotatedTypesFromBdaClassPath(scanner.getBeanClasses(), foundClasses, pool));
             }
+            else
+            {
+                // this path is only for backward compat to older ScannerService implementations
 
-            // also add the rest of the class es to the default bda
-            // we also need this initialised in case annotatedTypes get added manually at a later step
-            annotatedTypesPerBda.put(defaultBeanArchiveInformation, annotatedTypesFromBdaClassPath(scanner.getBeanClasses(), foundClasses));
+                Set<Class<?>> classIndex = scanner.getBeanClasses();
+                List<AnnotatedType<?>> annotatedTypes = annotatedTypesFromBdaClassPath(classIndex, foundClasses, pool);
+
+                annotatedTypesPerBda.put(defaultBeanArchiveInformation, annotatedTypes);
+            }
         }
-        else
+        finally
         {
-            // this path is only for backward compat to older ScannerService implementations
-
-            Set<Class<?>> classIndex = scanner.getBeanClasses();
-            List<AnnotatedType<?>> annotatedTypes = annotatedTypesFromBdaClassPath(classIndex, foundClasses);
-
-            annotatedTypesPerBda.put(defaultBeanArchiveInformation, annotatedTypes);
+            if (pool != null)
+            {
+                pool.shutdown();
+            }
         }
 
+        List<AnnotatedType<?>> defaultAnnotatedTypes = annotatedTypesPerBda.get(defaultBeanArchiveInformation);
+        webBeansContext.getBootstrapMonitor().beanArchive(defaultBeanArchiveInformation.getBdaUrl(), defaultAnnotatedTypes.size());
 
         return annotatedTypesPerBda;
     }
 
     /**
      * @param foundClasses classes which already got processed. To prevent picking up the same class from multiple classpaths
+     * @param pool if not {@code null} the AnnotatedTypes get created in parallel on this pool
      */
-    private List<AnnotatedType<?>> annotatedTypesFromBdaClassPath(Set<Class<?>> classIndex, Set<Class<?>> foundClasses)
+    private List<AnnotatedType<?>> annotatedTypesFromBdaClassPath(Set<Class<?>> classIndex, Set<Class<?>> foundClasses, ForkJoinPool pool)
     {
+        if (pool != null && classIndex != null && classIndex.size() > 1)
+        {
+            return annotatedTypesFromBdaClassPathInParallel(classIndex, foundClasses, pool);
+        }
+
         List<AnnotatedType<?>> annotatedTypes = new ArrayList<>();
 
         //Iterating over each class
@@ -1440,67 +1912,271 @@ public class BeansDeployer
                     {
                         if (isEEComponent(implClass))
                         {
-                            // fire injection point events and forget
-                            AnnotatedType<?> annotatedType = annotatedElementFactory.newAnnotatedType(implClass);
-                            InjectionTarget<?> it = webBeansContext.getBeanManagerImpl().createInjectionTarget(annotatedType);
-                            for (InjectionPoint ip : it.getInjectionPoints())
-                            {
-                                webBeansContext.getWebBeansUtil().fireProcessInjectionPointEvent(ip);
-                            }
+                            fireInjectionPointEventsOfVetoedType(implClass);
                         }
                         continue;
                     }
 
-                    //Define annotation type
-                    AnnotatedType<?> annotatedType = annotatedElementFactory.getAnnotatedType(implClass);
-                    if (annotatedType == null) // mean no annotation created it (normal case)
+                    AnnotatedType<?> annotatedType = createAnnotatedType(annotatedElementFactory, implClass);
+                    if (annotatedType != null)
                     {
-                        annotatedType = annotatedElementFactory.newAnnotatedType(implClass);
+                        annotatedType = processAnnotatedType(annotatedType, hasPATObserver);
+                        if (annotatedType != null)
+                        {
+                            annotatedTypes.add(annotatedType);
+                        }
                     }
+                }
+                catch (NoClassDefFoundError | UnsatisfiedLinkError e)
+                {
+                    logSkippedClass(implClass, e);
+                }
+            }
+        }
 
-                    if (annotatedType == null)
-                    {
-                        logger.info("Could not create AnnotatedType for class " + implClass);
-                        continue;
-                    }
+        return annotatedTypes;
+    }
 
-                    // trigger a NoClassDefFoundError here, otherwise it would be thrown in observer methods
-                    Class<?> javaClass = annotatedType.getJavaClass();
-                    if (!skipNoClassDefFoundTriggers)
-                    {
-                        javaClass.getDeclaredMethods();
-                        javaClass.getDeclaredFields();
-                    }
+    /**
+     * Same as the sequential discovery but the AnnotatedTypes get created concurrently.
+     * ProcessAnnotatedType only gets fired concurrently if all its observers are thread safe.
+     * The result keeps the iteration order of the classIndex.
+     */
+    private List<AnnotatedType<?>> annotatedTypesFromBdaClassPathInParallel(Set<Class<?>> classIndex, Set<Class<?>> foundClasses,
+                                                                           ForkJoinPool pool)
+    {
+        List<Class<?>> candidates = new ArrayList<>(classIndex.size());
+        for (Class<?> implClass : classIndex)
+        {
+            try
+            {
+                if (foundClasses.contains(implClass) || implClass.isAnonymousClass() ||
+                        Modifier.isPrivate(implClass.getModifiers() /* likely inner class */))
+                {
+                    continue;
+                }
+                foundClasses.add(implClass);
+                candidates.add(implClass);
+            }
+            catch (NoClassDefFoundError | UnsatisfiedLinkError e)
+            {
+                logSkippedClass(implClass, e);
+            }
+        }
 
-                    // Fires ProcessAnnotatedType
-                    if (hasPATObserver && !javaClass.isAnnotation())
-                    {
-                        GProcessAnnotatedType processAnnotatedEvent = webBeansContext.getWebBeansUtil().fireProcessAnnotatedTypeEvent(annotatedType);
-                        if (!processAnnotatedEvent.isVeto())
-                        {
-                            annotatedTypes.add(processAnnotatedEvent.getAnnotatedType());
-                        }
-                        processAnnotatedEvent.setStarted();
-                    }
-                    else
-                    {
-                        annotatedTypes.add(annotatedType);
-                    }
+        AnnotatedElementFactory annotatedElementFactory = webBeansContext.getAnnotatedElementFactory();
+        Object[] discovered = new Object[candidates.size()];
+        runInPool(pool, candidates.size(), i ->
+        {
+            Class<?> implClass = candidates.get(i);
+            try
+            {
+                if (isVetoed(implClass))
+                {
+                    discovered[i] = isEEComponent(implClass) ? implClass : null;
                 }
-                catch (NoClassDefFoundError ncdfe)
+                else
                 {
-                    logger.info("Skipping deployment of Class " + implClass + " due to a NoClassDefFoundError: " + ncdfe.getMessage());
+                    discovered[i] = createAnnotatedType(annotatedElementFactory, implClass);
                 }
-                catch (UnsatisfiedLinkError ule)
+            }
+            catch (NoClassDefFoundError | UnsatisfiedLinkError e)
+            {
+                discovered[i] = e;
+            }
+        });
+
+        // vetoed EE components and errors get handled on the deploying thread in the original order
+        for (int i = 0; i < discovered.length; i++)
+        {
+            if (discovered[i] instanceof Class)
+            {
+                try
+                {
+                    fireInjectionPointEventsOfVetoedType(candidates.get(i));
+                }
+                catch (NoClassDefFoundError | UnsatisfiedLinkError e)
+                {
+                    logSkippedClass(candidates.get(i), e);
+                }
+                discovered[i] = null;
+            }
+            else if (discovered[i] instanceof LinkageError)
+            {
+                logSkippedClass(candidates.get(i), (LinkageError) discovered[i]);
+                discovered[i] = null;
+            }
+        }
+
+        NotificationManager notificationManager = webBeansContext.getNotificationManager();
+        boolean hasPATObserver = notificationManager.hasProcessAnnotatedTypeObservers();
+        IntConsumer processor = i ->
+        {
+            if (discovered[i] != null)
+            {
+                try
+                {
+                    discovered[i] = processAnnotatedType((AnnotatedType<?>) discovered[i], hasPATObserver);
+                }
+                catch (NoClassDefFoundError | UnsatisfiedLinkError e)
                 {
-                    logger.info("Skipping deployment of Class " + implClass + " due to a UnsatisfiedLinkError: " + ule.getMessage());
+                    logSkippedClass(candidates.get(i), e);
+                    discovered[i] = null;
                 }
             }
+        };
+        if (hasPATObserver && notificationManager.hasThreadSafeProcessAnnotatedTypeObservers())
+        {
+            runInPool(pool, discovered.length, processor);
+        }
+        else
+        {
+            for (int i = 0; i < discovered.length; i++)
+            {
+                processor.accept(i);
+            }
         }
 
+        List<AnnotatedType<?>> annotatedTypes = new ArrayList<>(discovered.length);
+        for (Object annotatedType : discovered)
+        {
+            if (annotatedType != null)
+            {
+                annotatedTypes.add((AnnotatedType<?>) annotatedType);
+            }
+        }
         return annotatedTypes;
     }
 
+    /**
+     * @return the AnnotatedType of the given class or {@code null} if it can't get created
+     */
+    private AnnotatedType<?> createAnnotatedType(AnnotatedElementFactory annotatedElementFactory, Class<?> implClass)
+    {
+        BootstrapMonitor monitor = webBeansContext.getBootstrapMonitor();
+        long start = monitor.isReporting() ? System.nanoTime() : 0;
+        try
+        {
+            return doCreateAnnotatedType(annotatedElementFactory, implClass);
+        }
+        finally
+        {
+            if (start != 0)
+            {
+                monitor.annotatedType(implClass, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private AnnotatedType<?> doCreateAnnotatedType(AnnotatedElementFactory annotatedElementFactory, Class<?> implClass)
+    {
+        //Define annotation type
+        AnnotatedType<?> annotatedType = annotatedElementFactory.getAnnotatedType(implClass);
+        if (annotatedType == null) // mean no annotation created it (normal case)
+        {
+            annotatedType = annotatedElementFactory.newAnnotatedType(implClass);
+        }
+
+        if (annotatedType == null)
+        {
+            logger.info("Could not create AnnotatedType for class " + implClass);
+            return null;
+        }
+
+        // trigger a NoClassDefFoundError here, otherwise it would be thrown in observer methods
+        Class<?> javaClass = annotatedType.getJavaClass();
+        if (!skipNoClassDefFoundTriggers)
+        {
+            javaClass.getDeclaredMethods();
+            javaClass.getDeclaredFields();
+        }
+        return annotatedType;
+    }
+
+    /**
+     * Fires ProcessAnnotatedType if needed.
+     * @return the AnnotatedType to deploy or {@code null} if it got vetoed
+     */
+    private AnnotatedType<?> processAnnotatedType(AnnotatedType<?> annotatedType, boolean hasPATObserver)
+    {
+        if (hasPATObserver && !annotatedType.getJavaClass().isAnnotation())
+        {
+            BootstrapMonitor monitor = webBeansContext.getBootstrapMonitor();
+            long start = monitor.isReporting() ? System.nanoTime() : 0;
+            GProcessAnnotatedType processAnnotatedEvent = webBeansContext.getWebBeansUtil().fireProcessAnnotatedTypeEvent(annotatedType);
+            AnnotatedType<?> processed = processAnnotatedEvent.isVeto() ? null : processAnnotatedEvent.getAnnotatedType();
+            processAnnotatedEvent.setStarted();
+            if (start != 0)
+            {
+                monitor.annotatedType(annotatedType.getJavaClass(), System.nanoTime() - start);
+            }
+            return processed;
+        }
+        return annotatedType;
+    }
+
+    private void fireInjectionPointEventsOfVetoedType(Class<?> implClass)
+    {
+        // fire injection point events and forget
+        AnnotatedType<?> annotatedType = webBeansContext.getAnnotatedElementFactory().newAnnotatedType(implClass);
+        InjectionTarget<?> it = webBeansContext.getBeanManagerImpl().createInjectionTarget(annotatedType);
+        for (InjectionPoint ip : it.getInjectionPoints())
+        {
+            webBeansContext.getWebBeansUtil().fireProcessInjectionPointEvent(ip);
+        }
+    }
+
+    private void logSkippedClass(Class<?> implClass, LinkageError error)
+    {
+        logger.info("Skipping deployment of Class " + implClass + " due to a " + error.getClass().getSimpleName() + ": " + error.getMessage());
+    }
+
+    /**
+     * A pool for the parallel deployment phases, using at most {@link OpenWebBeansConfiguration#BEANS_DEPLOYER_MAX_THREADS} threads.
+     * The threads use the ClassLoader of the deploying thread to find the right WebBeansContext.
+     */
+    private ForkJoinPool newDeployerPool()
+    {
+        int numThreads = Math.min(Runtime.getRuntime().availableProcessors(),
+                webBeansContext.getOpenWebBeansConfiguration().getBeanDeployerMaxThreads());
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(Math.max(1, numThreads), pool ->
+        {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(loader);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Runs the task for the indices {@code [0, size)} on the given pool and rethrows the first failure as it is.
+     */
+    private void runInPool(ForkJoinPool pool, int size, IntConsumer task)
+    {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        pool.submit(() -> IntStream.range(0, size).parallel().forEach(i ->
+        {
+            try
+            {
+                task.accept(i);
+            }
+            catch (RuntimeException | Error e)
+            {
+                failure.compareAndSet(null, e);
+            }
+        })).join();
+
+        Throwable throwable = failure.get();
+        if (throwable instanceof RuntimeException)
+        {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error)
+        {
+            throw (Error) throwable;
+        }
+    }
+
     private boolean isEEComponent(Class<?> impl)
     {
         OpenWebBeansJavaEEPlugin eePlugin = webBeansContext.getPluginLoader().getJavaEEPlugin();
@@ -1639,6 +2315,7 @@ public class BeansDeployer
         logger.fine("Deploying configurations from class files has started.");
 
         BeanManagerImpl bm = webBeansContext.getBeanManagerImpl();
+        BootstrapMonitor monitor = webBeansContext.getBootstrapMonitor();
         for (Map<AnnotatedType<?>, ExtendedBeanAttributes<?>> beanAttributesMap : beanAttributesPerBda.values())
         {
 
@@ -1651,6 +2328,7 @@ public class BeansDeployer
                 {
                     continue;
                 }
+                long start = monitor.isReporting() ? System.nanoTime() : 0;
                 try
                 {
                     deploySingleAnnotatedType(key, annotatedType.getValue(), beanAttributesMap);
@@ -1664,6 +2342,11 @@ public class BeansDeployer
                     logger.info("Skipping deployment of Class " + key.getJavaClass() + " due to a UnsatisfiedLinkError: " + ule.getMessage());
                 }
 
+                if (start != 0)
+                {
+                    monitor.bean(key.getJavaClass(), System.nanoTime() - start);
+                }
+
                 // if the implClass already gets processed as part of the
                 // standard BDA scanning, then we don't need to 'additionally'
                 // deploy it anymore.
@@ -2238,6 +2921,26 @@ public class BeansDeployer
         webBeansContext.getWebBeansUtil().setInjectionTargetBeanEnableFlag(bean);
     }
 
+    private static final class PendingBeanAttributes
+    {
+        private boolean isEjb;
+        private boolean valid;
+        private BeanAttributesImpl<?> beanAttributes;
+        private Throwable error;
+
+        private void rethrow()
+        {
+            if (error instanceof RuntimeException)
+            {
+                throw (RuntimeException) error;
+            }
+            if (error instanceof Error)
+            {
+                throw (Error) error;
+            }
+        }
+    }
+
     public static class ExtendedBeanAttributes<T>
     {
         private final BeanAttributes<T> beanAttributes;
@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.apache.webbeans.event.ObserverMethodImpl;
+import org.apache.webbeans.jfr.JfrEvents;
+import org.apache.webbeans.jfr.JfrSupport;
+import org.apache.webbeans.logger.WebBeansLoggerFacade;
+
+/**
+ * Measures the container bootstrap.
+ *
+ * <p>Each deployment phase and each invocation of an Extension observer can get emitted as JFR event
+ * (see {@link org.apache.webbeans.jfr.BootstrapPhaseEvent} and {@link org.apache.webbeans.jfr.ExtensionObserverEvent}).
+ * Optionally a report with the wall time of each phase, the time spent in each Extension, the number of
+ * AnnotatedTypes per bean archive and the slowest AnnotatedTypes and beans gets logged or written to a file
+ * at the end of the deployment.</p>
+ *
+ * @see OpenWebBeansConfiguration#BOOTSTRAP_REPORT
+ * @see OpenWebBeansConfiguration#BOOTSTRAP_JFR_EVENTS
+ */
+public class BootstrapMonitor
+{
+    private static final Logger logger = WebBeansLoggerFacade.getLogger(BootstrapMonitor.class);
+
+    public enum ReportFormat
+    {
+        NONE, TEXT, JSON
+    }
+
+    private final ReportFormat format;
+    private final String reportFile;
+    private final int top;
+    private final boolean jfr;
+
+    private volatile boolean reporting;
+    private long startNanos;
+    private String currentPhase;
+    private long currentPhaseStart;
+    private Object currentPhaseEvent;
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Timing> extensions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> beanArchives = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> annotatedTypes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> beans = new ConcurrentHashMap<>();
+
+    public BootstrapMonitor(OpenWebBeansConfiguration configuration)
+    {
+        format = configuration.getBootstrapReportFormat();
+        reportFile = configuration.getProperty(OpenWebBeansConfiguration.BOOTSTRAP_REPORT_FILE);
+        top = configuration.getBootstrapReportTop();
+        jfr = JfrSupport.AVAILABLE && configuration.isBootstrapJfrEvents();
+        reporting = format != ReportFormat.NONE;
+    }
+
+    /**
+     * @return {@code true} if the per type and per bean timings get collected for the report
+     */
+    public boolean isReporting()
+    {
+        return reporting;
+    }
+
+    /**
+     * Ends the current phase, if any, and starts the given one.
+     */
+    public synchronized void startPhase(String phase)
+    {
+        endPhase();
+        if (!reporting && !jfr)
+        {
+            return;
+        }
+        long now = System.nanoTime();
+        if (startNanos == 0)
+        {
+            startNanos = now;
+        }
+        currentPhase = phase;
+        currentPhaseStart = now;
+        currentPhaseEvent = jfr ? JfrEvents.beginPhase(phase) : null;
+    }
+
+    public synchronized void endPhase()
+    {
+        if (currentPhase == null)
+        {
+            return;
+        }
+        if (jfr)
+        {
+            JfrEvents.commit(currentPhaseEvent);
+        }
+        if (reporting)
+        {
+            phases.merge(currentPhase, System.nanoTime() - currentPhaseStart, Long::sum);
+        }
+        currentPhase = null;
+        currentPhaseEvent = null;
+    }
+
+    /**
+     * @return a token to pass to {@link #afterExtensionObserver(ObserverMethod, Object)} or {@code null} if nothing gets measured
+     */
+    public Object beforeExtensionObserver(ObserverMethod<?> observer, Object event)
+    {
+        if (!reporting && !jfr)
+        {
+            return null;
+        }
+        Object jfrEvent = jfr
+                ? JfrEvents.beginExtensionObserver(observer.getBeanClass().getName(), event.getClass().getName(), observerName(observer))
+                : null;
+        return new ObserverInvocation(reporting ? System.nanoTime() : 0, jfrEvent);
+    }
+
+    public void afterExtensionObserver(ObserverMethod<?> observer, Object token)
+    {
+        if (token == null)
+        {
+            return;
+        }
+        ObserverInvocation invocation = (ObserverInvocation) token;
+        if (invocation.jfrEvent != null)
+        {
+            JfrEvents.commit(invocation.jfrEvent);
+        }
+        if (reporting && invocation.start != 0)
+        {
+            Timing timing = extensions.computeIfAbsent(observer.getBeanClass().getName(), k -> new Timing());
+            timing.nanos.add(System.nanoTime() - invocation.start);
+            timing.invocations.increment();
+        }
+    }
+
+    public void beanArchive(String beanArchive, int annotatedTypeCount)
+    {
+        if (reporting)
+        {
+            beanArchives.merge(beanArchive, annotatedTypeCount, Integer::sum);
+        }
+    }
+
+    /**
+     * Adds the given time to the creation and processing time of an AnnotatedType.
+     */
+    public void annotatedType(Class<?> type, long nanos)
+    {
+        if (reporting)
+        {
+            annotatedTypes.computeIfAbsent(type.getName(), k -> new LongAdder()).add(nanos);
+        }
+    }
+
+    /**
+     * Adds the given time to the definition time of the beans of a class.
+     */
+    public void bean(Class<?> type, long nanos)
+    {
+        if (reporting)
+        {
+            beans.computeIfAbsent(type.getName(), k -> new LongAdder()).add(nanos);
+        }
+    }
+
+    /**
+     * Ends the last phase and publishes the report if enabled.
+     * Afterwards only JFR events get emitted anymore.
+     */
+    public synchronized void deploymentFinished()
+    {
+        endPhase();
+        if (!reporting)
+        {
+            return;
+        }
+        String report = createReport();
+        reporting = false;
+        phases.clear();
+        extensions.clear();
+        beanArchives.clear();
+        annotatedTypes.clear();
+        beans.clear();
+
+        if (reportFile != null && !reportFile.trim().isEmpty())
+        {
+            Path path = Paths.get(reportFile.trim());
+            try
+            {
+                if (path.getParent() != null)
+                {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.write(path, report.getBytes(StandardCharsets.UTF_8));
+            }
+            catch (IOException e)
+            {
+                logger.log(Level.WARNING, "Can't write the bootstrap report to " + path, e);
+            }
+        }
+        else
+        {
+            logger.info(report);
+        }
+    }
+
+    public synchronized String createReport()
+    {
+        long total = startNanos == 0 ? 0 : System.nanoTime() - startNanos;
+        List<Map.Entry<String, Timing>> extensionTimings = extensions.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Timing> e) -> e.getValue().nanos.sum()).reversed())
+                .collect(Collectors.toList());
+        Map<String, Integer> archives = new LinkedHashMap<>();
+        beanArchives.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> archives.put(e.getKey(), e.getValue()));
+        List<Measure> slowestTypes = slowest(annotatedTypes);
+        List<Measure> slowestBeans = slowest(beans);
+
+        if (format == ReportFormat.JSON)
+        {
+            StringBuilder json = new StringBuilder("{\"totalMs\":").append(ms(total));
+            json.append(",\"phases\":[");
+            appendJson(json, phases.entrySet().stream()
+                    .map(e -> "{\"name\":" + quote(e.getKey()) + ",\"ms\":" + ms(e.getValue()) + "}")
+                    .collect(Collectors.toList()));
+            json.append("],\"extensions\":[");
+            appendJson(json, extensionTimings.stream()
+                    .map(e -> "{\"extension\":" + quote(e.getKey()) + ",\"ms\":" + ms(e.getValue().nanos.sum())
+                            + ",\"invocations\":" + e.getValue().invocations.sum() + "}")
+                    .collect(Collectors.toList()));
+            json.append("],\"beanArchives\":[");
+            appendJson(json, archives.entrySet().stream()
+                    .map(e -> "{\"url\":" + quote(e.getKey()) + ",\"annotatedTypes\":" + e.getValue() + "}")
+                    .collect(Collectors.toList()));
+            json.append("],\"slowestAnnotatedTypes\":[");
+            appendJson(json, slowestTypes.stream().map(Measure::toJson).collect(Collectors.toList()));
+            json.append("],\"slowestBeans\":[");
+            appendJson(json, slowestBeans.stream().map(Measure::toJson).collect(Collectors.toList()));
+            return json.append("]}").toString();
+        }
+
+        StringBuilder text = new StringBuilder("OpenWebBeans bootstrap report, total ").append(ms(total)).append(" ms\n");
+        text.append("Phases:\n");
+        phases.forEach((name, nanos) -> text.append("  ").append(name).append(": ").append(ms(nanos)).append(" ms\n"));
+        text.append("Extensions:\n");
+        extensionTimings.forEach(e -> text.append("  ").append(e.getKey()).append(": ").append(ms(e.getValue().nanos.sum()))
+                .append(" ms, ").append(e.getValue().invocations.sum()).append(" invocations\n"));
+        text.append("Bean archives:\n");
+        archives.forEach((url, count) -> text.append("  ").append(url).append(": ").append(count).append(" annotated types\n"));
+        text.append("Slowest annotated types:\n");
+        slowestTypes.forEach(m -> text.append("  ").append(m.name).append(": ").append(ms(m.nanos)).append(" ms\n"));
+        text.append("Slowest beans:\n");
+        slowestBeans.forEach(m -> text.append("  ").append(m.name).append(": ").append(ms(m.nanos)).append(" ms\n"));
+        return text.toString();
+    }
+
+    private List<Measure> slowest(Map<String, LongAdder> measures)
+    {
+        return measures.entrySet().stream()
+                .map(e -> new Measure(e.getKey(), e.getValue().sum()))
+                .sorted(Comparator.comparingLong((Measure m) -> m.nanos).reversed())
+                .limit(top)
+                .collect(Collectors.toList());
+    }
+
+    private static void appendJson(StringBuilder json, List<String> items)
+    {
+        json.append(String.join(",", items));
+    }
+
+    private static String ms(long nanos)
+    {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String quote(String value)
+    {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray())
+        {
+            if (c == '"' || c == '\\')
+            {
+                quoted.append('\\').append(c);
+            }
+            else if (c < 0x20)
+            {
+                quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            }
+            else
+            {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * @return the declaring class and method name of an observer method, or the observer class for custom ones
+     */
+    public static String observerName(ObserverMethod<?> observer)
+    {
+        if (observer instanceof ObserverMethodImpl)
+        {
+            return observer.getBeanClass().getName() + '#'
+                    + ((ObserverMethodImpl<?>) observer).getObserverMethod().getJavaMember().getName();
+        }
+        return observer.getClass().getName();
+    }
+
+    private static final class Timing
+    {
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder invocations = new LongAdder();
+    }
+
+    private static final class Measure
+    {
+        private final String name;
+        private final long nanos;
+
+        private Measure(String name, long nanos)
+        {
+            this.name = name;
+            this.nanos = nanos;
+        }
+
+        private String toJson()
+        {
+            return "{\"name\":" + quote(name) + ",\"ms\":" + ms(nanos) + "}";
+        }
+    }
+
+    private static final class ObserverInvocation
+    {
+        private final long start;
+        private final Object jfrEvent;
+
+        private ObserverInvocation(long start, Object jfrEvent)
+        {
+            this.start = start;
+            this.jfrEvent = jfrEvent;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.apache.webbeans.exception.WebBeansDeploymentException;
+import org.apache.webbeans.logger.WebBeansLoggerFacade;
+
+/**
+ * Health of the deployment validation if it runs deferred.
+ *
+ * <p>With {@link OpenWebBeansConfiguration#DEFERRED_VALIDATION} the container starts without validating the
+ * injection points, decorators, names and passivation constraints. The full validation then runs in a background
+ * thread. A bean which gets used before the background validation reached it gets validated synchronously
+ * by the using thread. Each bean gets validated only once, a broken bean keeps failing on each use.</p>
+ *
+ * <p>Failures don't fail the deployment, they get logged and are available via {@link #getFailures()}.
+ * Health checks should use {@link #getState()} or {@link #isHealthy()}.</p>
+ */
+public class DeferredValidation
+{
+    private static final Logger logger = WebBeansLoggerFacade.getLogger(DeferredValidation.class);
+
+    public enum State
+    {
+        /**
+         * The validation is not deferred, any problem failed the deployment.
+         */
+        DISABLED,
+
+        /**
+         * The background validation is still running.
+         */
+        RUNNING,
+
+        /**
+         * The background validation finished without any problem.
+         */
+        VALID,
+
+        /**
+         * At least one problem got detected.
+         */
+        FAILED
+    }
+
+    private final List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private volatile State state = State.DISABLED;
+    private volatile boolean pending;
+    private volatile boolean complete;
+    private volatile boolean cancelled;
+    private volatile Map<Bean<?>, FutureTask<Void>> beans = new ConcurrentHashMap<>();
+    private volatile Consumer<Bean<?>> beanValidator;
+    private volatile Thread worker;
+
+    public State getState()
+    {
+        return state;
+    }
+
+    /**
+     * @return {@code false} if a problem got detected, even if the background validation is still running
+     */
+    public boolean isHealthy()
+    {
+        return state != State.FAILED;
+    }
+
+    /**
+     * @return the problems detected so far
+     */
+    public List<RuntimeException> getFailures()
+    {
+        return Collections.unmodifiableList(new ArrayList<>(failures));
+    }
+
+    /**
+     * Wait for the background validation.
+     * @return {@code true} if it finished, {@code false} if the timeout elapsed before
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return state == State.DISABLED || finished.await(timeout, unit);
+    }
+
+    /**
+     * Validates the given bean on its first use if the background validation did not reach it yet.
+     * This is a single volatile read once the background validation finished without problems.
+     */
+    public void ensureValidated(Bean<?> bean)
+    {
+        if (pending)
+        {
+            RuntimeException failure = validate(bean);
+            if (failure != null)
+            {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Switches to the deferred mode, from now on beans get validated on first use.
+     */
+    void enable(Consumer<Bean<?>> beanValidator)
+    {
+        this.beanValidator = beanValidator;
+        state = State.RUNNING;
+        pending = true;
+    }
+
+    /**
+     * Runs the full validation in a background thread.
+     */
+    void start(Runnable fullValidation, ClassLoader classLoader)
+    {
+        Thread thread = new Thread(() -> run(fullValidation), "OpenWebBeans deferred validation");
+        thread.setDaemon(true);
+        thread.setContextClassLoader(classLoader);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the background validation, used on shutdown.
+     */
+    void cancel()
+    {
+        cancelled = true;
+        Thread thread = worker;
+        if (thread != null)
+        {
+            thread.interrupt();
+        }
+    }
+
+    boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    /**
+     * Runs a validation step of the background validation and records its failure.
+     */
+    void check(Runnable validation)
+    {
+        if (cancelled)
+        {
+            return;
+        }
+        try
+        {
+            validation.run();
+        }
+        catch (RuntimeException e)
+        {
+            failed(e);
+        }
+    }
+
+    /**
+     * @return the failure of the bean validation or {@code null} if the bean is valid
+     */
+    RuntimeException validate(Bean<?> bean)
+    {
+        Map<Bean<?>, FutureTask<Void>> tasks = beans;
+        FutureTask<Void> task = tasks.get(bean);
+        if (task == null)
+        {
+            Consumer<Bean<?>> validator = beanValidator;
+            if (complete || validator == null)
+            {
+                return null;
+            }
+            FutureTask<Void> newTask = new FutureTask<>(() ->
+            {
+                try
+                {
+                    validator.accept(bean);
+                }
+                catch (RuntimeException e)
+                {
+                    failed(e);
+                    throw e;
+                }
+                return null;
+            });
+            task = tasks.putIfAbsent(bean, newTask);
+            if (task == null)
+            {
+                task = newTask;
+                task.run();
+            }
+        }
+
+        try
+        {
+            task.get();
+            return null;
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            return cause instanceof RuntimeException ? (RuntimeException) cause : new WebBeansDeploymentException(cause);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return new WebBeansDeploymentException(e);
+        }
+    }
+
+    private void run(Runnable fullValidation)
+    {
+        try
+        {
+            fullValidation.run();
+        }
+        catch (RuntimeException e)
+        {
+            failed(e);
+        }
+        finally
+        {
+            // only keep the broken beans, they have to fail on each use
+            Map<Bean<?>, FutureTask<Void>> broken = new ConcurrentHashMap<>();
+            beans.forEach((bean, task) ->
+            {
+                if (validate(bean) != null)
+                {
+                    broken.put(bean, task);
+                }
+            });
+            beans = broken;
+            complete = true;
+            pending = !broken.isEmpty();
+            beanValidator = null;
+            worker = null;
+            state = failures.isEmpty() ? State.VALID : State.FAILED;
+            finished.countDown();
+        }
+    }
+
+    private void failed(RuntimeException e)
+    {
+        failures.add(e);
+        state = State.FAILED;
+        logger.log(Level.SEVERE, "Deferred deployment validation failed", e);
+    }
+}
@@ -163,7 +163,7 @@ public class DeploymentValidationService
             return finalMethodName;
         }
 
-        Method[] methods = beanClass.getDeclaredMethods();
+        Method[] methods = webBeansContext.getClassMetadata().getDeclaredMethods(beanClass);
         for (Method m : methods)
         {
             int modifiers = m.getModifiers();
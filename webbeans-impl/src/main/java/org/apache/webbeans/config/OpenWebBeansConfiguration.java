@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -95,6 +96,140 @@ public class OpenWebBeansConfiguration
      */
     public static final String SCANNER_SERVICE_MAX_THREADS = "org.apache.webbeans.scanner.maxThreads";
 
+    /**
+     * If {@code true} the proxy classes of all normal scoped beans get generated in parallel
+     * at the end of the deployment instead of lazily on their first usage.
+     * This uses at most {@link #BEANS_DEPLOYER_MAX_THREADS} threads.
+     * Default is {@code false}.
+     */
+    public static final String EAGER_PROXY_GENERATION = "org.apache.webbeans.proxy.eagerGeneration";
+
+    /**
+     * If {@code true} the AnnotatedTypes of the scanned classes and their BeanAttributes get created in parallel
+     * using at most {@link #BEANS_DEPLOYER_MAX_THREADS} threads. ProcessAnnotatedType gets fired in parallel as well
+     * if all its observers are declared on a {@link org.apache.webbeans.spi.ThreadSafeExtension}.
+     * ProcessBeanAttributes and the bean registration always happen sequentially in the discovery order.
+     * Default is {@code false}.
+     */
+    public static final String PARALLEL_DISCOVERY = "org.apache.webbeans.deployer.parallelDiscovery";
+
+    /**
+     * If {@code true} the deployment validation of the injection points, decorators, names and passivation
+     * constraints runs in a background thread after the container got started.
+     * Each bean gets validated synchronously on its first use if the background validation did not reach it yet.
+     * Failures get reported through {@link DeferredValidation} instead of failing the deployment.
+     * Default is {@code false}.
+     */
+    public static final String DEFERRED_VALIDATION = "org.apache.webbeans.deployer.deferredValidation";
+
+    /**
+     * If {@code true} the reflective member metadata (constructors, fields and methods) of the
+     * AnnotatedTypes of the deployed beans gets dropped after the deployment and only gets rebuilt
+     * lazily if somebody asks for it again. This reduces the retained heap of the container.
+     * Types whose members are referenced by injection points, observer methods or producers keep
+     * their metadata. The members of the other types get rebuilt as new instances, so code which
+     * stored an AnnotatedMember before, e.g. an extension, cannot find it by identity in
+     * {@code AnnotatedType.getFields()} or {@code getMethods()} anymore. Equality checks keep working.
+     * Default is {@code false}.
+     */
+    public static final String RELEASE_DEPLOYMENT_METADATA = "org.apache.webbeans.deployer.releaseDeploymentMetadata";
+
+    /**
+     * If {@code true} the declared members and the type closure of classes which got loaded by the
+     * ClassLoader of OpenWebBeans or one of its children get attached to the classes and are shared by all
+     * WebBeansContexts, e.g. the applications of a container which hosts OpenWebBeans in a shared library.
+     * Classes of the parent ClassLoaders, and all classes if disabled, only get cached per WebBeansContext.
+     * The shared metadata consists of the same {@link java.lang.reflect.Constructor}, {@link java.lang.reflect.Field}
+     * and {@link java.lang.reflect.Method} instances for all WebBeansContexts, so a
+     * {@code setAccessible(true)} done for one application also applies to the others.
+     * Disable the sharing if the applications must not see each other's accessibility changes.
+     * Default is {@code true}.
+     */
+    public static final String SHARED_CLASS_METADATA = "org.apache.webbeans.sharedClassMetadata";
+
+    /**
+     * If {@code true} the {@code ApplicationScoped} beans observing the {@code Startup} or the
+     * {@code @Initialized(ApplicationScoped.class)} event get created in parallel before these events get fired.
+     * Independent beans get created concurrently, following the order of their injection points.
+     * Default is {@code false}.
+     * @see org.apache.webbeans.lifecycle.ParallelEagerInitializer
+     */
+    public static final String PARALLEL_EAGER_INIT = "org.apache.webbeans.lifecycle.parallelEagerInit";
+
+    /**
+     * If {@code true} the container walks the whole bean graph after the AfterDeploymentValidation event:
+     * it resolves all injection points and {@code Instance<>} types into the resolution cache,
+     * creates the normal scoped proxies and resolves the observers of the known event types.
+     * This way the first requests after a restart do not pay for filling these caches.
+     * Default is {@code false}.
+     * @see #WARM_UP_TIMEOUT
+     */
+    public static final String WARM_UP = "org.apache.webbeans.deployer.warmUp";
+
+    /**
+     * The maximum time in milliseconds the {@link #WARM_UP} may take.
+     * The remaining beans just get warmed up lazily on their first use.
+     * Default is {@code 10000}.
+     */
+    public static final String WARM_UP_TIMEOUT = "org.apache.webbeans.deployer.warmUpTimeout";
+
+    /**
+     * Format of the bootstrap report: {@code none}, {@code text} or {@code json}.
+     * The report contains the wall time of each deployment phase, the time spent in each Extension,
+     * the number of AnnotatedTypes per bean archive and the slowest AnnotatedTypes and beans.
+     * Default is {@code none}.
+     * @see BootstrapMonitor
+     */
+    public static final String BOOTSTRAP_REPORT = "org.apache.webbeans.bootstrap.report";
+
+    /**
+     * File the bootstrap report gets written to. If not set the report gets logged.
+     */
+    public static final String BOOTSTRAP_REPORT_FILE = "org.apache.webbeans.bootstrap.report.file";
+
+    /**
+     * How many of the slowest AnnotatedTypes and beans the bootstrap report lists. Default is 10.
+     */
+    public static final String BOOTSTRAP_REPORT_TOP = "org.apache.webbeans.bootstrap.report.top";
+
+    /**
+     * If {@code true} the deployment phases and Extension observer invocations
+     * get emitted as JFR events. Default is {@code false}.
+     */
+    public static final String BOOTSTRAP_JFR_EVENTS = "org.apache.webbeans.bootstrap.jfrEvents";
+
+    /**
+     * Maximum number of cached results of dynamic lookups ({@code Instance.select()},
+     * {@code BeanManager.getBeans()}, EL names) per cache of the InjectionResolver.
+     * Once the limit is reached the CLOCK (second chance) eviction drops an entry which
+     * was not used since the last sweep over the cache, not necessarily the least recently used one.
+     * Resolutions of the injection points of the deployment are never evicted.
+     * A value of {@code 0} or less disables the limit. Default is {@code 10000}.
+     */
+    public static final String RESOLUTION_CACHE_SIZE = "org.apache.webbeans.resolution.cacheSize";
+
+    /**
+     * Maximum number of canonical ids of qualifiers with binding members
+     * (e.g. {@code @Named("x")} used in {@code Instance.select()}).
+     * The canonical ids key the resolution cache and the interceptor cache by identity
+     * and are never evicted. Once the limit is reached every further qualifier value
+     * only gets a non canonical id for the rest of the life of the container: lookups
+     * with these values still work but hash and compare their members on each call.
+     * A message gets logged once when this happens. Raise the limit if the application
+     * selects a large but bounded set of qualifier values.
+     * A value of {@code 0} or less disables the limit. Default is {@code 10000}.
+     * @see org.apache.webbeans.annotation.AnnotationManager#internQualifier(java.lang.annotation.Annotation)
+     */
+    public static final String QUALIFIER_INTERN_SIZE = "org.apache.webbeans.qualifier.internSize";
+
+    /**
+     * Maximum number of memoized assignability results of generic types.
+     * Once the limit is reached results which were not used recently get evicted.
+     * A value of {@code 0} or less disables the limit. Default is {@code 50000}.
+     * @see org.apache.webbeans.util.AssignabilityCache
+     */
+    public static final String GENERICS_CACHE_SIZE = "org.apache.webbeans.generics.cacheSize";
+
     /**Container lifecycle*/
     public static final String CONTAINER_LIFECYCLE = "org.apache.webbeans.spi.ContainerLifecycle";
 
@@ -148,6 +283,21 @@ public class OpenWebBeansConfiguration
      */
     public static final String PROXY_MAPPING_PREFIX = "org.apache.webbeans.proxy.mapping.";
 
+    /**
+     * If {@code true} beans whose scope is mapped (see {@link #PROXY_MAPPING_PREFIX}) to a caching
+     * instance provider like {@link org.apache.webbeans.intercept.ApplicationScopedBeanInterceptorHandler}
+     * get a proxy which stores the Contextual Instance in a field of the proxy itself.
+     * Default is {@code false}.
+     */
+    public static final String CACHING_NORMAL_SCOPE_PROXIES = "org.apache.webbeans.proxy.cachingNormalScopeProxies";
+
+    /**
+     * A directory where the generated proxy bytecode gets stored and reused on the next start.
+     * Entries are keyed by the bytecode of the proxied class and the proxied method signatures.
+     * Not set by default which disables the cache.
+     */
+    public static final String PROXY_BYTECODE_CACHE_DIRECTORY = "org.apache.webbeans.proxy.bytecodeCacheDirectory";
+
     /**
      * Use BDABeansXmlScanner to determine if interceptors, decorators, and
      * alternatives are enabled in the beans.xml of a given BDA. For an
@@ -254,6 +404,11 @@ public class OpenWebBeansConfiguration
      */
     private Boolean scanExtensionJars;
 
+    /**
+     * @see #SHARED_CLASS_METADATA
+     */
+    private Boolean sharedClassMetadata;
+
     /**
      * All configured lists per key.
      *
@@ -600,6 +755,96 @@ public class OpenWebBeansConfiguration
         return maxThreadsStr == null ? Integer.MAX_VALUE : Integer.parseInt(maxThreadsStr.trim());
     }
 
+    public boolean isCachingNormalScopeProxies()
+    {
+        return Boolean.parseBoolean(getProperty(OpenWebBeansConfiguration.CACHING_NORMAL_SCOPE_PROXIES));
+    }
+
+    public String getProxyBytecodeCacheDirectory()
+    {
+        return getProperty(OpenWebBeansConfiguration.PROXY_BYTECODE_CACHE_DIRECTORY);
+    }
+
+    public boolean isParallelDiscovery()
+    {
+        return Boolean.parseBoolean(getProperty(OpenWebBeansConfiguration.PARALLEL_DISCOVERY));
+    }
+
+    public boolean isDeferredValidation()
+    {
+        return Boolean.parseBoolean(getProperty(OpenWebBeansConfiguration.DEFERRED_VALIDATION));
+    }
+
+    public boolean isReleaseDeploymentMetadata()
+    {
+        return Boolean.parseBoolean(getProperty(OpenWebBeansConfiguration.RELEASE_DEPLOYMENT_METADATA));
+    }
+
+    public boolean isWarmUp()
+    {
+        return Boolean.parseBoolean(getProperty(OpenWebBeansConfiguration.WARM_UP));
+    }
+
+    public long getWarmUpTimeout()
+    {
+        String timeout = getProperty(OpenWebBeansConfiguration.WARM_UP_TIMEOUT);
+        return timeout == null ? 10000L : Long.parseLong(timeout.trim());
+    }
+
+    public int getResolutionCacheSize()
+    {
+        String size = getProperty(OpenWebBeansConfiguration.RESOLUTION_CACHE_SIZE);
+        return size == null ? 10000 : Integer.parseInt(size.trim());
+    }
+
+    public int getQualifierInternSize()
+    {
+        String size = getProperty(OpenWebBeansConfiguration.QUALIFIER_INTERN_SIZE);
+        return size == null ? 10000 : Integer.parseInt(size.trim());
+    }
+
+    public int getGenericsCacheSize()
+    {
+        String size = getProperty(OpenWebBeansConfiguration.GENERICS_CACHE_SIZE);
+        return size == null ? 50000 : Integer.parseInt(size.trim());
+    }
+
+    public boolean isParallelEagerInit()
+    {
+        return Boolean.parseBoolean(getProperty(OpenWebBeansConfiguration.PARALLEL_EAGER_INIT));
+    }
+
+    public boolean isSharedClassMetadata()
+    {
+        if (sharedClassMetadata == null)
+        {
+            sharedClassMetadata = Boolean.valueOf(getProperty(OpenWebBeansConfiguration.SHARED_CLASS_METADATA, "true"));
+        }
+        return sharedClassMetadata;
+    }
+
+    public BootstrapMonitor.ReportFormat getBootstrapReportFormat()
+    {
+        String format = getProperty(OpenWebBeansConfiguration.BOOTSTRAP_REPORT);
+        return format == null ? BootstrapMonitor.ReportFormat.NONE : BootstrapMonitor.ReportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public int getBootstrapReportTop()
+    {
+        String top = getProperty(OpenWebBeansConfiguration.BOOTSTRAP_REPORT_TOP);
+        return top == null ? 10 : Integer.parseInt(top.trim());
+    }
+
+    public boolean isBootstrapJfrEvents()
+    {
+        return Boolean.parseBoolean(getProperty(OpenWebBeansConfiguration.BOOTSTRAP_JFR_EVENTS));
+    }
+
+    public boolean isEagerProxyGeneration()
+    {
+        return Boolean.parseBoolean(getProperty(OpenWebBeansConfiguration.EAGER_PROXY_GENERATION));
+    }
+
     public int getScannerServiceMaxThreads()
     {
         final String maxThreadsStr = getProperty(OpenWebBeansConfiguration.SCANNER_SERVICE_MAX_THREADS);
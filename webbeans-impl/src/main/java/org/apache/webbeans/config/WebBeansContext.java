@@ -59,15 +59,19 @@ import org.apache.webbeans.proxy.InterceptorDecoratorProxyFactory;
 import org.apache.webbeans.proxy.NormalScopeProxyFactory;
 import org.apache.webbeans.service.DefaultInjectionPointService;
 import org.apache.webbeans.service.DefaultLoaderService;
+import org.apache.webbeans.service.DefaultMetricsService;
 import org.apache.webbeans.spi.BeanArchiveService;
 import org.apache.webbeans.spi.ApplicationBoundaryService;
 import org.apache.webbeans.spi.ContextsService;
 import org.apache.webbeans.spi.ConversationService;
 import org.apache.webbeans.spi.LoaderService;
+import org.apache.webbeans.spi.MetricsService;
 import org.apache.webbeans.spi.ScannerService;
 import org.apache.webbeans.spi.SecurityService;
 import org.apache.webbeans.spi.TransactionService;
 import org.apache.webbeans.spi.plugins.OpenWebBeansPlugin;
+import org.apache.webbeans.util.AssignabilityCache;
+import org.apache.webbeans.util.ClassMetadata;
 import org.apache.webbeans.util.ClassUtil;
 import org.apache.webbeans.util.WebBeansUtil;
 import org.apache.webbeans.xml.DefaultBeanArchiveService;
@@ -119,6 +123,11 @@ public class WebBeansContext
     private final ApplicationBoundaryService applicationBoundaryService;
     private final NotificationManager notificationManager;
     private TransactionService transactionService;
+    private MetricsService metricsService;
+    private final BootstrapMonitor bootstrapMonitor;
+    private final DeferredValidation deferredValidation = new DeferredValidation();
+    private final AssignabilityCache assignabilityCache;
+    private final ClassMetadata classMetadata;
 
 
     public WebBeansContext()
@@ -135,6 +144,9 @@ public class WebBeansContext
     {
         this.openWebBeansConfiguration = openWebBeansConfiguration != null ? openWebBeansConfiguration : new OpenWebBeansConfiguration();
         annotationManager = new AnnotationManager(this);
+        assignabilityCache = new AssignabilityCache(this.openWebBeansConfiguration.getGenericsCacheSize());
+        classMetadata = new ClassMetadata(this.openWebBeansConfiguration.isSharedClassMetadata());
+        bootstrapMonitor = new BootstrapMonitor(this.openWebBeansConfiguration);
 
         //pluggable service-loader
         if (initialServices == null || !initialServices.containsKey(LoaderService.class))
@@ -182,6 +194,16 @@ public class WebBeansContext
         beanManagerBean = getWebBeansUtil().getManagerBean();
     }
 
+    public BootstrapMonitor getBootstrapMonitor()
+    {
+        return bootstrapMonitor;
+    }
+
+    public DeferredValidation getDeferredValidation()
+    {
+        return deferredValidation;
+    }
+
     public Bean<BeanManager> getBeanManagerBean()
     {
         return beanManagerBean;
@@ -278,6 +300,16 @@ public class WebBeansContext
         return annotationManager;
     }
 
+    public AssignabilityCache getAssignabilityCache()
+    {
+        return assignabilityCache;
+    }
+
+    public ClassMetadata getClassMetadata()
+    {
+        return classMetadata;
+    }
+
     public ConversationManager getConversationManager()
     {
         return conversationManager;
@@ -379,6 +411,16 @@ public class WebBeansContext
         return scannerService;
     }
 
+    public MetricsService getMetricsService() // used on hot paths so ensure it is a plain getter at runtime
+    {
+        if (metricsService == null)
+        {
+            MetricsService service = getService(MetricsService.class);
+            metricsService = service != null ? service : new DefaultMetricsService();
+        }
+        return metricsService;
+    }
+
     public ContextsService getContextsService()
     {
         if (contextsService == null)
@@ -589,6 +631,10 @@ public class WebBeansContext
         {
             return clazz.cast(new DefaultConversationService());
         }
+        if (DefaultMetricsService.class == clazz)
+        {
+            return clazz.cast(new DefaultMetricsService());
+        }
 
         // try by reflection for extensions
         try
@@ -631,11 +677,15 @@ public class WebBeansContext
      */
     public void clear()
     {
+        deferredValidation.cancel();
+
         destroyServices(managerMap.values());
         destroyServices(serviceMap.values());
 
         managerMap.clear();
         serviceMap.clear();
+        classMetadata.clear();
+        assignabilityCache.clear();
     }
 
     private void destroyServices(Collection<Object> services)
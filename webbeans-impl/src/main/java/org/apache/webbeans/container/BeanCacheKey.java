@@ -18,41 +18,45 @@
  */
 package org.apache.webbeans.container;
 
-import org.apache.webbeans.annotation.EmptyAnnotationLiteral;
-import org.apache.webbeans.util.AnnotationUtil;
+import org.apache.webbeans.annotation.QualifierId;
 
 import jakarta.enterprise.inject.spi.AnnotatedType;
-import jakarta.enterprise.util.Nonbinding;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Array;
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 public final class BeanCacheKey
 {
-    private static final Comparator<Annotation> ANNOTATION_COMPARATOR = new AnnotationComparator();
-
     private final boolean isDelegate;
     private final Type type;
     private final String path;
-    private final Annotation qualifier;
-    private final Annotation[] qualifiers;
+    private final QualifierId qualifier;
+    private final QualifierId[] qualifiers;
     private final int hashCode;
-    private volatile LazyAnnotatedTypes lazyAnnotatedTypes; // only needed for the "main" key
-    private final Function<Class<?>, AnnotatedType<?>> lazyAtLoader;
 
+    /**
+     * Creates a key comparing the qualifiers by their values.
+     *
+     * @param lazyAtLoader provides the AnnotatedType of qualifiers added by an Extension
+     */
     public BeanCacheKey(boolean isDelegate, Type type, String path,
                         Function<Class<?>, AnnotatedType<?>> lazyAtLoader,
                         Annotation... qualifiers)
+    {
+        this(isDelegate, type, path, toIds(lazyAtLoader, qualifiers));
+    }
+
+    /**
+     * Creates a key for the given qualifier ids. If the ids are canonical
+     * (see {@link org.apache.webbeans.annotation.AnnotationManager#internQualifier(Annotation)})
+     * the qualifiers get compared by identity.
+     */
+    public BeanCacheKey(boolean isDelegate, Type type, String path, QualifierId... qualifiers)
     {
         this.isDelegate = isDelegate;
         this.type = type;
         this.path = path;
-        this.lazyAtLoader = lazyAtLoader;
         int length = qualifiers != null ? qualifiers.length : 0;
         if (length == 0)
         {
@@ -68,15 +72,30 @@ public final class BeanCacheKey
         {
             qualifier = null;
             // to save array creations, we only create an array, if we have more than one annotation
-            this.qualifiers = new Annotation[length];
+            this.qualifiers = new QualifierId[length];
             System.arraycopy(qualifiers, 0, this.qualifiers, 0, length);
-            Arrays.sort(this.qualifiers, ANNOTATION_COMPARATOR);
+            QualifierId.sort(this.qualifiers);
         }
 
         // this class is directly used in ConcurrentHashMap.get() so simply init the hasCode here
         hashCode = computeHashCode();
     }
 
+    private static QualifierId[] toIds(Function<Class<?>, AnnotatedType<?>> lazyAtLoader, Annotation[] qualifiers)
+    {
+        if (qualifiers == null)
+        {
+            return null;
+        }
+        QualifierId[] ids = new QualifierId[qualifiers.length];
+        for (int i = 0; i < qualifiers.length; i++)
+        {
+            Annotation qualifier = qualifiers[i];
+            ids[i] = QualifierId.of(qualifier, lazyAtLoader == null ? null : lazyAtLoader.apply(qualifier.annotationType()));
+        }
+        return ids;
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -91,7 +110,7 @@ public final class BeanCacheKey
 
         BeanCacheKey cacheKey = (BeanCacheKey) o;
 
-        if (!isDelegate == cacheKey.isDelegate)
+        if (hashCode != cacheKey.hashCode || isDelegate != cacheKey.isDelegate)
         {
             return false;
         }
@@ -99,71 +118,15 @@ public final class BeanCacheKey
         {
             return false;
         }
-        if (qualifier != null && cacheKey.qualifier != null)
-        {
-            ensureQualifierAtAreLoaded();
-            if (!qualifierEquals(lazyAnnotatedTypes.qualifierAt, qualifier, cacheKey.qualifier))
-            {
-                return false;
-            }
-        }
-        if (!qualifierArrayEquals(qualifiers, cacheKey.qualifiers))
-        {
-            return false;
-        }
-        return path != null ? path.equals(cacheKey.path) : cacheKey.path == null;
-    }
-
-    private void ensureQualifierAtAreLoaded()
-    {
-        if (lazyAnnotatedTypes == null)
-        {
-            synchronized (this)
-            {
-                if (lazyAnnotatedTypes == null)
-                {
-                    if (qualifier != null)
-                    {
-                        lazyAnnotatedTypes = new LazyAnnotatedTypes(lazyAtLoader.apply(qualifier.annotationType()), null);
-                    }
-                    else
-                    {
-                        lazyAnnotatedTypes = new LazyAnnotatedTypes(null, Stream.of(qualifiers)
-                                .map(Annotation::annotationType)
-                                .map(lazyAtLoader)
-                                .toArray(AnnotatedType[]::new));
-                    }
-                }
-            }
-        }
-    }
-
-    private boolean qualifierArrayEquals(Annotation[] qualifiers1, Annotation[] qualifiers2)
-    {
-        if (qualifiers1 == qualifiers2)
-        {
-            return true;
-        }
-        else if (qualifiers1 == null || qualifiers2 == null)
+        if (qualifier == null ? cacheKey.qualifier != null : !qualifier.equals(cacheKey.qualifier))
         {
             return false;
         }
-        if (qualifiers1.length != qualifiers2.length)
+        if (!Arrays.equals(qualifiers, cacheKey.qualifiers))
         {
             return false;
         }
-        ensureQualifierAtAreLoaded();
-        for (int i = 0; i < qualifiers1.length; i++)
-        {
-            Annotation a1 = qualifiers1[i];
-            Annotation a2 = qualifiers2[i];
-            if (a1 == null ? a2 != null : !qualifierEquals(lazyAnnotatedTypes.qualifierAts[i], a1, a2))
-            {
-                return false;
-            }
-        }
-
-        return true;
+        return path != null ? path.equals(cacheKey.path) : cacheKey.path == null;
     }
 
     @Override
@@ -198,65 +161,18 @@ public final class BeanCacheKey
                                + (isDelegate ? 29 : 0);
         if (qualifier != null)
         {
-            computedHashCode = 31 * computedHashCode + getQualifierHashCode(qualifier);
+            computedHashCode = 31 * computedHashCode + qualifier.hashCode();
         }
         if (qualifiers != null)
         {
             for (int i = 0; i < qualifiers.length; i++)
             {
-                computedHashCode = 31 * computedHashCode + getQualifierHashCode(qualifiers[i]);
+                computedHashCode = 31 * computedHashCode + qualifiers[i].hashCode();
             }
         }
         return computedHashCode;
     }
 
-    /**
-     * Calculate the hashCode() of a qualifier.
-     * We do not do any in-depth hashCode down to member hashes
-     * but only use the hashcode of the AnnotationType itself.
-     * This is WAY faster and spreads well enough in practice.
-     * We can do this as we do not need to return a perfectly unique
-     * result anyway.
-     */
-    private int getQualifierHashCode(Annotation a)
-    {
-        return a.annotationType().hashCode();
-    }
-
-    /**
-     * Implements the equals() method for qualifiers, which ignores {@link Nonbinding} members.
-     */
-    private boolean qualifierEquals(AnnotatedType<?> at, Annotation qualifier1, Annotation qualifier2)
-    {
-        if (at == null)
-        {
-            return AnnotationUtil.isCdiAnnotationEqual(qualifier1, qualifier2);
-        }
-        return AnnotationUtil.isCdiAnnotationEqual(at, qualifier1, qualifier2);
-    }
-
-
-    /**
-     * Helper method for calculating the hashCode of an annotation.
-     */
-    private static Object callMethod(Object instance, Method method)
-    {
-        try
-        {
-            if (!method.isAccessible())
-            {
-                method.setAccessible(true);
-            }
-
-            return method.invoke(instance, AnnotationUtil.EMPTY_OBJECT_ARRAY);
-        }
-        catch (Exception e)
-        {
-            throw new RuntimeException("Exception in method call : " + method.getName(), e);
-        }
-
-    }
-
     /**
      * for debugging ...
      */
@@ -267,137 +183,4 @@ public final class BeanCacheKey
                 + ", delegate=" + isDelegate + ", qualifiers="
                 + (qualifiers == null ? qualifier : Arrays.asList(qualifiers)) + ", hashCode=" + hashCode + '}';
     }
-
-    /**
-     * to keep the annotations ordered.
-     */
-    private static class AnnotationComparator implements Comparator<Annotation>
-    {
-
-        // Notice: Sorting is a bit costly, but the use of this code is very rar.
-        @Override
-        public int compare(Annotation annotation1, Annotation annotation2)
-        {
-            Class<? extends Annotation> type1 = annotation1.annotationType();
-            Class<? extends Annotation> type2 = annotation2.annotationType();
-            int temp = type1.getName().compareTo(type2.getName());
-            if (temp != 0)
-            {
-                return temp;
-            }
-            if (annotation1 instanceof EmptyAnnotationLiteral || annotation2 instanceof EmptyAnnotationLiteral)
-            {
-                // if any of those 2 annotations are known to have no members
-                // then we can immediately return as we know the 2 annotations mean the same
-                return 0;
-            }
-
-            Method[] member1 = type1.getDeclaredMethods();
-            Method[] member2 = type2.getDeclaredMethods();
-
-            // TBD: the order of the list of members seems to be deterministic
-
-            int i = 0;
-            int j = 0;
-            int length1 = member1.length;
-            int length2 = member2.length;
-
-            // find next nonbinding
-            for (;; i++, j++)
-            {
-                while (i < length1 && member1[i].isAnnotationPresent(Nonbinding.class))
-                {
-                    i++;
-                }
-                while (j < length2 && member2[j].isAnnotationPresent(Nonbinding.class))
-                {
-                    j++;
-                }
-                if (i >= length1 && j >= length2)
-                { // both ended
-                    return 0;
-                }
-                else if (i >= length1)
-                { // #1 ended
-                    return 1;
-                }
-                else if (j >= length2)
-                { // #2 ended
-                    return -1;
-                }
-                else
-                { // not ended
-                    int c = member1[i].getName().compareTo(member2[j].getName());
-                    if (c != 0)
-                    {
-                        return c;
-                    }
-                    Object value1 = callMethod(annotation1, member1[i]);
-                    Object value2 = callMethod(annotation2, member2[j]);
-                    assert value1.getClass().equals(value2.getClass());
-
-                    if (value1 instanceof Comparable)
-                    {
-                        c = ((Comparable)value1).compareTo(value2);
-                        if (c != 0)
-                        {
-                            return c;
-                        }
-                    }
-                    else if (value1.getClass().isArray())
-                    {
-                        c = value1.getClass().getComponentType().getName()
-                                .compareTo(value2.getClass().getComponentType().getName());
-                        if (c != 0)
-                        {
-                            return c;
-                        }
-
-                        int length = Array.getLength(value1);
-                        c = length - Array.getLength(value2);
-                        if (c != 0)
-                        {
-                            return c;
-                        }
-                        for (int k = 0; k < length; k++)
-                        {
-                            c = ((Comparable)Array.get(value1, k)).compareTo(Array.get(value2, k));
-                            if (c != 0)
-                            {
-                                return c;
-                            }
-                        }
-
-                    }
-                    else if (value1 instanceof Class)
-                    {
-
-                        c = ((Class)value1).getName().compareTo(((Class) value2).getName());
-                        if (c != 0)
-                        {
-                            return c;
-                        }
-                    }
-                    else
-                    {
-                        // valid types for members are only Comparable, Arrays, or Class
-                        assert false;
-                    }
-                }
-            }
-        }
-    }
-
-    private static final class LazyAnnotatedTypes
-    {
-        private final AnnotatedType<?> qualifierAt;
-        private final AnnotatedType<?>[] qualifierAts;
-
-        private LazyAnnotatedTypes(final AnnotatedType<?> qualifierAt,
-                                   final AnnotatedType<?>[] qualifierAts)
-        {
-            this.qualifierAt = qualifierAt;
-            this.qualifierAts = qualifierAts;
-        }
-    }
 }
@@ -37,6 +37,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -103,6 +105,7 @@ import org.apache.webbeans.portable.LazyInterceptorDefinedInjectionTarget;
 import org.apache.webbeans.portable.events.discovery.ErrorStack;
 import org.apache.webbeans.portable.events.generics.GProcessInjectionPoint;
 import org.apache.webbeans.portable.events.generics.GProcessInjectionTarget;
+import org.apache.webbeans.proxy.ContextualInstanceCache;
 import org.apache.webbeans.spi.adaptor.ELAdaptor;
 import org.apache.webbeans.spi.plugins.OpenWebBeansEjbPlugin;
 import org.apache.webbeans.util.AnnotationUtil;
@@ -150,9 +153,26 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     /**Deployment archive beans*/
     private Set<Bean<?>> deploymentBeans = new HashSet<>();
 
+    /**Counts the modifications of the deploymentBeans, lets the indexes detect that they are stale*/
+    private final AtomicInteger beanModifications = new AtomicInteger();
+
+    /**Deployment archive beans by the raw classes of their types*/
+    private final BeanTypeIndex beanTypeIndex = new BeanTypeIndex(this);
+
+    /**How the references get created, shared by all the beans*/
+    private final ReferenceStrategy ejbOrJmsReference = this::getEjbOrJmsProxyReference;
+    private final ReferenceStrategy normalScopeReference = (bean, beanType, creationalContext) -> getNormalScopeProxy(bean);
+    private final ReferenceStrategy contextualReference = this::getContextualReference;
+
+    /**Frozen index of the bean names, built at the end of the deployment*/
+    private volatile BeanNameIndex beanNameIndex;
+
     /**Normal scoped cache proxies*/
     private Map<Contextual<?>, Object> cacheProxies = new ConcurrentHashMap<>();
 
+    /**Contextual Instances shared by the caching proxies of a bean*/
+    private Map<Contextual<?>, ContextualInstanceCache> contextualInstanceCaches = new ConcurrentHashMap<>();
+
     /**Injection resolver instance*/
     private InjectionResolver injectionResolver;
 
@@ -171,10 +191,10 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     private List<ExternalScope> additionalScopes = new ArrayList<>();
 
     /** quick detection if an annotation is a scope-annotation  */
-    private Set<Class<? extends Annotation>> scopeAnnotations = new HashSet<>();
+    private Set<Class<? extends Annotation>> scopeAnnotations = ConcurrentHashMap.newKeySet();
 
     /** quick detection if an annotation is NOT a scope-annotation  */
-    private Set<Class<? extends Annotation>> nonscopeAnnotations = new HashSet<>();
+    private Set<Class<? extends Annotation>> nonscopeAnnotations = ConcurrentHashMap.newKeySet();
 
 
     private ConcurrentMap<Class<?>, ConcurrentMap<String, AnnotatedType<?>>> additionalAnnotatedTypes = new ConcurrentHashMap<>();
@@ -379,6 +399,8 @@ public class BeanManagerImpl implements BeanManager, Referenceable
         {
             addPassivationInfo(newBean);
             deploymentBeans.add(newBean);
+            beanModifications.incrementAndGet();
+            beanTypeIndex.add(newBean);
         }
         else
         {
@@ -393,6 +415,8 @@ public class BeanManagerImpl implements BeanManager, Referenceable
             }
             addPassivationInfo(bean);
             deploymentBeans.add(bean);
+            beanModifications.incrementAndGet();
+            beanTypeIndex.add(bean);
             thirdPartyMapping.put(newBean, bean);
         }
 
@@ -548,11 +572,81 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     }
 
 
+    /**
+     * Beans must only get added via {@link #addBean(Bean)} or {@link #addInternalBean(Bean)}
+     * and removed via {@link #removeBeans(Predicate)}, otherwise the indexes don't notice the modification.
+     */
     public Set<Bean<?>> getBeans()
     {
         return deploymentBeans;
     }
 
+    /**
+     * Removes all the beans matching the given filter and re-indexes the remaining ones.
+     */
+    public void removeBeans(Predicate<Bean<?>> filter)
+    {
+        if (deploymentBeans.removeIf(filter))
+        {
+            beanModifications.incrementAndGet();
+            beanTypeIndex.rebuild();
+        }
+    }
+
+    /**
+     * @return the number of modifications of the {@link #getBeans()} so far
+     */
+    int getBeanModifications()
+    {
+        return beanModifications.get();
+    }
+
+    /**
+     * @return the index of the {@link #getBeans()} by the raw classes of their bean types
+     */
+    public BeanTypeIndex getBeanTypeIndex()
+    {
+        return beanTypeIndex;
+    }
+
+    /**
+     * Gets called once the deployment got validated. Indexes the bean names and assigns
+     * each deployed bean the {@link ReferenceStrategy} used to get its references.
+     */
+    public void deploymentDone()
+    {
+        buildBeanNameIndex();
+        for (Bean<?> bean : deploymentBeans)
+        {
+            if (bean instanceof AbstractOwbBean)
+            {
+                ((AbstractOwbBean<?>) bean).setReferenceStrategy(selectReferenceStrategy(bean));
+            }
+        }
+    }
+
+    /**
+     * Freezes the names of the deployed beans into a {@link BeanNameIndex}.
+     */
+    public void buildBeanNameIndex()
+    {
+        beanNameIndex = new BeanNameIndex(this, deploymentBeans);
+    }
+
+    /**
+     * @return the index of the bean names or {@code null} if it didn't get built yet
+     *         or the beans got modified after it got built
+     */
+    public BeanNameIndex getBeanNameIndex()
+    {
+        BeanNameIndex index = beanNameIndex;
+        if (index == null || index.getBeanModifications() != beanModifications.get())
+        {
+            return null;
+        }
+        return index;
+    }
+
     private void addContext(Class<? extends Annotation> scopeType, jakarta.enterprise.context.spi.Context context)
     {
         Asserts.assertNotNull(scopeType, "scopeType");
@@ -686,7 +780,7 @@ public class BeanManagerImpl implements BeanManager, Referenceable
             //Dependents use parent creational context
             try
             {
-                instance = getReference(injectedBean, injectionPoint.getType(), ownerCreationalContext);
+                instance = getInjectableReference(injectedBean, injectionPoint.getType(), ownerCreationalContext);
             }
             finally
             {
@@ -700,7 +794,7 @@ public class BeanManagerImpl implements BeanManager, Referenceable
             injectedCreational.putInjectionPoint(injectionPoint);
             try
             {
-                instance = getReference(injectedBean, injectionPoint.getType(), injectedCreational);
+                instance = getInjectableReference(injectedBean, injectionPoint.getType(), injectedCreational);
             }
             finally
             {
@@ -742,9 +836,6 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     {
         Asserts.assertNotNull(providedBean, "bean parameter");
 
-        Context context;
-        Object instance;
-
         Bean<?> bean =  !OwbBean.class.isInstance(providedBean) ? thirdPartyMapping.get(providedBean) : providedBean;
         if (bean == null) // more than unlikely but still possible and not invalid (user could create new instance of bean each time, not forbidden)
         {
@@ -771,64 +862,92 @@ public class BeanManagerImpl implements BeanManager, Referenceable
             boolean isProducer = bean instanceof AbstractProducerBean;
             if(!isProducer && // we have different rules for producers
                !isBeanTypeAssignableToGivenType(bean.getTypes(), beanType, false) &&
-               !GenericsUtil.satisfiesDependency(false, false, beanType, bean.getBeanClass(), new HashMap<>()) &&
+               !webBeansContext.getAssignabilityCache().satisfiesDependency(false, false, beanType, bean.getBeanClass()) &&
                !GenericsUtil.satisfiesDependencyRaw(false, false, beanType, bean.getBeanClass(), new HashMap<>()))
             {
                 throw new IllegalArgumentException("Given bean type : " + beanType + " is not applicable for the bean instance : " + bean);
             }
 
         }
-        else if (bean instanceof OwbBean)
+
+        return getReferenceStrategy(bean).getReference(bean, getReferenceType(bean, beanType), creationalContext);
+    }
+
+    /**
+     * Same as {@link #getReference(Bean, Type, CreationalContext)} for a bean which got resolved
+     * for an injection point of the given type, so its assignability does not need to be checked again.
+     */
+    private Object getInjectableReference(Bean<?> bean, Type injectionPointType, CreationalContext<?> creationalContext)
+    {
+        if (!(bean instanceof AbstractOwbBean))
         {
-            // we cannot always use getBeanClass() as this will
-            // return the containing class for producer methods and fields
-            beanType = ((OwbBean) bean).getReturnType();
+            return getReference(bean, injectionPointType, creationalContext);
         }
-        else
+        if (ManagedBean.class.isInstance(bean))
         {
-            beanType = bean.getBeanClass();
+            ManagedBean.class.cast(bean).valid();
         }
+        return getReferenceStrategy(bean).getReference(bean, getReferenceType(bean, injectionPointType), creationalContext);
+    }
 
-        //Scope is normal
-        if (isNormalScope(bean.getScope()))
+    private static Type getReferenceType(Bean<?> bean, Type beanType)
+    {
+        if (beanType != null && beanType != Object.class)
         {
-            instance = getEjbOrJmsProxyReference(bean, beanType,creationalContext);
-
-            if(instance != null)
-            {
-                return instance;
-            }
-
-            instance = cacheProxies.get(bean);
+            return beanType;
+        }
+        if (bean instanceof OwbBean)
+        {
+            // we cannot always use getBeanClass() as this will
+            // return the containing class for producer methods and fields
+            return ((OwbBean) bean).getReturnType();
+        }
+        return bean.getBeanClass();
+    }
 
-            if (instance == null)
+    private ReferenceStrategy getReferenceStrategy(Bean<?> bean)
+    {
+        if (bean instanceof AbstractOwbBean)
+        {
+            ReferenceStrategy strategy = ((AbstractOwbBean<?>) bean).getReferenceStrategy();
+            if (strategy != null)
             {
-                //Create Managed Bean Proxy
-                instance = webBeansContext.getNormalScopeProxyFactory().createNormalScopeProxy(bean);
-
-                //Cached instance
-                cacheProxies.put(bean, instance);
+                return strategy;
             }
+        }
+        return selectReferenceStrategy(bean);
+    }
 
+    private ReferenceStrategy selectReferenceStrategy(Bean<?> bean)
+    {
+        if (bean instanceof EnterpriseBeanMarker || bean instanceof JmsBeanMarker)
+        {
+            return ejbOrJmsReference;
         }
-        //Create Pseudo-Scope Bean Instance
-        else
+        if (isNormalScope(bean.getScope()))
         {
-            //Get bean context
-            context = getContext(bean.getScope());
+            return normalScopeReference;
+        }
+        return contextualReference;
+    }
 
-            //Get instance for ejb or jms
-            instance = getEjbOrJmsProxyReference(bean, beanType, creationalContext);
+    private Object getContextualReference(Bean<?> bean, Type beanType, CreationalContext<?> creationalContext)
+    {
+        //Get dependent from DependentContex that create contextual instance
+        return getContext(bean.getScope()).get((Bean<Object>) bean, (CreationalContext<Object>) creationalContext);
+    }
 
-            if(instance != null)
-            {
-                return instance;
-            }
+    private Object getNormalScopeProxy(Bean<?> bean)
+    {
+        Object instance = cacheProxies.get(bean);
+        if (instance == null)
+        {
+            //Create Managed Bean Proxy
+            instance = webBeansContext.getNormalScopeProxyFactory().createNormalScopeProxy(bean);
 
-            //Get dependent from DependentContex that create contextual instance
-            instance = context.get((Bean<Object>)bean, (CreationalContext<Object>)creationalContext);
+            //Cached instance
+            cacheProxies.put(bean, instance);
         }
-
         return instance;
     }
 
@@ -957,7 +1076,7 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     {
         for (Type beanApiType : beanTypes)
         {
-            if (GenericsUtil.satisfiesDependency(false, producer, givenType, beanApiType, new HashMap<>()))
+            if (webBeansContext.getAssignabilityCache().satisfiesDependency(false, producer, givenType, beanApiType))
             {
                 return true;
             }
@@ -1626,9 +1745,13 @@ public class BeanManagerImpl implements BeanManager, Referenceable
         scopeAnnotations.clear();
         nonscopeAnnotations.clear();
         clearCacheProxies();
+        contextualInstanceCaches.clear();
         singleContextMap.clear();
         contextMap.clear();
         deploymentBeans.clear();
+        beanModifications.incrementAndGet();
+        beanTypeIndex.clear();
+        beanNameIndex = null;
         errorStack.clear();
         producersForJavaEeComponents.clear();
         passivationBeans.clear();
@@ -1646,6 +1769,28 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     public void clearCacheProxies()
     {
         cacheProxies.clear();
+        contextualInstanceCaches.values().forEach(ContextualInstanceCache::clear);
+    }
+
+    /**
+     * @return the cache of the Contextual Instance all caching proxies of the given bean share
+     */
+    public ContextualInstanceCache getContextualInstanceCache(Contextual<?> bean)
+    {
+        return contextualInstanceCaches.computeIfAbsent(bean, b -> new ContextualInstanceCache());
+    }
+
+    /**
+     * Resets the Contextual Instance the caching proxies of the given bean hold.
+     * Gets invoked when the Contextual Instance got destroyed.
+     */
+    public void clearCachedProxyInstance(Contextual<?> bean)
+    {
+        ContextualInstanceCache cache = contextualInstanceCaches.get(bean);
+        if (cache != null)
+        {
+            cache.clear();
+        }
     }
 
     public boolean isInUse()
@@ -1671,6 +1816,8 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     public void setAfterBeanDiscoveryDone()
     {
         this.beanDiscoveryState = LifecycleState.AFTER_DISCOVERY;
+        // the extensions are done with the beans
+        beanTypeIndex.rebuild();
     }
 
     public boolean isAfterBeanDiscoveryDone()
@@ -1745,8 +1892,8 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     {
         for (Type beanType : legalBeanTypes)
         {
-            if (GenericsUtil.satisfiesDependency(false, false, requiredType, beanType, new HashMap<>())
-                    || GenericsUtil.satisfiesDependency(false, true, requiredType, beanType, new HashMap<>()))
+            if (webBeansContext.getAssignabilityCache().satisfiesDependency(false, false, requiredType, beanType)
+                    || webBeansContext.getAssignabilityCache().satisfiesDependency(false, true, requiredType, beanType))
             {
                 return true;
             }
@@ -1852,19 +1999,19 @@ public class BeanManagerImpl implements BeanManager, Referenceable
         return false;
     }
 
-    private static boolean matchesObservedEventType(Type observedEventType, Set<Type> eventTypeClosure)
+    private boolean matchesObservedEventType(Type observedEventType, Set<Type> eventTypeClosure)
     {
         for (Type eventType : eventTypeClosure)
         {
             if (eventType instanceof ParameterizedType && observedEventType instanceof Class<?>)
             {
-                if (GenericsUtil.isAssignableFrom(true, false, observedEventType,
-                        ((ParameterizedType) eventType).getRawType(), new HashMap<>()))
+                if (webBeansContext.getAssignabilityCache().isAssignableFrom(true, false, observedEventType,
+                        ((ParameterizedType) eventType).getRawType()))
                 {
                     return true;
                 }
             }
-            if (GenericsUtil.isAssignableFrom(true, false, observedEventType, eventType, new HashMap<>()))
+            if (webBeansContext.getAssignabilityCache().isAssignableFrom(true, false, observedEventType, eventType))
             {
                 return true;
             }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.AmbiguousResolutionException;
+import jakarta.enterprise.inject.spi.Bean;
+
+/**
+ * Frozen index of the bean names, built once the deployment is done.
+ *
+ * <p>Every name maps to an {@link Entry} holding the beans with exactly this name and the bean they resolve to.
+ * Each leading part of a dotted name like {@code magic.golden.fish} is indexed as prefix too
+ * ({@code magic} and {@code magic.golden}), so EL resolvers can walk dot-named beans
+ * without scanning all beans.</p>
+ *
+ * <p>Resolved beans which are not {@link Dependent} get a slot number so that callers can
+ * cache their contextual references in a small array instead of a map, see
+ * {@link org.apache.webbeans.el.ELContextStore#getNormalScoped(int)}.</p>
+ */
+public final class BeanNameIndex
+{
+    private final Map<String, Entry> entries;
+    private final int beanModifications;
+    private final int slotCount;
+
+    BeanNameIndex(BeanManagerImpl beanManager, Collection<Bean<?>> beans)
+    {
+        beanModifications = beanManager.getBeanModifications();
+        Map<String, Set<Bean<?>>> beansByName = new HashMap<>();
+        Set<String> prefixes = new HashSet<>();
+        for (Bean<?> bean : beans)
+        {
+            String name = bean.getName();
+            if (name == null)
+            {
+                continue;
+            }
+            beansByName.computeIfAbsent(name, k -> new HashSet<>()).add(bean);
+            for (int dot = name.indexOf('.'); dot > 0; dot = name.indexOf('.', dot + 1))
+            {
+                prefixes.add(name.substring(0, dot));
+            }
+        }
+
+        Map<String, Entry> index = new HashMap<>();
+        int slots = 0;
+        for (Map.Entry<String, Set<Bean<?>>> named : beansByName.entrySet())
+        {
+            Bean<?> resolved;
+            try
+            {
+                resolved = beanManager.resolve(named.getValue());
+            }
+            catch (AmbiguousResolutionException e)
+            {
+                // let the callers report it when the name really gets used
+                resolved = null;
+            }
+
+            int slot = -1;
+            if (resolved != null && !Dependent.class.equals(resolved.getScope()))
+            {
+                slot = slots++;
+            }
+            index.put(named.getKey(), new Entry(Collections.unmodifiableSet(named.getValue()), resolved,
+                    prefixes.remove(named.getKey()), slot));
+        }
+        for (String prefix : prefixes)
+        {
+            index.put(prefix, new Entry(Collections.emptySet(), null, true, -1));
+        }
+
+        entries = index;
+        slotCount = slots;
+    }
+
+    /**
+     * @return the entry for the given bean name or prefix of a dotted bean name, {@code null} if there is none
+     */
+    public Entry get(String name)
+    {
+        return entries.get(name);
+    }
+
+    /**
+     * @return the number of slots handed out to the non-dependent beans
+     */
+    public int getSlotCount()
+    {
+        return slotCount;
+    }
+
+    /**
+     * @return the {@link BeanManagerImpl#getBeanModifications()} the index got built from
+     */
+    int getBeanModifications()
+    {
+        return beanModifications;
+    }
+
+    public static final class Entry
+    {
+        private final Set<Bean<?>> beans;
+        private final Bean<?> bean;
+        private final boolean prefix;
+        private final int slot;
+
+        private Entry(Set<Bean<?>> beans, Bean<?> bean, boolean prefix, int slot)
+        {
+            this.beans = beans;
+            this.bean = bean;
+            this.prefix = prefix;
+            this.slot = slot;
+        }
+
+        /**
+         * @return all beans with exactly this name, empty if this is only a prefix of dotted names
+         */
+        public Set<Bean<?>> getBeans()
+        {
+            return beans;
+        }
+
+        /**
+         * @return the bean this name resolves to, {@code null} if there is none or the resolution is ambiguous
+         */
+        public Bean<?> getBean()
+        {
+            return bean;
+        }
+
+        /**
+         * @return whether this name is the leading part of a dotted bean name
+         */
+        public boolean isPrefix()
+        {
+            return prefix;
+        }
+
+        /**
+         * @return the slot of the resolved bean or {@code -1} if it is {@link Dependent} or there is none
+         */
+        public int getSlot()
+        {
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.apache.webbeans.util.ClassUtil;
+
+/**
+ * Index of the beans by the raw classes of their bean types.
+ *
+ * <p>{@link org.apache.webbeans.util.GenericsUtil#satisfiesDependency} only matches a bean type whose raw type
+ * is the raw type of the injection point (primitives count as their wrappers). So the resolution by type only
+ * needs to check the beans indexed for the raw injection point type instead of all beans.
+ * Beans with bean types which have no raw class (type variables, wildcards, generic arrays) are always candidates.</p>
+ *
+ * <p>The index gets filled incrementally when beans get added to the {@link BeanManagerImpl},
+ * rebuilt when beans get removed and rebuilt once more after the bean discovery.
+ * It only gets modified by the thread modifying the beans, lookups never rebuild it
+ * but keep using the last complete index.</p>
+ */
+public final class BeanTypeIndex
+{
+    private final BeanManagerImpl beanManager;
+
+    private volatile Entries entries = new Entries();
+
+    /**
+     * the {@link BeanManagerImpl#getBeanModifications()} the entries reflect
+     */
+    private volatile int modifications;
+
+    BeanTypeIndex(BeanManagerImpl beanManager)
+    {
+        this.beanManager = beanManager;
+    }
+
+    /**
+     * Indexes a bean which just got added, the {@link BeanManagerImpl} counted the addition already.
+     * Rebuilds the whole index if another modification got missed.
+     */
+    synchronized void add(Bean<?> bean)
+    {
+        if (modifications != beanManager.getBeanModifications() - 1)
+        {
+            rebuild();
+            return;
+        }
+        entries.index(bean);
+        modifications++;
+    }
+
+    /**
+     * Re-indexes all beans, e.g. after beans got removed. Must only be called by the thread modifying the beans.
+     * Concurrent lookups keep using the old index until the new one is complete.
+     */
+    synchronized void rebuild()
+    {
+        int current = beanManager.getBeanModifications();
+        Entries newEntries = new Entries();
+        for (Bean<?> bean : beanManager.getBeans())
+        {
+            newEntries.index(bean);
+        }
+        entries = newEntries;
+        modifications = current;
+    }
+
+    synchronized void clear()
+    {
+        entries = new Entries();
+        modifications = beanManager.getBeanModifications();
+    }
+
+    /**
+     * @return all beans which might have a bean type assignable to the given injection point type
+     */
+    public Collection<Bean<?>> getCandidates(Type injectionPointType)
+    {
+        Entries current = entries;
+        Class<?> rawType = getRawType(injectionPointType);
+        if (rawType == null)
+        {
+            return new ArrayList<>(current.beans);
+        }
+
+        Set<Bean<?>> indexed = current.beansByRawType.get(rawType);
+        if (current.unindexedBeans.isEmpty())
+        {
+            return indexed == null ? Collections.emptySet() : indexed;
+        }
+
+        List<Bean<?>> candidates = new ArrayList<>(current.unindexedBeans);
+        if (indexed != null)
+        {
+            candidates.addAll(indexed);
+        }
+        return candidates;
+    }
+
+    private static Class<?> getRawType(Type type)
+    {
+        if (type instanceof Class)
+        {
+            Class<?> clazz = (Class<?>) type;
+            return clazz.isPrimitive() ? ClassUtil.getPrimitiveWrapper(clazz) : clazz;
+        }
+        if (type instanceof ParameterizedType)
+        {
+            return getRawType(((ParameterizedType) type).getRawType());
+        }
+        return null;
+    }
+
+    private static final class Entries
+    {
+        private final Map<Class<?>, Set<Bean<?>>> beansByRawType = new ConcurrentHashMap<>();
+        private final Set<Bean<?>> unindexedBeans = ConcurrentHashMap.newKeySet();
+        private final Set<Bean<?>> beans = ConcurrentHashMap.newKeySet();
+
+        private void index(Bean<?> bean)
+        {
+            beans.add(bean);
+            for (Type type : bean.getTypes())
+            {
+                Class<?> rawType = getRawType(type);
+                if (rawType == null)
+                {
+                    unindexedBeans.add(bean);
+                }
+                else
+                {
+                    beansByRawType.computeIfAbsent(rawType, k -> ConcurrentHashMap.newKeySet()).add(bean);
+                }
+            }
+        }
+    }
+}
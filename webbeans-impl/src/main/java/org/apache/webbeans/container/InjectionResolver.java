@@ -29,11 +29,13 @@ import org.apache.webbeans.exception.WebBeansDeploymentException;
 import org.apache.webbeans.inject.AlternativesManager;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
 import org.apache.webbeans.spi.BDABeansXmlScanner;
+import org.apache.webbeans.spi.MetricsService;
 import org.apache.webbeans.spi.ScannerService;
 import org.apache.webbeans.util.AnnotationUtil;
 import org.apache.webbeans.util.Asserts;
+import org.apache.webbeans.util.AssignabilityCache;
 import org.apache.webbeans.util.ClassUtil;
-import org.apache.webbeans.util.GenericsUtil;
+import org.apache.webbeans.util.ClockCache;
 import org.apache.webbeans.util.InjectionExceptionUtil;
 import org.apache.webbeans.util.SingleItemSet;
 import org.apache.webbeans.util.WebBeansUtil;
@@ -50,8 +52,8 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -85,16 +87,26 @@ public class InjectionResolver
     private AlternativesManager alternativesManager;
     
     /**
-     * Resolved beans by injection point type and qualifiers ({@link BeanCacheKey}).
+     * Resolved beans of the injection points of the deployment by type and qualifiers ({@link BeanCacheKey}).
      * Filled after startup when the bean set is final. Misses are stored as
      * {@link Collections#emptySet()} so repeated lookups avoid rescanning the deployment.
+     * The number of injection points is bound by the deployment, so these entries are never evicted.
      */
     private Map<BeanCacheKey, Set<Bean<?>>> resolvedBeansByType = new ConcurrentHashMap<>();
 
     /**
-     * This Map contains all resolved beans via it's ExpressionLanguage name.
+     * Resolved beans of dynamic lookups like {@code Instance.select()} or {@code BeanManager.getBeans()}.
+     * Their keys are not bound by the deployment, so the cache is limited to
+     * {@link org.apache.webbeans.config.OpenWebBeansConfiguration#RESOLUTION_CACHE_SIZE} entries.
+     * Created once the startup is over.
      */
-    private Map<String, Set<Bean<?>>> resolvedBeansByName = new ConcurrentHashMap<>();
+    private volatile ClockCache<BeanCacheKey, Set<Bean<?>>> dynamicBeansByType;
+
+    /**
+     * This cache contains all resolved beans via it's ExpressionLanguage name.
+     * It is bounded like {@link #dynamicBeansByType}.
+     */
+    private volatile ClockCache<String, Set<Bean<?>>> resolvedBeansByName;
 
     /**
      * Whether the container is in startup mode.
@@ -129,6 +141,12 @@ public class InjectionResolver
 
     public void setStartup(boolean startup)
     {
+        if (!startup && resolvedBeansByName == null)
+        {
+            int cacheSize = webBeansContext.getOpenWebBeansConfiguration().getResolutionCacheSize();
+            dynamicBeansByType = new ClockCache<>(cacheSize);
+            resolvedBeansByName = new ClockCache<>(cacheSize);
+        }
         this.startup = startup;
     }
     
@@ -137,8 +155,21 @@ public class InjectionResolver
      */
     public void clearCaches()
     {
-        resolvedBeansByName.clear();
         resolvedBeansByType.clear();
+        if (resolvedBeansByName != null)
+        {
+            resolvedBeansByName.clear();
+            dynamicBeansByType.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached dynamic lookup results by type, for tests and monitoring
+     */
+    int getDynamicCacheSize()
+    {
+        ClockCache<BeanCacheKey, Set<Bean<?>>> cache = dynamicBeansByType;
+        return cache == null ? 0 : cache.size();
     }
 
     /**
@@ -171,7 +202,7 @@ public class InjectionResolver
         }
 
         // not that happy about this check here and at runtime but few TCKs test Weld behavior only...
-        Bean<?> bean = resolve(implResolveByType(false, type, injectionPoint.getQualifiers().toArray(new Annotation[0])),
+        Bean<?> bean = resolve(implResolveByType(true, false, type, null, injectionPoint.getQualifiers().toArray(new Annotation[0])),
                                      injectionPoint);
         if (bean != null && ManagedBean.class.isInstance(bean))
         {
@@ -220,7 +251,7 @@ public class InjectionResolver
                 injectionPointClass = (Class) type;
             }
 
-            Set<Bean<?>> beanSet = implResolveByType(injectionPoint.isDelegate(), type, injectionPointClass, qualifiers);
+            Set<Bean<?>> beanSet = implResolveByType(true, injectionPoint.isDelegate(), type, injectionPointClass, qualifiers);
 
             Bean<?> bean = resolve(beanSet, injectionPoint);
 
@@ -268,7 +299,7 @@ public class InjectionResolver
         Set<Annotation> qualSet = injectionPoint.getQualifiers();
         Annotation[] qualifiers = qualSet.toArray(new Annotation[0]);
 
-        Set<Bean<?>> beanSet = implResolveByType(injectionPoint.isDelegate(), type, clazz, qualifiers);
+        Set<Bean<?>> beanSet = implResolveByType(true, injectionPoint.isDelegate(), type, clazz, qualifiers);
 
         if (beanSet.isEmpty())
         {
@@ -311,12 +342,34 @@ public class InjectionResolver
     {
         Asserts.assertNotNull(name, "name parameter");
 
+        MetricsService metrics = webBeansContext.getMetricsService();
+        BeanNameIndex index = webBeansContext.getBeanManagerImpl().getBeanNameIndex();
+        if (index != null)
+        {
+            // the index knows all names, so every lookup is answered without scanning the beans
+            if (metrics.isEnabled())
+            {
+                metrics.increment(MetricsService.NAME_INDEX_LOOKUPS, null);
+            }
+            BeanNameIndex.Entry entry = index.get(name);
+            return entry == null ? Collections.emptySet() : entry.getBeans();
+        }
+
         String cacheKey = name;
-        Set<Bean<?>> resolvedComponents = resolvedBeansByName.get(cacheKey);
+        ClockCache<String, Set<Bean<?>>> cache = resolvedBeansByName;
+        Set<Bean<?>> resolvedComponents = cache == null ? null : cache.get(cacheKey);
         if (resolvedComponents != null)
         {
+            if (metrics.isEnabled())
+            {
+                metrics.increment(MetricsService.RESOLUTION_CACHE_HITS, "name");
+            }
             return resolvedComponents;
         }
+        if (metrics.isEnabled())
+        {
+            metrics.increment(MetricsService.RESOLUTION_CACHE_MISSES, "name");
+        }
 
         resolvedComponents = new HashSet<>();
         Set<Bean<?>> deployedComponents = webBeansContext.getBeanManagerImpl().getBeans();
@@ -333,14 +386,15 @@ public class InjectionResolver
             }
         }
 
-        if (resolvedComponents.isEmpty())
+        if (cache == null)
         {
-            // maintain negative cache but use standard empty set so we can garbage collect
-            resolvedBeansByName.put(cacheKey, Collections.EMPTY_SET);
+            return resolvedComponents;
         }
-        else
+
+        // maintain negative cache but use standard empty set so we can garbage collect
+        if (cache.put(cacheKey, resolvedComponents.isEmpty() ? Collections.EMPTY_SET : resolvedComponents) && metrics.isEnabled())
         {
-            resolvedBeansByName.put(cacheKey, resolvedComponents);
+            metrics.increment(MetricsService.RESOLUTION_CACHE_EVICTIONS, "name");
         }
         if (logger.isLoggable(Level.FINE))
         {
@@ -386,6 +440,16 @@ public class InjectionResolver
      */
     public Set<Bean<?>> implResolveByType(boolean isDelegate, Type injectionPointType,
                                           Class<?> injectionPointClass, Annotation... qualifiers)
+    {
+        return implResolveByType(false, isDelegate, injectionPointType, injectionPointClass, qualifiers);
+    }
+
+    /**
+     * @param injectionPoint whether the lookup is for an injection point of the deployment.
+     *                       Those results get cached without any size limit.
+     */
+    private Set<Bean<?>> implResolveByType(boolean injectionPoint, boolean isDelegate, Type injectionPointType,
+                                           Class<?> injectionPointClass, Annotation... qualifiers)
     {
         ScannerService scannerService = webBeansContext.getScannerService();
         String bdaBeansXMLFilePath = null;
@@ -410,21 +474,42 @@ public class InjectionResolver
             // we only cache and validate once the set of Beans is final, otherwise we would cache crap
             validateInjectionPointType(injectionPointType);
 
-            cacheKey = new BeanCacheKey(isDelegate, injectionPointType, bdaBeansXMLFilePath, this::findQualifierModel, qualifiers);
+            cacheKey = new BeanCacheKey(isDelegate, injectionPointType, bdaBeansXMLFilePath,
+                    webBeansContext.getAnnotationManager().internQualifiers(qualifiers));
 
             resolvedComponents = resolvedBeansByType.get(cacheKey);
+            if (resolvedComponents == null)
+            {
+                resolvedComponents = dynamicBeansByType.get(cacheKey);
+                if (resolvedComponents != null && injectionPoint)
+                {
+                    // first resolved by a dynamic lookup, keep it now that an injection point uses it
+                    resolvedBeansByType.put(cacheKey, resolvedComponents);
+                }
+            }
+            MetricsService metrics = webBeansContext.getMetricsService();
             if (resolvedComponents != null)
             {
+                if (metrics.isEnabled())
+                {
+                    metrics.increment(MetricsService.RESOLUTION_CACHE_HITS, "type");
+                }
                 return resolvedComponents;
             }
+            if (metrics.isEnabled())
+            {
+                metrics.increment(MetricsService.RESOLUTION_CACHE_MISSES, "type");
+            }
         }
 
         resolvedComponents = new HashSet<>();
-        HashMap<Type, Integer> visitedForGenerics = new HashMap<>();
+        AssignabilityCache assignability = webBeansContext.getAssignabilityCache();
 
         boolean returnAll = injectionPointType.equals(Object.class) && currentQualifier;
 
-        for (Bean<?> component : webBeansContext.getBeanManagerImpl().getBeans())
+        BeanManagerImpl beanManager = webBeansContext.getBeanManagerImpl();
+        Collection<Bean<?>> candidates = returnAll ? beanManager.getBeans() : beanManager.getBeanTypeIndex().getCandidates(injectionPointType);
+        for (Bean<?> component : candidates)
         {
             // no need to check instanceof OwbBean as we always wrap in a
             // ThirdpartyBeanImpl at least
@@ -455,10 +540,9 @@ public class InjectionResolver
                 {
                     for (Type componentApiType : component.getTypes())
                     {
-                        visitedForGenerics.clear();
-                        if (GenericsUtil.satisfiesDependency(
+                        if (assignability.satisfiesDependency(
                                 isDelegate, AbstractProducerBean.class.isInstance(component),
-                                injectionPointType, componentApiType, visitedForGenerics))
+                                injectionPointType, componentApiType))
                         {
                             resolvedComponents.add(component);
                             break;
@@ -470,17 +554,14 @@ public class InjectionResolver
 
         if (!returnAll)
         {
-            // Main scan may have left state in visitedForGenerics; refinement uses the same map.
-            visitedForGenerics.clear();
-
             // Look for qualifiers
             resolvedComponents = findByQualifier(resolvedComponents, injectionPointType, qualifiers);
 
             // have an additional round of checks for assignability of parameterized types.
-            Set<Bean<?>> byParameterizedType = findByParameterizedType(resolvedComponents, injectionPointType, isDelegate, visitedForGenerics);
+            Set<Bean<?>> byParameterizedType = findByParameterizedType(resolvedComponents, injectionPointType, isDelegate);
             if (byParameterizedType.isEmpty())
             {
-                resolvedComponents = findByBeanType(resolvedComponents, injectionPointType, isDelegate, visitedForGenerics);
+                resolvedComponents = findByBeanType(resolvedComponents, injectionPointType, isDelegate);
             }
             else
             {
@@ -503,11 +584,21 @@ public class InjectionResolver
         {
             if (resolvedComponents.isEmpty())
             {
-                resolvedBeansByType.put(cacheKey, Collections.emptySet());
-                return Collections.emptySet();
+                resolvedComponents = Collections.emptySet();
             }
 
-            resolvedBeansByType.put(cacheKey, resolvedComponents);
+            if (injectionPoint)
+            {
+                resolvedBeansByType.put(cacheKey, resolvedComponents);
+            }
+            else if (dynamicBeansByType.put(cacheKey, resolvedComponents))
+            {
+                MetricsService metrics = webBeansContext.getMetricsService();
+                if (metrics.isEnabled())
+                {
+                    metrics.increment(MetricsService.RESOLUTION_CACHE_EVICTIONS, "type");
+                }
+            }
 
             if (logger.isLoggable(Level.FINE))
             {
@@ -518,11 +609,7 @@ public class InjectionResolver
         return resolvedComponents;
     }
 
-    /**
-     * @param visited scratch map for {@link GenericsUtil#satisfiesDependency}; cleared before each call.
-     */
-    private Set<Bean<?>> findByBeanType(Set<Bean<?>> allComponents, Type injectionPointType, boolean isDelegate,
-                                        Map<Type, Integer> visited)
+    private Set<Bean<?>> findByBeanType(Set<Bean<?>> allComponents, Type injectionPointType, boolean isDelegate)
     {
         if (allComponents == null || allComponents.isEmpty())
         {
@@ -530,16 +617,14 @@ public class InjectionResolver
             return allComponents;
         }
 
-        visited.clear();
-
+        AssignabilityCache assignability = webBeansContext.getAssignabilityCache();
         Set<Bean<?>> resolved = new HashSet<>();
         for (Bean<?> bean : allComponents)
         {
             boolean isProducer = AbstractProducerBean.class.isInstance(bean);
             for (Type type : bean.getTypes())
             {
-                visited.clear();
-                if (GenericsUtil.satisfiesDependency(isDelegate, isProducer, injectionPointType, type, visited))
+                if (assignability.satisfiesDependency(isDelegate, isProducer, injectionPointType, type))
                 {
                     resolved.add(bean);
                 }
@@ -554,15 +639,10 @@ public class InjectionResolver
         return resolved;
     }
 
-    /**
-     * @param visited scratch map for {@link GenericsUtil#satisfiesDependency}; cleared before each call.
-     */
-    private Set<Bean<?>> findByParameterizedType(Set<Bean<?>> allComponents, Type injectionPointType, boolean isDelegate,
-                                                 Map<Type, Integer> visited)
+    private Set<Bean<?>> findByParameterizedType(Set<Bean<?>> allComponents, Type injectionPointType, boolean isDelegate)
     {
         Bean<?> rawProducerBean = null;
-
-        visited.clear();
+        AssignabilityCache assignability = webBeansContext.getAssignabilityCache();
 
         Set<Bean<?>> resolvedComponents = new HashSet<>();
         for (Bean<?> component : allComponents)
@@ -570,8 +650,7 @@ public class InjectionResolver
             boolean isProducer = AbstractProducerBean.class.isInstance(component);
             for (Type componentApiType : component.getTypes())
             {
-                visited.clear();
-                if (GenericsUtil.satisfiesDependency(isDelegate, isProducer, injectionPointType, componentApiType, visited))
+                if (assignability.satisfiesDependency(isDelegate, isProducer, injectionPointType, componentApiType))
                 {
                     resolvedComponents.add(component);
                     break;
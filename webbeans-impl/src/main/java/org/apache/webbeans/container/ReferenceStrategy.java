@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+import java.lang.reflect.Type;
+
+/**
+ * How {@link BeanManagerImpl#getReference(Bean, Type, CreationalContext)} gets the reference of a bean:
+ * a normal scoped proxy, a lookup in the context of a pseudo scope or an EJB/JMS proxy.
+ * It only depends on the kind and scope of the bean, so it gets determined once per bean
+ * after the bean discovery and then kept by the bean.
+ *
+ * @see org.apache.webbeans.component.AbstractOwbBean#getReferenceStrategy()
+ */
+@FunctionalInterface
+public interface ReferenceStrategy
+{
+    /**
+     * @param bean the bean, already unwrapped and validated
+     * @param beanType the requested bean type
+     * @param creationalContext the {@link org.apache.webbeans.context.creational.CreationalContextImpl} to use
+     */
+    Object getReference(Bean<?> bean, Type beanType, CreationalContext<?> creationalContext);
+}
@@ -38,6 +38,8 @@ import jakarta.enterprise.context.spi.CreationalContext;
 import org.apache.webbeans.container.SerializableBean;
 import org.apache.webbeans.container.SerializableBeanVault;
 import org.apache.webbeans.context.creational.BeanInstanceBag;
+import org.apache.webbeans.jfr.JfrEvents;
+import org.apache.webbeans.jfr.JfrSupport;
 
 /**
  * Abstract implementation of the {@link jakarta.enterprise.context.spi.Context} interfaces.
@@ -154,6 +156,18 @@ public abstract class AbstractContext implements AlterableContext, Serializable
                 return null;
             }
             
+            else if (JfrSupport.AVAILABLE)
+            {
+                Object jfrEvent = JfrEvents.beginBeanCreation(contextual, scopeType);
+                try
+                {
+                    instance = bag.create(contextual);
+                }
+                finally
+                {
+                    JfrEvents.commit(jfrEvent);
+                }
+            }
             else
             {                
                 instance = bag.create(contextual);    
@@ -169,6 +183,14 @@ public abstract class AbstractContext implements AlterableContext, Serializable
         destroyInstance(contextual);
     }
 
+    /**
+     * @return the number of contextual instances currently held by this context
+     */
+    public int getInstanceCount()
+    {
+        return componentInstanceMap == null ? 0 : componentInstanceMap.size();
+    }
+
     /**
      * Internal destroy method.
      */
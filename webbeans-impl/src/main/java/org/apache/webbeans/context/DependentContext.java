@@ -22,6 +22,9 @@ import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.context.spi.CreationalContext;
 
+import org.apache.webbeans.jfr.JfrEvents;
+import org.apache.webbeans.jfr.JfrSupport;
+
 /**
  * Defines the component {@link jakarta.enterprise.context.Dependent} context.
  * <p>
@@ -63,6 +66,18 @@ public class DependentContext extends AbstractContext
         {
             return null;
         }
+        else if (JfrSupport.AVAILABLE)
+        {
+            Object jfrEvent = JfrEvents.beginBeanCreation(component, scopeType);
+            try
+            {
+                return component.create(creationalContext);
+            }
+            finally
+            {
+                JfrEvents.commit(jfrEvent);
+            }
+        }
         else
         {
             return component.create(creationalContext);
@@ -22,6 +22,7 @@ package org.apache.webbeans.corespi.scanner;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 
+import org.apache.webbeans.config.BootstrapMonitor;
 import org.apache.webbeans.config.OWBLogConst;
 import org.apache.webbeans.config.OpenWebBeansConfiguration;
 import org.apache.webbeans.config.WebBeansContext;
@@ -218,6 +219,8 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
     @Override
     public void scan() throws WebBeansDeploymentException
     {
+        BootstrapMonitor monitor = webBeansContext().getBootstrapMonitor();
+        monitor.startPhase("scan");
         try
         {
             configure();
@@ -227,6 +230,10 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
         {
             throw new WebBeansDeploymentException(e);
         }
+        finally
+        {
+            monitor.endPhase();
+        }
     }
 
     protected abstract void configure();
@@ -423,6 +430,7 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
         annotationFinders = null;
         loader = null;
         annotationCache.clear();
+        beanClassesPerBda = Collections.emptyMap();
     }
 
 
@@ -505,6 +513,7 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
     /**
      * This method only gets called if the initialisation is done already.
      * It will collect all the classes from all the BDAs it can find.
+     * After {@link #release()} it returns an empty Map.
      */
     public Map<BeanArchiveService.BeanArchiveInformation, Set<Class<?>>> getBeanClassesPerBda()
     {
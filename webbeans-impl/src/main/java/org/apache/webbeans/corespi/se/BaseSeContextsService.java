@@ -45,6 +45,9 @@ import org.apache.webbeans.conversation.ConversationImpl;
 import org.apache.webbeans.conversation.ConversationManager;
 import org.apache.webbeans.intercept.RequestScopedBeanInterceptorHandler;
 import org.apache.webbeans.intercept.SessionScopedBeanInterceptorHandler;
+import org.apache.webbeans.jfr.JfrEvents;
+import org.apache.webbeans.jfr.JfrSupport;
+import org.apache.webbeans.spi.MetricsService;
 
 
 public abstract class BaseSeContextsService extends AbstractContextsService
@@ -84,30 +87,39 @@ public abstract class BaseSeContextsService extends AbstractContextsService
     @Override
     public void endContext(Class<? extends Annotation> scopeType, Object endParameters)
     {
-        
-        if(scopeType.equals(RequestScoped.class))
-        {
-            stopRequestContext();
-        }
-        else if(scopeType.equals(SessionScoped.class))
-        {
-            stopSessionContext();
-        }
-        else if(scopeType.equals(ApplicationScoped.class))
-        {
-            stopApplicationContext();
-        }
-        else if(scopeType.equals(ConversationScoped.class))
+        Object jfrEvent = JfrSupport.AVAILABLE ? JfrEvents.beginContextLifecycle(scopeType, "end") : null;
+        try
         {
-            stopConversationContext();
+            if(scopeType.equals(RequestScoped.class))
+            {
+                stopRequestContext();
+            }
+            else if(scopeType.equals(SessionScoped.class))
+            {
+                stopSessionContext();
+            }
+            else if(scopeType.equals(ApplicationScoped.class))
+            {
+                stopApplicationContext();
+            }
+            else if(scopeType.equals(ConversationScoped.class))
+            {
+                stopConversationContext();
+            }
+            else if(scopeType.equals(Singleton.class))
+            {
+                stopSingletonContext();
+            }
+
+            // do nothing for Dependent.class
         }
-        else if(scopeType.equals(Singleton.class))
+        finally
         {
-            stopSingletonContext();
+            if (jfrEvent != null)
+            {
+                JfrEvents.commit(jfrEvent);
+            }
         }
-
-        // do nothing for Dependent.class
-
     }
 
 
@@ -152,6 +164,7 @@ public abstract class BaseSeContextsService extends AbstractContextsService
     @Override
     public void startContext(Class<? extends Annotation> scopeType, Object startParameter) throws ContextException
     {
+        Object jfrEvent = JfrSupport.AVAILABLE ? JfrEvents.beginContextLifecycle(scopeType, "start") : null;
         try
         {
             if(scopeType.equals(RequestScoped.class))
@@ -185,7 +198,14 @@ public abstract class BaseSeContextsService extends AbstractContextsService
         catch (Exception e)
         {
             throw new ContextException(e);
-        }        
+        }
+        finally
+        {
+            if (jfrEvent != null)
+            {
+                JfrEvents.commit(jfrEvent);
+            }
+        }
     }
 
     @Override
@@ -453,6 +473,11 @@ public abstract class BaseSeContextsService extends AbstractContextsService
         SessionContext activeContext = sessionContext.get();
         if(activeContext != null)
         {
+            MetricsService metrics = webBeansContext.getMetricsService();
+            if (metrics.isEnabled())
+            {
+                metrics.record(MetricsService.SESSION_CONTEXT_SIZE, null, activeContext.getInstanceCount());
+            }
             activeContext.destroy();   
         }
 
@@ -77,6 +77,12 @@ public final class ELContextStore
      */
     private Map<String, Object> normalScopedObjects = new HashMap<>();
 
+    /**
+     * Same as {@link #normalScopedObjects} but indexed by the slots of the
+     * {@link org.apache.webbeans.container.BeanNameIndex}, lazily created.
+     */
+    private Object[] normalScopedSlots;
+
     public Object findBeanByName(String name)
     {
         Object cachedBean = normalScopedObjects.get(name);
@@ -173,6 +179,37 @@ public final class ELContextStore
         normalScopedObjects.put(beanName, contextualInstance);
     }
 
+    /**
+     * @param slot the slot of the bean in the {@link org.apache.webbeans.container.BeanNameIndex}
+     * @return the cached &#064;NormalScoped bean proxy or <code>null</code>
+     */
+    public Object getNormalScoped(int slot)
+    {
+        Object[] slots = normalScopedSlots;
+        return slots != null && slot < slots.length ? slots[slot] : null;
+    }
+
+    /**
+     * Same as {@link #addNormalScoped(String, Object)} but for beans with a slot in the
+     * {@link org.apache.webbeans.container.BeanNameIndex}.
+     * @param slot the slot of the bean
+     * @param contextualInstance the proxy to cache
+     * @param slotCount the number of slots of the index
+     */
+    public void addNormalScoped(int slot, Object contextualInstance, int slotCount)
+    {
+        if (normalScopedSlots == null || slot >= normalScopedSlots.length)
+        {
+            Object[] slots = new Object[Math.max(slot + 1, slotCount)];
+            if (normalScopedSlots != null)
+            {
+                System.arraycopy(normalScopedSlots, 0, slots, 0, normalScopedSlots.length);
+            }
+            normalScopedSlots = slots;
+        }
+        normalScopedSlots[slot] = contextualInstance;
+    }
+
     /**
      * This method have to be called after the EL parsing to cleanup the cache
      * for &#064;Dependent scoped beans.
@@ -200,6 +237,7 @@ public final class ELContextStore
     public void destroyELContextStore()
     {
         normalScopedObjects.clear();
+        normalScopedSlots = null;
         contextStores.set(null);
         contextStores.remove();
     }
@@ -23,7 +23,7 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -37,8 +37,10 @@ import jakarta.enterprise.inject.spi.EventMetadata;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.enterprise.util.TypeLiteral;
 
+import org.apache.webbeans.annotation.QualifierId;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.util.Asserts;
+import org.apache.webbeans.spi.MetricsService;
 
 /**
  * Event implementation.
@@ -180,6 +182,11 @@ public class EventImpl<T> implements Event<T>, Serializable
                         notificationManager.resolveObservers(event, metadata, false));
                 notificationManager.prepareObserverListForFire(false, false, tmp);
                 this.defaultMetadataObservers = tmp;
+                observerCacheMetric(MetricsService.OBSERVER_CACHE_MISSES, "sync");
+            }
+            else
+            {
+                observerCacheMetric(MetricsService.OBSERVER_CACHE_HITS, "sync");
             }
             observerMethods = defaultMetadataObservers;
         }
@@ -200,8 +207,8 @@ public class EventImpl<T> implements Event<T>, Serializable
                     }
                 }
             }
-            final ObserverCacheKey key = new ObserverCacheKey(
-                    event.getClass(), metadata.validatedType(), metadata.getQualifiers());
+            final ObserverCacheKey key = new ObserverCacheKey(event.getClass(), metadata.validatedType(),
+                    webBeansContext.getAnnotationManager().internQualifiers(metadata.getQualifiers()));
             observerMethods = observers.get(key);
             if (observerMethods == null)
             {
@@ -209,6 +216,11 @@ public class EventImpl<T> implements Event<T>, Serializable
                         notificationManager.resolveObservers(event, metadata, false));
                 notificationManager.prepareObserverListForFire(false, false, observerMethods);
                 this.observers.putIfAbsent(key, observerMethods);
+                observerCacheMetric(MetricsService.OBSERVER_CACHE_MISSES, "sync");
+            }
+            else
+            {
+                observerCacheMetric(MetricsService.OBSERVER_CACHE_HITS, "sync");
             }
         }
         notificationManager.doFireSync(new EventContextImpl<>(event, metadata), false, observerMethods);
@@ -226,6 +238,11 @@ public class EventImpl<T> implements Event<T>, Serializable
                         notificationManager.resolveObservers(event, metadata, false));
                 notificationManager.prepareObserverListForFire(false, true, tmp);
                 this.defaultMetadataAsyncObservers = tmp;
+                observerCacheMetric(MetricsService.OBSERVER_CACHE_MISSES, "async");
+            }
+            else
+            {
+                observerCacheMetric(MetricsService.OBSERVER_CACHE_HITS, "async");
             }
             observerMethods = defaultMetadataAsyncObservers;
         }
@@ -246,8 +263,8 @@ public class EventImpl<T> implements Event<T>, Serializable
                     }
                 }
             }
-            final ObserverCacheKey key = new ObserverCacheKey(
-                    event.getClass(), metadata.validatedType(), metadata.getQualifiers());
+            final ObserverCacheKey key = new ObserverCacheKey(event.getClass(), metadata.validatedType(),
+                    webBeansContext.getAnnotationManager().internQualifiers(metadata.getQualifiers()));
             observerMethods = asyncObservers.get(key);
             if (observerMethods == null)
             {
@@ -255,25 +272,39 @@ public class EventImpl<T> implements Event<T>, Serializable
                         notificationManager.resolveObservers(event, metadata, false));
                 notificationManager.prepareObserverListForFire(false, true, observerMethods);
                 this.asyncObservers.putIfAbsent(key, observerMethods);
+                observerCacheMetric(MetricsService.OBSERVER_CACHE_MISSES, "async");
+            }
+            else
+            {
+                observerCacheMetric(MetricsService.OBSERVER_CACHE_HITS, "async");
             }
         }
         return notificationManager.doFireAsync(
                 new EventContextImpl<>(event, metadata), false, options, observerMethods);
     }
 
+    private void observerCacheMetric(String name, String tag)
+    {
+        MetricsService metrics = webBeansContext.getMetricsService();
+        if (metrics.isEnabled())
+        {
+            metrics.increment(name, tag);
+        }
+    }
+
     private static class ObserverCacheKey
     {
         private final Class<?> clazz;
         private final Type type;
-        private final Collection<Annotation> qualifiers;
+        private final QualifierId[] qualifiers;
         private final int hash;
 
-        private ObserverCacheKey(Class<?> clazz, Type type, Collection<Annotation> qualifiers)
+        private ObserverCacheKey(Class<?> clazz, Type type, QualifierId[] qualifiers)
         {
             this.clazz = clazz;
             this.type = type;
             this.qualifiers = qualifiers;
-            this.hash = Objects.hash(clazz, type, qualifiers);
+            this.hash = 31 * Objects.hash(clazz, type) + Arrays.hashCode(qualifiers);
         }
 
         @Override
@@ -290,7 +321,7 @@ public class EventImpl<T> implements Event<T>, Serializable
             ObserverCacheKey that = ObserverCacheKey.class.cast(o);
             return Objects.equals(clazz, that.clazz) &&
                     Objects.equals(type, that.type) &&
-                    Objects.equals(qualifiers, that.qualifiers);
+                    Arrays.equals(qualifiers, that.qualifiers);
         }
 
         @Override
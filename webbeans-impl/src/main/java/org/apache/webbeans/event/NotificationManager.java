@@ -28,7 +28,6 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -72,12 +71,17 @@ import jakarta.enterprise.inject.spi.ProcessProducerMethod;
 import jakarta.enterprise.inject.spi.ProcessSyntheticBean;
 import jakarta.enterprise.inject.spi.ProcessSyntheticObserverMethod;
 
+import org.apache.webbeans.annotation.AnnotationManager;
+import org.apache.webbeans.annotation.QualifierId;
 import org.apache.webbeans.component.AbstractOwbBean;
+import org.apache.webbeans.config.BootstrapMonitor;
 import org.apache.webbeans.config.OWBLogConst;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.exception.WebBeansConfigurationException;
 import org.apache.webbeans.exception.WebBeansDeploymentException;
 import org.apache.webbeans.exception.WebBeansException;
+import org.apache.webbeans.jfr.JfrEvents;
+import org.apache.webbeans.jfr.JfrSupport;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
 import org.apache.webbeans.portable.events.ProcessAnnotatedTypeImpl;
 import org.apache.webbeans.portable.events.generics.GProcessObserverMethod;
@@ -85,6 +89,8 @@ import org.apache.webbeans.portable.events.generics.GenericBeanEvent;
 import org.apache.webbeans.portable.events.generics.GenericProducerObserverEvent;
 import org.apache.webbeans.portable.events.generics.TwoParametersGenericBeanEvent;
 import org.apache.webbeans.spi.ContextsService;
+import org.apache.webbeans.spi.MetricsService;
+import org.apache.webbeans.spi.ThreadSafeExtension;
 import org.apache.webbeans.spi.TransactionService;
 import org.apache.webbeans.util.AnnotationUtil;
 import org.apache.webbeans.util.Asserts;
@@ -115,6 +121,12 @@ public class NotificationManager
     private final ConcurrentHashMap<Class<?>, Set<ObserverMethod<?>>> observersByRawType
         = new ConcurrentHashMap<>();
 
+    /**
+     * The interned observed qualifiers of each ObserverMethod, filled once the bean discovery is done.
+     */
+    private final ConcurrentMap<ObserverMethod<?>, QualifierId[]> observedQualifierIds
+        = new ConcurrentHashMap<>();
+
     // this is actually faster than a lambda Comparator.comparingInt(ObserverMethod::getPriority)
     private Comparator<? super ObserverMethod<? super Object>> observerMethodComparator
         = (Comparator<ObserverMethod<? super Object>>) (o1, o2) -> Integer.compare(o1.getPriority(), o2.getPriority());
@@ -159,6 +171,7 @@ public class NotificationManager
     {
         observersByRawType.clear();
         hasContextLifecycleEventObservers.clear();
+        observedQualifierIds.clear();
 
         processAnnotatedTypeObservers = null;
         processBeanAttributesObservers = null;
@@ -224,6 +237,17 @@ public class NotificationManager
         return !processAnnotatedTypeObservers.isEmpty();
     }
 
+    /**
+     * @return {@code true} if all ProcessAnnotatedType observers are declared on a {@link ThreadSafeExtension}
+     */
+    public boolean hasThreadSafeProcessAnnotatedTypeObservers()
+    {
+        cacheIfNeeded(new ProcessAnnotatedTypeImpl<>(null, null));
+        return processAnnotatedTypeObservers.values().stream()
+                .flatMap(Collection::stream)
+                .allMatch(observer -> ThreadSafeExtension.class.isAssignableFrom(observer.getBeanClass()));
+    }
+
     public <T> Collection<ObserverMethod<? super T>> resolveObservers(T event, EventMetadataImpl metadata, boolean isLifecycleEvent)
     {
         if (isLifecycleEvent) // goal here is to skip any resolution if not needed
@@ -531,8 +555,24 @@ public class NotificationManager
         {
             return filterByExtensionEventType(event, declaredEventType);
         }
-        Class<?> eventClass = event.getClass();
+        return filterByType(declaredEventType, event.getClass());
+    }
 
+    /**
+     * Resolves and caches the observer methods for events of the given raw class upfront,
+     * so the first event of that type does not need to match all observer methods.
+     */
+    public void warmUpObservers(Class<?> eventClass)
+    {
+        // generic event classes would resolve to a type closure with unbound type variables
+        if (eventClass.getTypeParameters().length == 0 && !observersByRawType.containsKey(eventClass))
+        {
+            filterByType(eventClass, eventClass);
+        }
+    }
+
+    private <T> Set<ObserverMethod<? super T>> filterByType(Type declaredEventType, Class<?> eventClass)
+    {
         // whether the fired event is a raw java class or a generic type
         boolean isRawEvent = declaredEventType instanceof Class;
         if (isRawEvent)
@@ -558,8 +598,8 @@ public class NotificationManager
             for (Type eventType : eventTypes)
             {
                 if ((ParameterizedType.class.isInstance(eventType) && Class.class.isInstance(observedType)
-                        && GenericsUtil.isAssignableFrom(true, false, observedType, ParameterizedType.class.cast(eventType).getRawType(), new HashMap<>()))
-                    || GenericsUtil.isAssignableFrom(true, false, observedType, eventType, new HashMap<>()))
+                        && webBeansContext.getAssignabilityCache().isAssignableFrom(true, false, observedType, ParameterizedType.class.cast(eventType).getRawType()))
+                    || webBeansContext.getAssignabilityCache().isAssignableFrom(true, false, observedType, eventType))
                 {
                     Set<ObserverMethod<?>> observerMethods = observerEntry.getValue();
 
@@ -736,7 +776,7 @@ public class NotificationManager
     {
         if(ClassUtil.isTypeVariable(observerTypeActualArg))
         {
-            if (Class.class.isInstance(beanClass) && GenericsUtil.isAssignableFrom(false, true, observerTypeActualArg, beanClass, new HashMap<>()))
+            if (Class.class.isInstance(beanClass) && webBeansContext.getAssignabilityCache().isAssignableFrom(false, true, observerTypeActualArg, beanClass))
             {
                 return true;
             }
@@ -755,7 +795,7 @@ public class NotificationManager
         }
         else if(observerTypeActualArg instanceof ParameterizedType)
         {
-            return GenericsUtil.isAssignableFrom(true, true, observerTypeActualArg, beanClass, new HashMap<>());
+            return webBeansContext.getAssignabilityCache().isAssignableFrom(true, true, observerTypeActualArg, beanClass);
         }
         
         return false;
@@ -790,7 +830,7 @@ public class NotificationManager
             if(checkEventTypeParameterForExtensions(beanClass, actualArgs[0])
                     && (secondParam == null || actualArgs.length == 1
                             || checkEventTypeParameterForExtensions(secondParam, actualArgs[1])
-                            || GenericsUtil.isAssignableFrom(true, false, actualArgs[1], secondParam, new HashMap<>())))
+                            || webBeansContext.getAssignabilityCache().isAssignableFrom(true, false, actualArgs[1], secondParam)))
             {
                 addToMatching(type, matching);   
             }
@@ -852,6 +892,11 @@ public class NotificationManager
      */
     private <T> Collection<ObserverMethod<? super T>> filterByQualifiers(Collection<ObserverMethod<? super T>> observers, Set<Annotation> eventQualifiers)
     {
+        if (webBeansContext.getBeanManagerImpl().isAfterBeanDiscoveryDone())
+        {
+            return filterByQualifierIds(observers, eventQualifiers);
+        }
+
         List<ObserverMethod<? super T>> matching = new ArrayList<>(observers.size());
 
         search: for (ObserverMethod<? super T> ob : observers)
@@ -888,6 +933,47 @@ public class NotificationManager
         return matching;
     }
 
+    /**
+     * Same as {@link #filterByQualifiers(Collection, Set)} but compares the interned qualifiers.
+     */
+    private <T> Collection<ObserverMethod<? super T>> filterByQualifierIds(Collection<ObserverMethod<? super T>> observers, Set<Annotation> eventQualifiers)
+    {
+        AnnotationManager annotationManager = webBeansContext.getAnnotationManager();
+        QualifierId[] eventQualifierIds = annotationManager.internQualifiers(eventQualifiers);
+        List<ObserverMethod<? super T>> matching = new ArrayList<>(observers.size());
+
+        search: for (ObserverMethod<? super T> ob : observers)
+        {
+            QualifierId[] qualifiers = observedQualifierIds.computeIfAbsent(ob, o -> annotationManager.internQualifiers(o.getObservedQualifiers()));
+            if (qualifiers.length > eventQualifierIds.length)
+            {
+                continue;
+            }
+
+            for (QualifierId qualifier : qualifiers)
+            {
+                boolean found = false;
+                for (QualifierId inList : eventQualifierIds)
+                {
+                    if (inList.equals(qualifier))
+                    {
+                        found = true;
+                        break;
+                    }
+                }
+
+                if (!found)
+                {
+                    continue search;
+                }
+            }
+
+            matching.add(ob);
+        }
+
+        return matching;
+    }
+
     public NotificationOptions getDefaultNotificationOptions()
     {
         return defaultNotificationOptions;
@@ -984,9 +1070,22 @@ public class NotificationManager
             {
                 TransactionPhase phase = observer.getTransactionPhase();
 
-                if (phase == null || phase == TransactionPhase.IN_PROGRESS)
+                if (isLifecycleEvent && (phase == null || phase == TransactionPhase.IN_PROGRESS))
+                {
+                    BootstrapMonitor monitor = webBeansContext.getBootstrapMonitor();
+                    Object measure = monitor.beforeExtensionObserver(observer, context.getEvent());
+                    try
+                    {
+                        invokeObserverMethod(context, observer);
+                    }
+                    finally
+                    {
+                        monitor.afterExtensionObserver(observer, measure);
+                    }
+                }
+                else if (phase == null || phase == TransactionPhase.IN_PROGRESS)
                 {
-                    invokeObserverMethod(context, observer);
+                    notifyObserver(context, observer, false);
                 }
                 else
                 {
@@ -997,7 +1096,7 @@ public class NotificationManager
                     }
                     else
                     {
-                        invokeObserverMethod(context, observer);
+                        notifyObserver(context, observer, false);
                     }
                 }
             }
@@ -1097,7 +1196,17 @@ public class NotificationManager
                                            NotificationOptions notificationOptions)
     {
         CompletableFuture<?> future = new CompletableFuture<>();
+        MetricsService metrics = webBeansContext.getMetricsService();
+        boolean reportQueue = metrics.isEnabled();
+        if (reportQueue)
+        {
+            metrics.increment(MetricsService.ASYNC_EVENTS_QUEUED, null);
+        }
         CompletableFuture.runAsync(() -> {
+            if (reportQueue)
+            {
+                metrics.decrement(MetricsService.ASYNC_EVENTS_QUEUED, null);
+            }
             try
             {
                 runAsync(context, observer);
@@ -1118,7 +1227,7 @@ public class NotificationManager
         contextsService.startContext(RequestScoped.class, null);
         try
         {
-            invokeObserverMethod(context, observer);
+            notifyObserver(context, observer, true);
         }
         finally
         {
@@ -1131,6 +1240,26 @@ public class NotificationManager
         observer.notify(context);
     }
 
+    private void notifyObserver(EventContext<?> context, ObserverMethod<?> observer, boolean async)
+    {
+        if (JfrSupport.AVAILABLE)
+        {
+            Object jfrEvent = JfrEvents.beginObserverNotification(context.getEvent(), observer, async);
+            try
+            {
+                invokeObserverMethod(context, observer);
+            }
+            finally
+            {
+                JfrEvents.commit(jfrEvent);
+            }
+        }
+        else
+        {
+            invokeObserverMethod(context, observer);
+        }
+    }
+
     /**
      * Gets observer method from given annotated method.
      * @param <T> bean type info
@@ -62,6 +62,7 @@ import org.apache.webbeans.exception.WebBeansException;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
 import org.apache.webbeans.proxy.OwbNormalScopeProxy;
 import org.apache.webbeans.spi.plugins.OpenWebBeansEjbPlugin;
+import org.apache.webbeans.util.ImmutableArraySet;
 
 /**
  * Defines observers that are declared in observer methods.
@@ -165,14 +166,15 @@ public class ObserverMethodImpl<T> implements OwbObserverMethod<T>
             isAsync = true;
         }
 
-        observedQualifiers = new HashSet<>();
+        Set<Annotation> qualifiers = new HashSet<>();
         for (Annotation annotation: annotatedObservesParameter.getAnnotations())
         {
             if (ownerBean.getWebBeansContext().getAnnotationManager().isQualifierAnnotation(annotation.annotationType()))
             {
-                observedQualifiers.add(annotation);
+                qualifiers.add(annotation);
             }
         }
+        observedQualifiers = ImmutableArraySet.copyOf(qualifiers);
 
         // detect the Priority
         Priority priorityAnn = annotatedObservesParameter.getAnnotation(Priority.class);
@@ -191,14 +193,15 @@ public class ObserverMethodImpl<T> implements OwbObserverMethod<T>
             view = annotatedObserverMethod.getJavaMember();
         }
 
-        injectionPoints = new LinkedHashSet<>();
+        Set<InjectionPoint> observerInjectionPoints = new LinkedHashSet<>();
         for (AnnotatedParameter<?> parameter: annotatedObserverMethod.getParameters())
         {
             if (!parameter.isAnnotationPresent(observerAnnotation))
             {
-                injectionPoints.add(getWebBeansContext().getInjectionPointFactory().buildInjectionPoint(ownerBean, parameter, fireEvent));
+                observerInjectionPoints.add(getWebBeansContext().getInjectionPointFactory().buildInjectionPoint(ownerBean, parameter, fireEvent));
             }
         }
+        injectionPoints = ImmutableArraySet.copyOf(observerInjectionPoints);
 
         checkObserverCondition(annotatedObservesParameter);
 
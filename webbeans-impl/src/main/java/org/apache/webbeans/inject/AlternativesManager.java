@@ -19,11 +19,11 @@
 package org.apache.webbeans.inject;
 
 import java.lang.annotation.Annotation;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.annotation.Priority;
 import jakarta.enterprise.inject.Alternative;
@@ -73,7 +73,7 @@ public class AlternativesManager
      * Contains all Alternative Stereotypes which are NOT enabled via beans.xml
      * We need those for classes which  have a @Priority.
      */
-    private final Map<Class<? extends Annotation>, Boolean> notEnabledStereotypeAlternatives = new HashMap<>();
+    private final Map<Class<? extends Annotation>, Boolean> notEnabledStereotypeAlternatives = new ConcurrentHashMap<>();
 
 
     private final PriorityClasses priorityAlternatives = new PriorityClasses();
@@ -52,6 +52,7 @@ import org.apache.webbeans.container.BeanManagerImpl;
 import org.apache.webbeans.event.EventUtil;
 import org.apache.webbeans.portable.AnnotatedElementFactory;
 import org.apache.webbeans.util.Asserts;
+import org.apache.webbeans.util.ImmutableArraySet;
 import org.apache.webbeans.util.OwbCustomObjectInputStream;
 import org.apache.webbeans.util.WebBeansUtil;
 
@@ -96,7 +97,7 @@ public class InjectionPointImpl implements InjectionPoint, Serializable
         this.injectionType = bean.getBeanClass();
         this.qualifierAnnotations = bean.getQualifiers() == null ?
                 Collections.<Annotation>emptySet() :
-            Set.copyOf(bean.getQualifiers());
+            ImmutableArraySet.copyOf(bean.getQualifiers());
         this.annotated = null;
         this.injectionMember = null;
         this.delegate = false;
@@ -116,7 +117,7 @@ public class InjectionPointImpl implements InjectionPoint, Serializable
         Asserts.assertNotNull(qualifiers, "qualifiers");
         this.ownerBean = ownerBean;
         injectionType = type;
-        qualifierAnnotations = Set.copyOf(qualifiers);
+        qualifierAnnotations = ImmutableArraySet.copyOf(qualifiers);
         this.annotated = annotated;
         injectionMember = member;
         this.delegate = delegate;
@@ -332,7 +333,7 @@ public class InjectionPointImpl implements InjectionPoint, Serializable
             Annotation ann = (Annotation) in.readObject();  // now read the annotation.
             qualifiers.add(ann);
         }
-        return qualifiers;
+        return ImmutableArraySet.copyOf(qualifiers);
     }
 
     public String toString()
@@ -21,6 +21,8 @@ package org.apache.webbeans.intercept;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 
+import org.apache.webbeans.proxy.ContextualInstanceCache;
+
 
 /**
  * <p>This is a {@link jakarta.inject.Provider} especially
@@ -48,6 +50,12 @@ public class ApplicationScopedBeanInterceptorHandler extends NormalScopedBeanInt
      */
     private transient Object cachedInstance;
 
+    /**
+     * The cache shared with the caching proxies of the bean,
+     * {@code null} if this handler does not serve a {@link org.apache.webbeans.proxy.OwbCachingNormalScopeProxy}.
+     */
+    private transient volatile ContextualInstanceCache contextualInstanceCache;
+
 
     public ApplicationScopedBeanInterceptorHandler(BeanManager beanManager, Bean<?> bean)
     {
@@ -60,6 +68,19 @@ public class ApplicationScopedBeanInterceptorHandler extends NormalScopedBeanInt
     @Override
     protected Object getContextualInstance()
     {
+        ContextualInstanceCache cache = contextualInstanceCache;
+        if (cache != null)
+        {
+            Object instance = cache.get();
+            if (instance == null)
+            {
+                int generation = cache.getGeneration();
+                instance = super.getContextualInstance();
+                cache.set(instance, generation);
+            }
+            return instance;
+        }
+
         if (cachedInstance == null) 
         {
             cachedInstance = super.getContextualInstance();
@@ -68,4 +89,13 @@ public class ApplicationScopedBeanInterceptorHandler extends NormalScopedBeanInt
         return cachedInstance;
     }
 
+    /**
+     * Use the given cache instead of the own field, which makes the handler
+     * honour the destruction of the Contextual Instance.
+     */
+    public void setContextualInstanceCache(ContextualInstanceCache contextualInstanceCache)
+    {
+        this.contextualInstanceCache = contextualInstanceCache;
+    }
+
 }
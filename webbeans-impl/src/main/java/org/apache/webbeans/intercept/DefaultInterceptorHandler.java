@@ -22,6 +22,8 @@ import org.apache.webbeans.component.InjectionTargetBean;
 import org.apache.webbeans.component.SelfInterceptorBean;
 import org.apache.webbeans.component.WebBeansType;
 import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.jfr.JfrEvents;
+import org.apache.webbeans.jfr.JfrSupport;
 import org.apache.webbeans.portable.InjectionTargetImpl;
 import org.apache.webbeans.proxy.InterceptorHandler;
 import org.apache.webbeans.util.ExceptionUtil;
@@ -163,6 +165,18 @@ public class DefaultInterceptorHandler<T> implements InterceptorHandler, Externa
             InterceptorInvocationContext<T> ctx
                 = new InterceptorInvocationContext<T>(new InstanceProvider(delegate), InterceptionType.AROUND_INVOKE, methodInterceptors, instances, method, parameters, bindings);
 
+            if (JfrSupport.AVAILABLE)
+            {
+                Object jfrEvent = JfrEvents.beginInterceptorChain(method, methodInterceptors.size());
+                try
+                {
+                    return ctx.proceed();
+                }
+                finally
+                {
+                    JfrEvents.commit(jfrEvent);
+                }
+            }
             return ctx.proceed();
         }
         catch (Exception e)
@@ -35,6 +35,7 @@ import org.apache.webbeans.proxy.InterceptorHandler;
 import org.apache.webbeans.util.AnnotationUtil;
 import org.apache.webbeans.util.Asserts;
 import org.apache.webbeans.util.ClassUtil;
+import org.apache.webbeans.util.ImmutableArraySet;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -126,7 +127,7 @@ public class InterceptorResolutionService
         List<Interceptor<?>> classLevelInterceptors;
         if (classInterceptorBindings.size() > 0)
         {
-            classLevelInterceptors = webBeansContext.getBeanManagerImpl().resolveInterceptors(InterceptionType.AROUND_INVOKE, AnnotationUtil.asArray(classInterceptorBindings));
+            classLevelInterceptors = resolveInterceptors(InterceptionType.AROUND_INVOKE, AnnotationUtil.asArray(classInterceptorBindings));
             allUsedCdiInterceptors.addAll(classLevelInterceptors);
         }
         else
@@ -138,9 +139,8 @@ public class InterceptorResolutionService
         Set<Annotation> aroundConstructInterceptorBindings
                 = addCdiClassLifecycleInterceptors(annotatedType, classInterceptorBindings, allUsedCdiInterceptors, allUsedConstructorCdiInterceptors);
 
-        Set<Annotation> classLevelInterceptorBindings = classInterceptorBindings.isEmpty()
-                ? Collections.emptySet()
-                : Collections.unmodifiableSet(new LinkedHashSet<>(classInterceptorBindings));
+        // shared by all methods which only use the class level interceptors
+        Set<Annotation> classLevelInterceptorBindings = ImmutableArraySet.copyOf(classInterceptorBindings);
 
         // we need to preserve the order!
         LinkedHashSet<Interceptor<?>> allUsedEjbInterceptors = new LinkedHashSet<>(classLevelEjbInterceptors);
@@ -163,7 +163,7 @@ public class InterceptorResolutionService
             calculateEjbMethodInterceptors(methodInterceptorInfo, allUsedEjbInterceptors, classLevelEjbInterceptors, annotatedMethod, failOnFinal);
 
             calculateCdiMethodInterceptors(methodInterceptorInfo, InterceptionType.AROUND_INVOKE, allUsedCdiInterceptors, annotatedMethod,
-                                           classInterceptorBindings, classLevelInterceptors, failOnFinal);
+                                           classLevelInterceptorBindings, classLevelInterceptors, failOnFinal);
 
             calculateCdiMethodDecorators(methodInterceptorInfo, decorators, annotatedMethod, failOnFinal);
 
@@ -263,6 +263,16 @@ public class InterceptorResolutionService
                 cib);
     }
 
+    /**
+     * Resolves the interceptors via the shared cache of the {@link InterceptorsManager}.
+     * The returned list must not be modified.
+     */
+    private List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings)
+    {
+        webBeansContext.getAnnotationManager().checkInterceptorResolverParams(interceptorBindings);
+        return webBeansContext.getInterceptorsManager().getInterceptors(type, interceptorBindings);
+    }
+
     /**
      * Lifycycle methods like {@link jakarta.annotation.PostConstruct} and
      * {@link jakarta.annotation.PreDestroy} must not define a checked Exception
@@ -291,15 +301,13 @@ public class InterceptorResolutionService
                                                                  Set<Interceptor<?>> allUsedCdiInterceptors,
                                                                  Set<Interceptor<?>> allUsedConstructorCdiInterceptors)
     {
-        BeanManagerImpl beanManagerImpl = webBeansContext.getBeanManagerImpl();
-
         Annotation[] interceptorBindings = null;
         if (classInterceptorBindings.size() > 0)
         {
             interceptorBindings = AnnotationUtil.asArray(classInterceptorBindings);
 
-            allUsedCdiInterceptors.addAll(beanManagerImpl.resolveInterceptors(InterceptionType.POST_CONSTRUCT, interceptorBindings));
-            allUsedCdiInterceptors.addAll(beanManagerImpl.resolveInterceptors(InterceptionType.PRE_DESTROY, interceptorBindings));
+            allUsedCdiInterceptors.addAll(resolveInterceptors(InterceptionType.POST_CONSTRUCT, interceptorBindings));
+            allUsedCdiInterceptors.addAll(resolveInterceptors(InterceptionType.PRE_DESTROY, interceptorBindings));
         }
 
         Set<Annotation> aroundConstructBindings = null;
@@ -334,13 +342,13 @@ public class InterceptorResolutionService
             if (!constructorAnnot.isEmpty())
             {
                 aroundConstructBindings = Collections.unmodifiableSet(new LinkedHashSet<>(constructorAnnot));
-                allUsedConstructorCdiInterceptors.addAll(beanManagerImpl.resolveInterceptors(InterceptionType.AROUND_CONSTRUCT, AnnotationUtil.asArray(constructorAnnot)));
+                allUsedConstructorCdiInterceptors.addAll(resolveInterceptors(InterceptionType.AROUND_CONSTRUCT, AnnotationUtil.asArray(constructorAnnot)));
             }
         }
         else if (interceptorBindings != null)
         {
             aroundConstructBindings = Collections.unmodifiableSet(new LinkedHashSet<>(classInterceptorBindings));
-            allUsedConstructorCdiInterceptors.addAll(beanManagerImpl.resolveInterceptors(InterceptionType.AROUND_CONSTRUCT, interceptorBindings));
+            allUsedConstructorCdiInterceptors.addAll(resolveInterceptors(InterceptionType.AROUND_CONSTRUCT, interceptorBindings));
         }
         allUsedCdiInterceptors.addAll(allUsedConstructorCdiInterceptors);
         return aroundConstructBindings;
@@ -533,7 +541,7 @@ public class InterceptorResolutionService
             if (decoratedType instanceof Class)
             {
                 Class decoratedClass = (Class) decoratedType;
-                Method[] decoratorMethods = decoratedClass.getDeclaredMethods();
+                Method[] decoratorMethods = webBeansContext.getClassMetadata().getDeclaredMethods(decoratedClass);
                 for (Method decoratorMethod : decoratorMethods)
                 {
                     int modifiers = decoratorMethod.getModifiers();
@@ -664,7 +672,7 @@ public class InterceptorResolutionService
         Set<Annotation> resolvedCdiBindings;
         if (hasMethodInterceptors || classLevelInterceptors == null)
         {
-            methodInterceptors = webBeansContext.getBeanManagerImpl().resolveInterceptors(interceptionType, AnnotationUtil.asArray(cummulatedInterceptorBindings.values()));
+            methodInterceptors = resolveInterceptors(interceptionType, AnnotationUtil.asArray(cummulatedInterceptorBindings.values()));
             allUsedCdiInterceptors.addAll(methodInterceptors);
             resolvedCdiBindings = new LinkedHashSet<>(cummulatedInterceptorBindings.values());
         }
@@ -672,7 +680,7 @@ public class InterceptorResolutionService
         {
             // if there is no explicit interceptor defined on the method, then we just take all the interceptors from the class
             methodInterceptors = classLevelInterceptors;
-            resolvedCdiBindings = new LinkedHashSet<>(classInterceptorBindings);
+            resolvedCdiBindings = classInterceptorBindings;
         }
 
         methodInterceptorInfo.setCdiInterceptorBindings(resolvedCdiBindings);
@@ -732,7 +740,7 @@ public class InterceptorResolutionService
     private List<AnnotatedMethod> getInterceptableBusinessMethods(AnnotatedType annotatedType)
     {
         Class<?> javaClass = annotatedType.getJavaClass();
-        List<Method> interceptableMethods = ClassUtil.getNonPrivateMethods(javaClass, false);
+        List<Method> interceptableMethods = webBeansContext.getClassMetadata().getNonPrivateMethods(javaClass, false, false);
 
         List<AnnotatedMethod> interceptableAnnotatedMethods = new ArrayList<>();
 
@@ -1097,7 +1105,7 @@ public class InterceptorResolutionService
             }
             else
             {
-                this.cdiInterceptorBindings = Collections.unmodifiableSet(new LinkedHashSet<>(bindings));
+                this.cdiInterceptorBindings = ImmutableArraySet.copyOf(bindings);
             }
         }
 
@@ -20,6 +20,7 @@ package org.apache.webbeans.intercept;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +36,7 @@ import jakarta.enterprise.inject.spi.AnnotatedType;
 import jakarta.enterprise.inject.spi.InterceptionType;
 import jakarta.enterprise.inject.spi.Interceptor;
 
+import org.apache.webbeans.annotation.QualifierId;
 import org.apache.webbeans.component.BeanAttributesImpl;
 import org.apache.webbeans.component.creation.BeanAttributesBuilder;
 import org.apache.webbeans.component.creation.EjbInterceptorBeanBuilder;
@@ -81,6 +83,12 @@ public class InterceptorsManager
 
     private final PriorityClasses priorityInterceptors = new PriorityClasses();
 
+    /**
+     * Sorted interceptors by interception type and interceptor bindings.
+     * Only filled once the interceptors are final, i.e. after the AfterBeanDiscovery event.
+     */
+    private final ConcurrentMap<ResolvedInterceptorsKey, List<Interceptor<?>>> resolvedInterceptors = new ConcurrentHashMap<>();
+
 
     public InterceptorsManager(WebBeansContext webBeansContext)
     {
@@ -100,6 +108,7 @@ public class InterceptorsManager
         cdiInterceptors.clear();
         ejbInterceptors.clear();
         priorityInterceptors.clear();
+        resolvedInterceptors.clear();
     }
 
 
@@ -113,6 +122,7 @@ public class InterceptorsManager
         if (!configuredInterceptorClasses.contains(interceptorClazz))
         {
             configuredInterceptorClasses.add(interceptorClazz);
+            resolvedInterceptors.clear();
         }
     }
 
@@ -204,6 +214,59 @@ public class InterceptorsManager
     }
 
     public List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings)
+    {
+        return new ArrayList<>(getInterceptors(type, interceptorBindings));
+    }
+
+    /**
+     * Same as {@link #resolveInterceptors(InterceptionType, Annotation...)} but the returned list is shared
+     * between all callers asking for the same interceptor bindings and must not be modified.
+     */
+    public List<Interceptor<?>> getInterceptors(InterceptionType type, Annotation... interceptorBindings)
+    {
+        if (!beanManager.isAfterBeanDiscoveryDone() || hasInterceptorBindingTypeOverride(interceptorBindings))
+        {
+            return findInterceptors(type, interceptorBindings);
+        }
+
+        ResolvedInterceptorsKey key = new ResolvedInterceptorsKey(type, webBeansContext.getAnnotationManager().internQualifiers(interceptorBindings));
+        List<Interceptor<?>> interceptors = resolvedInterceptors.get(key);
+        if (interceptors == null)
+        {
+            interceptors = Collections.unmodifiableList(findInterceptors(type, interceptorBindings));
+            List<Interceptor<?>> existing = resolvedInterceptors.putIfAbsent(key, interceptors);
+            if (existing != null)
+            {
+                interceptors = existing;
+            }
+        }
+        return interceptors;
+    }
+
+    /**
+     * The binding values of the cache keys only consider the {@link jakarta.enterprise.util.Nonbinding} members
+     * of the annotation classes, not the ones configured by extensions via {@link AnnotatedType}s.
+     */
+    private boolean hasInterceptorBindingTypeOverride(Annotation[] interceptorBindings)
+    {
+        if (additionalInterceptorBindingTypesAnnotatedTypes.isEmpty())
+        {
+            return false;
+        }
+        for (Annotation interceptorBinding : interceptorBindings)
+        {
+            for (AnnotatedType<?> at : additionalInterceptorBindingTypesAnnotatedTypes)
+            {
+                if (interceptorBinding.annotationType().equals(at.getJavaClass()))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<Interceptor<?>> findInterceptors(InterceptionType type, Annotation[] interceptorBindings)
     {
         List<Interceptor<?>> interceptorList = new ArrayList<>();
         for (Interceptor<?> interceptor : cdiInterceptors)
@@ -284,6 +347,7 @@ public class InterceptorsManager
     {
         cdiInterceptors.add(interceptor);
         beanManager.addPassivationInfo(interceptor);
+        resolvedInterceptors.clear();
     }
 
 
@@ -296,6 +360,7 @@ public class InterceptorsManager
     {
         Asserts.nullCheckForClass(clazz);
         additionalInterceptorClasses.add(clazz);
+        resolvedInterceptors.clear();
     }
 
     public boolean containsCustomInterceptorClass(Class<?> clazz)
@@ -307,12 +372,14 @@ public class InterceptorsManager
     public void addInterceptorBindingType(AnnotatedType<? extends Annotation> annotatedType)
     {
         additionalInterceptorBindingTypesAnnotatedTypes.add(annotatedType);
+        resolvedInterceptors.clear();
     }
 
     public void addInterceptorBindingType(Class<? extends Annotation> bindingType, Annotation... inheritsArray)
     {
         Set<Annotation> inherits = additionalInterceptorBindingTypes.computeIfAbsent(bindingType, k -> new HashSet<>());
         Collections.addAll(inherits, inheritsArray);
+        resolvedInterceptors.clear();
     }
 
     public boolean hasInterceptorBindingType(Class<? extends Annotation> bindingType)
@@ -361,5 +428,41 @@ public class InterceptorsManager
     public void addPriorityClazzInterceptor(Class<?> javaClass, int priority)
     {
         priorityInterceptors.add(javaClass, priority);
+        resolvedInterceptors.clear();
+    }
+
+    private static final class ResolvedInterceptorsKey
+    {
+        private final InterceptionType type;
+        private final QualifierId[] interceptorBindings;
+        private final int hash;
+
+        private ResolvedInterceptorsKey(InterceptionType type, QualifierId[] interceptorBindings)
+        {
+            this.type = type;
+            this.interceptorBindings = interceptorBindings;
+            this.hash = 31 * type.hashCode() + Arrays.hashCode(interceptorBindings);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            ResolvedInterceptorsKey that = (ResolvedInterceptorsKey) o;
+            return type == that.type && Arrays.equals(interceptorBindings, that.interceptorBindings);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
     }
 }
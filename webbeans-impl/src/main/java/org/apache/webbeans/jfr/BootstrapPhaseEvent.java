@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A phase of the container bootstrap, e.g. the classpath scanning or the validation.
+ */
+@Name("org.apache.webbeans.BootstrapPhase")
+@Label("Bootstrap Phase")
+@Description("A phase of the OpenWebBeans container bootstrap")
+@Category({"OpenWebBeans", "Bootstrap"})
+@StackTrace(false)
+public class BootstrapPhaseEvent extends jdk.jfr.Event
+{
+    @Label("Phase")
+    private String phase;
+
+    void setPhase(String phase)
+    {
+        this.phase = phase;
+    }
+}
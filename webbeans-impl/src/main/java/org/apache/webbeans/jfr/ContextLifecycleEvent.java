@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("org.apache.webbeans.ContextLifecycle")
+@Label("Context Lifecycle")
+@Description("Activation or destruction of a context by the ContextsService")
+@Category({"OpenWebBeans", "Runtime"})
+@Enabled(false)
+@Threshold("0 ms")
+@StackTrace(false)
+public class ContextLifecycleEvent extends jdk.jfr.Event
+{
+    @Label("Scope")
+    private String scope;
+
+    @Label("Action")
+    private String action;
+
+    void setScope(String scope)
+    {
+        this.scope = scope;
+    }
+
+    void setAction(String action)
+    {
+        this.action = action;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The invocation of an observer of a container lifecycle event, i.e. an Extension observer.
+ */
+@Name("org.apache.webbeans.ExtensionObserver")
+@Label("Extension Observer")
+@Description("An Extension observer method handling a container lifecycle event")
+@Category({"OpenWebBeans", "Bootstrap"})
+@StackTrace(false)
+public class ExtensionObserverEvent extends jdk.jfr.Event
+{
+    @Label("Extension")
+    private String extension;
+
+    @Label("Event")
+    private String event;
+
+    @Label("Observer")
+    private String observer;
+
+    void setExtension(String extension)
+    {
+        this.extension = extension;
+    }
+
+    void setEvent(String event)
+    {
+        this.event = event;
+    }
+
+    void setObserver(String observer)
+    {
+        this.observer = observer;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("org.apache.webbeans.InterceptorChain")
+@Label("Interceptor Chain")
+@Description("Invocation of a business method through its AroundInvoke interceptor chain")
+@Category({"OpenWebBeans", "Runtime"})
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public class InterceptorChainEvent extends jdk.jfr.Event
+{
+    @Label("Bean Class")
+    private String beanClass;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Interceptors")
+    private int interceptors;
+
+    void setBeanClass(String beanClass)
+    {
+        this.beanClass = beanClass;
+    }
+
+    void setMethod(String method)
+    {
+        this.method = method;
+    }
+
+    void setInterceptors(int interceptors)
+    {
+        this.interceptors = interceptors;
+    }
+}
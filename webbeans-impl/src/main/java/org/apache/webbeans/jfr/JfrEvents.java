@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.jfr;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import jdk.jfr.Event;
+
+import org.apache.webbeans.component.OwbBean;
+import org.apache.webbeans.config.BootstrapMonitor;
+
+/**
+ * Creates and commits our JFR events.
+ *
+ * Callers must only touch this class if {@link JfrSupport#AVAILABLE} is {@code true},
+ * the jdk.jfr module is optional. Events are only created if they are enabled in the current
+ * recording, otherwise {@code null} is returned. The event names and labels only get computed
+ * for enabled events.
+ *
+ * <p>The runtime events ({@code org.apache.webbeans.BeanCreation}, {@code org.apache.webbeans.Produce},
+ * {@code org.apache.webbeans.InterceptorChain}, {@code org.apache.webbeans.ObserverNotification} and
+ * {@code org.apache.webbeans.ContextLifecycle}) are disabled by default. Enable them one by one
+ * and tune their thresholds in the JFR settings of the recording.</p>
+ */
+public final class JfrEvents
+{
+    private JfrEvents()
+    {
+        // utility
+    }
+
+    public static Object beginPhase(String phase)
+    {
+        BootstrapPhaseEvent event = new BootstrapPhaseEvent();
+        if (!event.isEnabled())
+        {
+            return null;
+        }
+        event.setPhase(phase);
+        event.begin();
+        return event;
+    }
+
+    public static Object beginExtensionObserver(String extension, String observed, String observer)
+    {
+        ExtensionObserverEvent event = new ExtensionObserverEvent();
+        if (!event.isEnabled())
+        {
+            return null;
+        }
+        event.setExtension(extension);
+        event.setEvent(observed);
+        event.setObserver(observer);
+        event.begin();
+        return event;
+    }
+
+    public static Object beginBeanCreation(Contextual<?> contextual, Class<? extends Annotation> scope)
+    {
+        BeanCreationEvent event = new BeanCreationEvent();
+        if (!event.isEnabled())
+        {
+            return null;
+        }
+        event.setBean(contextualName(contextual));
+        event.setScope(scope.getName());
+        event.begin();
+        return event;
+    }
+
+    public static Object beginProduce(Class<?> beanClass)
+    {
+        ProduceEvent event = new ProduceEvent();
+        if (!event.isEnabled())
+        {
+            return null;
+        }
+        event.setBeanClass(beanClass.getName());
+        event.begin();
+        return event;
+    }
+
+    public static Object beginInterceptorChain(Method method, int interceptors)
+    {
+        InterceptorChainEvent event = new InterceptorChainEvent();
+        if (!event.isEnabled())
+        {
+            return null;
+        }
+        event.setBeanClass(method.getDeclaringClass().getName());
+        event.setMethod(method.getName());
+        event.setInterceptors(interceptors);
+        event.begin();
+        return event;
+    }
+
+    public static Object beginObserverNotification(Object observed, ObserverMethod<?> observer, boolean async)
+    {
+        ObserverNotificationEvent event = new ObserverNotificationEvent();
+        if (!event.isEnabled())
+        {
+            return null;
+        }
+        event.setEvent(observed.getClass().getName());
+        event.setObserver(BootstrapMonitor.observerName(observer));
+        event.setAsync(async);
+        event.begin();
+        return event;
+    }
+
+    public static Object beginContextLifecycle(Class<? extends Annotation> scope, String action)
+    {
+        ContextLifecycleEvent event = new ContextLifecycleEvent();
+        if (!event.isEnabled())
+        {
+            return null;
+        }
+        event.setScope(scope.getName());
+        event.setAction(action);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param event an event returned by one of the begin methods, can be {@code null}
+     */
+    public static void commit(Object event)
+    {
+        if (event != null)
+        {
+            Event jfrEvent = (Event) event;
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit())
+            {
+                jfrEvent.commit();
+            }
+        }
+    }
+
+    private static String contextualName(Contextual<?> contextual)
+    {
+        if (contextual instanceof OwbBean)
+        {
+            return ((OwbBean<?>) contextual).getReturnType().getName();
+        }
+        if (contextual instanceof Bean)
+        {
+            return ((Bean<?>) contextual).getBeanClass().getName();
+        }
+        return contextual.getClass().getName();
+    }
+}
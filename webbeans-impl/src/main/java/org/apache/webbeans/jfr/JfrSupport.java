@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.jfr;
+
+/**
+ * Tells whether JDK Flight Recorder is available without touching any jdk.jfr class.
+ *
+ * <p>The jdk.jfr module is optional. Only call {@link JfrEvents} if {@link #AVAILABLE} is {@code true}.
+ * Since it is a constant the JIT removes the instrumentation entirely on a JVM without JFR.</p>
+ */
+public final class JfrSupport
+{
+    public static final boolean AVAILABLE = isJfrPresent();
+
+    private JfrSupport()
+    {
+        // utility
+    }
+
+    private static boolean isJfrPresent()
+    {
+        try
+        {
+            Class.forName("jdk.jfr.Event", false, JfrSupport.class.getClassLoader());
+            return true;
+        }
+        catch (ClassNotFoundException | LinkageError e)
+        {
+            return false;
+        }
+    }
+}
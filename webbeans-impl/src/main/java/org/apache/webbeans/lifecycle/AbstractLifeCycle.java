@@ -236,4 +236,17 @@ public abstract class AbstractLifeCycle implements ContainerLifecycle
     {
         //Do nothing as default
     }    
+
+    /**
+     * Creates the beans observing the startup events in parallel if configured.
+     * Must be invoked right before the {@code @Initialized(ApplicationScoped.class)} and the Startup event get fired.
+     * @see org.apache.webbeans.config.OpenWebBeansConfiguration#PARALLEL_EAGER_INIT
+     */
+    protected void initializeEagerBeans()
+    {
+        if (webBeansContext.getOpenWebBeansConfiguration().isParallelEagerInit())
+        {
+            new ParallelEagerInitializer(webBeansContext).initialize();
+        }
+    }
 }
@@ -0,0 +1,363 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.lifecycle;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.event.Startup;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.apache.webbeans.component.AbstractOwbBean;
+import org.apache.webbeans.component.AbstractProducerBean;
+import org.apache.webbeans.component.OwbBean;
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.container.BeanManagerImpl;
+import org.apache.webbeans.container.InjectionResolver;
+import org.apache.webbeans.event.ObserverMethodImpl;
+import org.apache.webbeans.intercept.RequestScopedBeanInterceptorHandler;
+import org.apache.webbeans.logger.WebBeansLoggerFacade;
+import org.apache.webbeans.spi.ContextsService;
+import org.apache.webbeans.util.ExceptionUtil;
+
+/**
+ * Creates the {@link ApplicationScoped} beans which observe the {@link Startup} or the
+ * {@code @Initialized(ApplicationScoped.class)} event in parallel, right before these events get fired.
+ * The observers then only find already created instances.
+ *
+ * <p>The order is derived from the resolved injection points: a bean only gets created after all the
+ * {@link ApplicationScoped} beans it (transitively through {@link Dependent} beans) injects.
+ * Independent beans get created concurrently. Beans which are part of a dependency cycle, or depend on one,
+ * are left to the regular creation by their observer.</p>
+ *
+ * <p>Every creation runs with an active request context. The other contexts, e.g. the session and the conversation
+ * context, might be bound to the thread which starts the container. Beans which (transitively through {@link Dependent}
+ * beans) inject a bean of any scope besides {@link ApplicationScoped}, {@link RequestScoped} and {@link Dependent}
+ * are left to the regular creation by their observer as well. If creations fail, the failure of the first
+ * bean in the dependency order gets rethrown and the other failures are added as suppressed exceptions.</p>
+ *
+ * @see org.apache.webbeans.config.OpenWebBeansConfiguration#PARALLEL_EAGER_INIT
+ */
+public class ParallelEagerInitializer
+{
+    private static final Logger logger = WebBeansLoggerFacade.getLogger(ParallelEagerInitializer.class);
+
+    /**
+     * The scopes which are active on the worker threads.
+     */
+    private static final Set<Class<? extends Annotation>> WORKER_SCOPES =
+            Set.of(ApplicationScoped.class, RequestScoped.class, Dependent.class);
+
+    private final WebBeansContext webBeansContext;
+
+    public ParallelEagerInitializer(WebBeansContext webBeansContext)
+    {
+        this.webBeansContext = webBeansContext;
+    }
+
+    public void initialize()
+    {
+        List<Bean<?>> startupBeans = findStartupBeans();
+        if (startupBeans.isEmpty())
+        {
+            return;
+        }
+
+        Map<Bean<?>, Set<Bean<?>>> dependencies = new HashMap<>();
+        Set<Bean<?>> unsafe = new HashSet<>();
+        for (Bean<?> bean : startupBeans)
+        {
+            collectDependencies(bean, dependencies, unsafe);
+        }
+
+        List<Bean<?>> ordered = new ArrayList<>();
+        Set<Bean<?>> visiting = new HashSet<>();
+        Set<Bean<?>> visited = new HashSet<>();
+        for (Bean<?> bean : startupBeans)
+        {
+            sort(bean, dependencies, ordered, unsafe, visiting, visited);
+        }
+        if (!unsafe.isEmpty() && logger.isLoggable(Level.FINE))
+        {
+            logger.fine("Not initialising eagerly as part of or depending on a dependency cycle or a thread bound scope: " + unsafe);
+        }
+        if (ordered.isEmpty())
+        {
+            return;
+        }
+
+        Map<Bean<?>, Throwable> failures = new ConcurrentHashMap<>();
+        Map<Bean<?>, CompletableFuture<Void>> futures = new HashMap<>();
+        ForkJoinPool pool = newPool();
+        try
+        {
+            for (Bean<?> bean : ordered)
+            {
+                CompletableFuture<?>[] required = dependencies.get(bean).stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                futures.put(bean, CompletableFuture.allOf(required).thenRunAsync(() -> create(bean, failures), pool));
+            }
+            for (CompletableFuture<Void> future : futures.values())
+            {
+                future.handle((result, failure) -> result).join();
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        Throwable first = null;
+        for (Bean<?> bean : ordered)
+        {
+            Throwable failure = failures.get(bean);
+            if (failure == null)
+            {
+                continue;
+            }
+            if (first == null)
+            {
+                first = failure;
+            }
+            else
+            {
+                first.addSuppressed(failure);
+            }
+        }
+        if (first != null)
+        {
+            throw ExceptionUtil.throwAsRuntimeException(first);
+        }
+    }
+
+    /**
+     * @return the enabled {@link ApplicationScoped} beans with an instance observer method for the
+     *         {@link Startup} or the {@code @Initialized(ApplicationScoped.class)} event, sorted by their class name
+     */
+    private List<Bean<?>> findStartupBeans()
+    {
+        Set<Bean<?>> beans = new LinkedHashSet<>();
+        for (ObserverMethod<?> observerMethod : webBeansContext.getNotificationManager().getObserverMethods())
+        {
+            if (!(observerMethod instanceof ObserverMethodImpl) || !isStartupObserver(observerMethod))
+            {
+                continue;
+            }
+            ObserverMethodImpl<?> observer = (ObserverMethodImpl<?>) observerMethod;
+            AbstractOwbBean<?> owner = observer.getOwnerBean();
+            if (owner != null && owner.getScope() == ApplicationScoped.class && owner.isEnabled()
+                    && !Modifier.isStatic(observer.getObserverMethod().getJavaMember().getModifiers()))
+            {
+                beans.add(owner);
+            }
+        }
+
+        List<Bean<?>> sorted = new ArrayList<>(beans);
+        sorted.sort(Comparator.comparing((Bean<?> bean) -> bean.getBeanClass().getName()).thenComparing(Object::toString));
+        return sorted;
+    }
+
+    private boolean isStartupObserver(ObserverMethod<?> observerMethod)
+    {
+        if (observerMethod.getObservedType() == Startup.class)
+        {
+            return true;
+        }
+        for (Annotation qualifier : observerMethod.getObservedQualifiers())
+        {
+            if (qualifier instanceof Initialized && ((Initialized) qualifier).value() == ApplicationScoped.class)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param threadBound collects the beans which inject a bean of a scope which is not active on the worker threads
+     */
+    private void collectDependencies(Bean<?> bean, Map<Bean<?>, Set<Bean<?>>> dependencies, Set<Bean<?>> threadBound)
+    {
+        if (dependencies.containsKey(bean))
+        {
+            return;
+        }
+        Set<Bean<?>> required = new LinkedHashSet<>();
+        Set<Class<? extends Annotation>> scopes = new HashSet<>();
+        dependencies.put(bean, required);
+        collectRequired(bean, required, scopes, new HashSet<>());
+        if (!WORKER_SCOPES.containsAll(scopes))
+        {
+            threadBound.add(bean);
+        }
+        for (Bean<?> dependency : required)
+        {
+            collectDependencies(dependency, dependencies, threadBound);
+        }
+    }
+
+    /**
+     * Collects the {@link ApplicationScoped} beans which get injected into the given bean,
+     * following the {@link Dependent} beans as they get created together with their parent.
+     * @param scopes collects the scopes of all the injected beans
+     */
+    private void collectRequired(Bean<?> bean, Set<Bean<?>> required, Set<Class<? extends Annotation>> scopes,
+                                 Set<Bean<?>> seenDependents)
+    {
+        InjectionResolver injectionResolver = webBeansContext.getBeanManagerImpl().getInjectionResolver();
+        List<Bean<?>> injected = new ArrayList<>();
+        if (bean instanceof AbstractProducerBean)
+        {
+            injected.add(((AbstractProducerBean<?>) bean).getOwnerComponent());
+        }
+        for (InjectionPoint injectionPoint : bean.getInjectionPoints())
+        {
+            if (injectionPoint.isDelegate())
+            {
+                continue;
+            }
+            try
+            {
+                injected.add(injectionResolver.getInjectionPointBean(injectionPoint));
+            }
+            catch (RuntimeException e)
+            {
+                // the validation reports it, nothing to order here
+            }
+        }
+
+        for (Bean<?> dependency : injected)
+        {
+            if (dependency == null || dependency == bean || !(dependency instanceof OwbBean) || !((OwbBean<?>) dependency).isEnabled())
+            {
+                continue;
+            }
+            scopes.add(dependency.getScope());
+            if (dependency.getScope() == ApplicationScoped.class)
+            {
+                required.add(dependency);
+            }
+            else if (dependency.getScope() == Dependent.class && seenDependents.add(dependency))
+            {
+                collectRequired(dependency, required, scopes, seenDependents);
+            }
+        }
+    }
+
+    /**
+     * Depth first topological sort, dependencies first.
+     * @return {@code false} if the bean is part of or depends on a cycle
+     */
+    private boolean sort(Bean<?> bean, Map<Bean<?>, Set<Bean<?>>> dependencies, List<Bean<?>> ordered,
+                         Set<Bean<?>> unsafe, Set<Bean<?>> visiting, Set<Bean<?>> visited)
+    {
+        if (visited.contains(bean))
+        {
+            return !unsafe.contains(bean);
+        }
+        if (!visiting.add(bean))
+        {
+            // cycle
+            unsafe.add(bean);
+            return false;
+        }
+
+        boolean safe = true;
+        for (Bean<?> dependency : dependencies.get(bean))
+        {
+            safe &= sort(dependency, dependencies, ordered, unsafe, visiting, visited);
+        }
+        visiting.remove(bean);
+        visited.add(bean);
+
+        if (safe && !unsafe.contains(bean))
+        {
+            ordered.add(bean);
+            return true;
+        }
+        unsafe.add(bean);
+        return false;
+    }
+
+    private void create(Bean<?> bean, Map<Bean<?>, Throwable> failures)
+    {
+        ContextsService contextsService = webBeansContext.getContextsService();
+        Context requestContext = contextsService.getCurrentContext(RequestScoped.class, false);
+        boolean activateRequestContext = requestContext == null || !requestContext.isActive();
+        if (activateRequestContext)
+        {
+            contextsService.startContext(RequestScoped.class, null);
+        }
+        try
+        {
+            BeanManagerImpl beanManager = webBeansContext.getBeanManagerImpl();
+            Bean<Object> contextual = (Bean<Object>) bean;
+            beanManager.getContext(ApplicationScoped.class).get(contextual, beanManager.createCreationalContext(contextual));
+        }
+        catch (RuntimeException | Error e)
+        {
+            failures.put(bean, e);
+            throw e;
+        }
+        finally
+        {
+            if (activateRequestContext)
+            {
+                contextsService.endContext(RequestScoped.class, null);
+                RequestScopedBeanInterceptorHandler.removeThreadLocals();
+            }
+        }
+    }
+
+    private ForkJoinPool newPool()
+    {
+        // startup beans often wait for remote resources, so a single CPU still gets two workers
+        int numThreads = Math.min(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                webBeansContext.getOpenWebBeansConfiguration().getBeanDeployerMaxThreads());
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(Math.max(1, numThreads), pool ->
+        {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(loader);
+            return thread;
+        }, null, false);
+    }
+}
@@ -64,6 +64,8 @@ public class StandaloneLifeCycle extends AbstractLifeCycle
         webBeansContext.getContextsService().startContext(SessionScoped.class, null);
         webBeansContext.getContextsService().startContext(ConversationScoped.class, null);
 
+        initializeEagerBeans();
+
         if (!BaseSeContextsService.class.isInstance(webBeansContext.getContextsService()) ||
                 BaseSeContextsService.class.cast(webBeansContext.getContextsService()).fireApplicationScopeEvents())
         {
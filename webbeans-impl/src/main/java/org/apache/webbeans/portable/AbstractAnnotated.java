@@ -235,6 +235,14 @@ public abstract class AbstractAnnotated implements Annotated
 
     protected Set<Type> extractTypeClojure(Type baseType)
     {
+        if (baseType == getOwningClass() && webBeansContext.getOpenWebBeansConfiguration().isSharedClassMetadata())
+        {
+            SharedClassMetadata shared = webBeansContext.getAnnotatedElementFactory().getSharedClassMetadata((Class<?>) baseType);
+            if (shared != null)
+            {
+                return shared.getTypeClosure();
+            }
+        }
         return GenericsUtil.getTypeClosure(baseType, getOwningClass());
     }
 
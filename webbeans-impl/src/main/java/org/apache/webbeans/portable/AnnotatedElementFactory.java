@@ -78,6 +78,11 @@ public final class AnnotatedElementFactory
     private ConcurrentMap<AnnotatedType<?>, Set<AnnotatedMethod<?>>> annotatedMethodsOfTypeCache =
         new ConcurrentHashMap<>();
 
+    /**
+     * {@link SharedClassMetadata} of the classes of the parent ClassLoaders of OpenWebBeans
+     */
+    private final ConcurrentMap<Class<?>, SharedClassMetadata> parentClassMetadata = new ConcurrentHashMap<>();
+
     private WebBeansContext webBeansContext;
 
     /**
@@ -341,6 +346,14 @@ public final class AnnotatedElementFactory
         return (Set<AnnotatedMethod<? super T>>)(Set<?>)methods;
     }
 
+    /**
+     * @return the reflective metadata of the given class or {@code null} if it can't be cached
+     */
+    SharedClassMetadata getSharedClassMetadata(Class<?> type)
+    {
+        return SharedClassMetadata.of(type, parentClassMetadata);
+    }
+
     /**
      * Clear caches.
      */
@@ -352,6 +365,7 @@ public final class AnnotatedElementFactory
         annotatedFieldCache.clear();
         annotatedMethodCache.clear();
         annotatedMethodsOfTypeCache.clear();
+        parentClassMetadata.clear();
     }
     
     private Set<? extends AnnotatedMethod<?>> getFilteredMethods(Class<?> type, Set<AnnotatedMethod<?>> allMethods, Set<AnnotatedMethod<?>> filteredMethods)
@@ -37,6 +37,7 @@ import jakarta.enterprise.inject.spi.AnnotatedType;
 import jakarta.enterprise.inject.spi.BeanManager;
 
 import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.spi.SecurityService;
 
 /**
  * Implementation of the {@link AnnotatedType} interface.
@@ -212,6 +213,44 @@ public class AnnotatedTypeImpl<X>
         return getJavaClass().hashCode();
     }
 
+    /**
+     * Drops the constructors, fields and methods if they got created from the class itself.
+     * They get rebuilt lazily on the next access.
+     * Members which got copied from another AnnotatedType might carry modified annotations
+     * and cannot be rebuilt, so they are kept.
+     * The rebuilt members are new instances, so types whose members are still referenced
+     * elsewhere, e.g. by injection points, must be passed as {@code referenced} to keep them.
+     * The supertypes get released the same way.
+     *
+     * @param referenced the types whose members must keep their identity
+     * @return {@code true} if member metadata got released
+     */
+    public boolean releaseMemberMetadata(Set<AnnotatedType<?>> referenced)
+    {
+        boolean released = false;
+        synchronized (this)
+        {
+            if (state != null && state.reflective && !referenced.contains(this))
+            {
+                state = null;
+                released = true;
+            }
+        }
+        if (supertype instanceof AnnotatedTypeImpl)
+        {
+            released |= ((AnnotatedTypeImpl<?>) supertype).releaseMemberMetadata(referenced);
+        }
+        return released;
+    }
+
+    /**
+     * @return {@code true} if the constructors, fields and methods are currently materialized
+     */
+    public boolean isMemberMetadataLoaded()
+    {
+        return state != null;
+    }
+
     private State getState()
     {
         State result = state;
@@ -251,10 +290,23 @@ public class AnnotatedTypeImpl<X>
          */
         private final Set<AnnotatedMethod<? super X>> methods;
 
+        /**
+         * Whether the members got created from the class and can be rebuilt at any time
+         */
+        private final boolean reflective;
+
         private State()
         {
-            Constructor<?>[] decCtxs =
-                getWebBeansContext().getSecurityService().doPrivilegedGetDeclaredConstructors(annotatedClass);
+            reflective = true;
+
+            SecurityService securityService = getWebBeansContext().getSecurityService();
+            boolean shareMetadata = getWebBeansContext().getOpenWebBeansConfiguration().isSharedClassMetadata();
+            SharedClassMetadata shared = shareMetadata ?
+                getWebBeansContext().getAnnotatedElementFactory().getSharedClassMetadata(annotatedClass) : null;
+
+            Constructor<?>[] decCtxs = shared != null ?
+                shared.getDeclaredConstructors(() -> securityService.doPrivilegedGetDeclaredConstructors(annotatedClass)) :
+                securityService.doPrivilegedGetDeclaredConstructors(annotatedClass);
 
             Set<AnnotatedConstructor<X>> constructors = new HashSet<>();
             Set<AnnotatedField<? super X>> fields = new HashSet<>();
@@ -278,7 +330,7 @@ public class AnnotatedTypeImpl<X>
             {
                 // must be implicit default constructor
                 Constructor<X> constructor =
-                    getWebBeansContext().getSecurityService().doPrivilegedGetDeclaredConstructor(annotatedClass);
+                    securityService.doPrivilegedGetDeclaredConstructor(annotatedClass);
                 if (constructor != null)
                 {
                     constructors.add(
@@ -286,7 +338,9 @@ public class AnnotatedTypeImpl<X>
                 }
             }
 
-            Field[] decFields = getWebBeansContext().getSecurityService().doPrivilegedGetDeclaredFields(annotatedClass);
+            Field[] decFields = shared != null ?
+                shared.getDeclaredFields(() -> securityService.doPrivilegedGetDeclaredFields(annotatedClass)) :
+                securityService.doPrivilegedGetDeclaredFields(annotatedClass);
             for (Field f : decFields)
             {
                 if (!f.isSynthetic())
@@ -296,8 +350,10 @@ public class AnnotatedTypeImpl<X>
                 }
             }
 
-            Method[] decMethods =
-                    getWebBeansContext().getSecurityService().doPrivilegedGetDeclaredMethods(annotatedClass);
+            // same method table as the one used by the interceptor resolution and the proxy factories
+            Method[] decMethods = shareMetadata ?
+                getWebBeansContext().getClassMetadata().getDeclaredMethods(annotatedClass) :
+                securityService.doPrivilegedGetDeclaredMethods(annotatedClass);
             for (Method m : decMethods)
             {
                 if (!m.isSynthetic() && !m.isBridge())
@@ -326,6 +382,8 @@ public class AnnotatedTypeImpl<X>
          */
         private State(State otherState)
         {
+            reflective = false;
+
             constructors = otherState.constructors.stream()
                 .map(ac -> new AnnotatedConstructorImpl<>(getWebBeansContext(), ac, AnnotatedTypeImpl.this))
                 .collect(Collectors.toSet());
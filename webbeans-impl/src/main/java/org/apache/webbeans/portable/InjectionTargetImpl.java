@@ -30,6 +30,8 @@ import org.apache.webbeans.intercept.DefaultInterceptorHandler;
 import org.apache.webbeans.intercept.InterceptorResolutionService;
 import org.apache.webbeans.intercept.InterceptorResolutionService.BeanInterceptorInfo;
 import org.apache.webbeans.intercept.LifecycleInterceptorInvocationContext;
+import org.apache.webbeans.jfr.JfrEvents;
+import org.apache.webbeans.jfr.JfrSupport;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
 import org.apache.webbeans.proxy.InterceptorDecoratorProxyFactory;
 import org.apache.webbeans.proxy.InterceptorHandler;
@@ -117,6 +119,12 @@ public class InjectionTargetImpl<T> extends AbstractProducer<T> implements Injec
 
     private Set<Annotation> classLevelInterceptorBindings = Collections.emptySet();
 
+    /**
+     * Initializer methods without parameters, resolved once so the instance creation
+     * does not need the members of the AnnotatedType anymore
+     */
+    private volatile List<AnnotatedMethod<? super T>> initializerMethods;
+
     public InjectionTargetImpl(AnnotatedType<T> annotatedType, Set<InjectionPoint> injectionPoints, WebBeansContext webBeansContext,
                                List<AnnotatedMethod<?>> postConstructMethods, List<AnnotatedMethod<?>> preDestroyMethods)
     {
@@ -146,6 +154,8 @@ public class InjectionTargetImpl<T> extends AbstractProducer<T> implements Injec
         // no more needed
         interceptorInfo.getClassCdiInterceptors().clear();
 
+        getInitializerMethods();
+
         final AnnotatedConstructor<T> ct = getConstructor();
         if (ct != null)
         {
@@ -164,6 +174,23 @@ public class InjectionTargetImpl<T> extends AbstractProducer<T> implements Injec
 
     @Override
     public T produce(Map<Interceptor<?>, ?> interceptorInstances, CreationalContextImpl<T> creationalContext)
+    {
+        if (JfrSupport.AVAILABLE)
+        {
+            Object jfrEvent = JfrEvents.beginProduce(annotatedType.getJavaClass());
+            try
+            {
+                return doProduce(interceptorInstances, creationalContext);
+            }
+            finally
+            {
+                JfrEvents.commit(jfrEvent);
+            }
+        }
+        return doProduce(interceptorInstances, creationalContext);
+    }
+
+    private T doProduce(Map<Interceptor<?>, ?> interceptorInstances, CreationalContextImpl<T> creationalContext)
     {
         if (hasAroundConstruct())
         {
@@ -271,14 +298,33 @@ public class InjectionTargetImpl<T> extends AbstractProducer<T> implements Injec
      */
     private void injectInitializerMethods(Class<?> declaringType, T instance, CreationalContextImpl<T> context)
     {
-        for (AnnotatedMethod<? super T> method : webBeansContext.getAnnotatedElementFactory().getFilteredAnnotatedMethods(annotatedType))
+        for (AnnotatedMethod<? super T> method : getInitializerMethods())
         {
-            if (method.getDeclaringType().getJavaClass().equals(declaringType) && method.isAnnotationPresent(Inject.class) && method.getParameters().isEmpty())
+            if (method.getDeclaringType().getJavaClass().equals(declaringType))
             {
                 new InjectableMethod<>(method.getJavaMember(), instance, this, context).doInjection();
             }
         }
     }
+
+    private List<AnnotatedMethod<? super T>> getInitializerMethods()
+    {
+        List<AnnotatedMethod<? super T>> methods = initializerMethods;
+        if (methods == null)
+        {
+            methods = new ArrayList<>();
+            for (AnnotatedMethod<? super T> method : webBeansContext.getAnnotatedElementFactory().getFilteredAnnotatedMethods(annotatedType))
+            {
+                if (method.isAnnotationPresent(Inject.class) && method.getParameters().isEmpty())
+                {
+                    methods.add(method);
+                }
+            }
+            methods = methods.isEmpty() ? Collections.emptyList() : methods;
+            initializerMethods = methods;
+        }
+        return methods;
+    }
     
     private void injectResources(T instance)
     {
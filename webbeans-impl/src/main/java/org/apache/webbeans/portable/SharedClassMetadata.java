@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.portable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.apache.webbeans.util.ClassMetadata;
+import org.apache.webbeans.util.GenericsUtil;
+
+/**
+ * Cache of the reflective metadata of classes which is shared by all {@link org.apache.webbeans.config.WebBeansContext}s
+ * of the ClassLoader of OpenWebBeans, e.g. all the applications of a container which hosts OpenWebBeans itself.
+ *
+ * <p>Only context independent data gets cached here: the declared constructors and fields and the type
+ * closure of a class. The declared methods are kept by {@link org.apache.webbeans.util.ClassMetadata}.
+ * Everything which depends on the configuration, the registered extensions or the
+ * beans of a {@link org.apache.webbeans.config.WebBeansContext} stays in the context itself.</p>
+ *
+ * <p>The entries of classes loaded by the ClassLoader of OpenWebBeans or one of its children are attached
+ * to the classes via a {@link ClassValue}, so they go away together with the class. Classes of the parent
+ * ClassLoaders outlive OpenWebBeans, attaching an entry to them would pin the ClassLoader of OpenWebBeans.
+ * Their entries get kept in a map of the {@link AnnotatedElementFactory} of the context instead which
+ * gets dropped together with the context. Classes of unrelated ClassLoaders don't get cached at all.</p>
+ *
+ * <p>The cached {@link Constructor} and {@link Field} instances are handed to all contexts, so
+ * their {@code accessible} flag is shared as well.</p>
+ */
+final class SharedClassMetadata
+{
+    private static final ClassValue<SharedClassMetadata> CACHE = new ClassValue<SharedClassMetadata>()
+    {
+        @Override
+        protected SharedClassMetadata computeValue(Class<?> type)
+        {
+            return new SharedClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    private volatile Constructor<?>[] declaredConstructors;
+    private volatile Field[] declaredFields;
+    private volatile Set<Type> typeClosure;
+
+    private SharedClassMetadata(Class<?> type)
+    {
+        this.type = type;
+    }
+
+    /**
+     * @param parentClasses the context owned entries of the classes of the parent ClassLoaders
+     * @return the metadata of the given class or {@code null} if the class got loaded by an unrelated ClassLoader
+     */
+    static SharedClassMetadata of(Class<?> type, ConcurrentMap<Class<?>, SharedClassMetadata> parentClasses)
+    {
+        if (ClassMetadata.isOfOwbLoaderOrChild(type))
+        {
+            return CACHE.get(type);
+        }
+        if (ClassMetadata.isOfOwbParentLoader(type))
+        {
+            return parentClasses.computeIfAbsent(type, SharedClassMetadata::new);
+        }
+        return null;
+    }
+
+    /**
+     * The returned array must not be modified.
+     */
+    Constructor<?>[] getDeclaredConstructors(Supplier<Constructor<?>[]> loader)
+    {
+        Constructor<?>[] result = declaredConstructors;
+        if (result == null)
+        {
+            result = loader.get();
+            declaredConstructors = result;
+        }
+        return result;
+    }
+
+    /**
+     * The returned array must not be modified.
+     */
+    Field[] getDeclaredFields(Supplier<Field[]> loader)
+    {
+        Field[] result = declaredFields;
+        if (result == null)
+        {
+            result = loader.get();
+            declaredFields = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return a modifiable copy of the type closure of the class
+     */
+    Set<Type> getTypeClosure()
+    {
+        Set<Type> result = typeClosure;
+        if (result == null)
+        {
+            result = Collections.unmodifiableSet(GenericsUtil.getTypeClosure(type, type));
+            typeClosure = result;
+        }
+        return new HashSet<>(result);
+    }
+}
@@ -27,16 +27,25 @@ import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.exception.ProxyGenerationException;
 import org.apache.webbeans.exception.WebBeansException;
 import org.apache.webbeans.hash.XxHash64;
+import org.apache.webbeans.service.HiddenClassProxyService;
 import org.apache.webbeans.spi.DefiningClassService;
 import org.apache.webbeans.spi.InstantiatingClassService;
+import org.apache.webbeans.spi.MetricsService;
 import org.apache.xbean.asm9.ClassReader;
 import org.apache.xbean.asm9.ClassWriter;
 import org.apache.xbean.asm9.MethodVisitor;
@@ -93,10 +102,34 @@ public abstract class AbstractProxyFactory
     private final boolean useStaticNames;
     private final boolean useXXhash64;
 
+    /**
+     * hidden classes can't be looked up by name so we neither need to probe for a free name
+     * nor try to load a previous definition.
+     */
+    private final boolean hiddenClasses;
+
+    /**
+     * optional persistent store of the generated bytecode, {@code null} if disabled.
+     */
+    private final ProxyBytecodeCache bytecodeCache;
+
     protected WebBeansContext webBeansContext;
 
     private final int javaVersion;
 
+    /**
+     * Proxy class names which got handed out by {@link #getUnusedProxyClassName(ClassLoader, String)}.
+     * This prevents two concurrent generations from picking the same free name before one of them got defined.
+     * Names get released again as soon as the proxy class got defined or its generation failed.
+     */
+    private final Set<String> reservedProxyClassNames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The proxy class generations which are currently running, per bean or per proxy class name.
+     * @see #generateOnce(Object, Supplier)
+     */
+    private final ConcurrentMap<Object, CompletableFuture<Class<?>>> runningGenerations = new ConcurrentHashMap<>();
+
 
     /**
      * The name of the field which stores the passivationID of the Bean this proxy serves.
@@ -122,6 +155,12 @@ public abstract class AbstractProxyFactory
         useXXhash64 = Boolean.parseBoolean(webBeansContext.getOpenWebBeansConfiguration()
                 .getProperty("org.apache.webbeans.proxy.staticNames.useXxHash64"));
 
+        hiddenClasses = definingService instanceof HiddenClassProxyService;
+
+        String bytecodeCacheDirectory = webBeansContext.getOpenWebBeansConfiguration().getProxyBytecodeCacheDirectory();
+        bytecodeCache = bytecodeCacheDirectory == null || bytecodeCacheDirectory.trim().isEmpty()
+                ? null : new ProxyBytecodeCache(Paths.get(bytecodeCacheDirectory.trim()));
+
         // we have fallbacks bellow to try Unsafe anyways if we can't do otherwise
         unsafe = definingService == null || instantiatingService == null ? new Unsafe() : null;
     }
@@ -205,6 +244,25 @@ public abstract class AbstractProxyFactory
      */
     protected abstract void createSerialisation(ClassWriter cw, String proxyClassFileName, Class<?> classToProxy, String classFileName);
 
+    /**
+     * @return {@code true} if instances of the proxy get serialized with the proxy class itself instead of
+     *         being replaced in {@link #createSerialisation(ClassWriter, String, Class, String) writeReplace()}.
+     *         Such a proxy class must be found by name on deserialization, so it never gets defined as hidden class.
+     */
+    protected boolean isSerializedByClassName(Class<?> classToProxy)
+    {
+        return false;
+    }
+
+    /**
+     * generate additional private methods the proxy needs, e.g. to share code between the delegation methods.
+     * Does nothing by default.
+     */
+    protected void createHelperMethods(ClassWriter cw, String proxyClassFileName, Class<?> classToProxy)
+    {
+        // no helper methods by default
+    }
+
     /**
      * Each of our interceptor/decorator proxies has exactly 1 constructor
      * which invokes the super ct + sets the delegation field.
@@ -255,8 +313,11 @@ public abstract class AbstractProxyFactory
             }
             catch (ClassNotFoundException cnfe)
             {
-                // this is exactly what we need!
-                return finalName;
+                // this is exactly what we need! unless another thread is about to define it
+                if (reservedProxyClassNames.add(finalName))
+                {
+                    return finalName;
+                }
             }
             // otherwise we continue ;)
         }
@@ -269,7 +330,11 @@ public abstract class AbstractProxyFactory
     {
         proxyClassName = fixPreservedPackages(proxyClassName);
 
-
+        if (hiddenClasses)
+        {
+            // the JVM appends a unique suffix to the name of each hidden class
+            return proxyClassName;
+        }
         if (useStaticNames)
         {
             return proxyClassName + uniqueHash(proxiedMethods, notProxiedMethods);
@@ -338,15 +403,69 @@ public abstract class AbstractProxyFactory
                                             Method[] interceptedMethods, Method[] nonInterceptedMethods)
             throws ProxyGenerationException
     {
+        if (hiddenClasses)
+        {
+            return createProxyClass(classLoader, proxyClassName, classToProxy, interceptedMethods, nonInterceptedMethods, null);
+        }
+        return generateOnce(proxyClassName, () ->
+        {
+            try
+            {
+                // this class might already exist from a previous definition.
+                return (Class<T>) classLoader.loadClass(proxyClassName);
+            }
+            catch (ClassNotFoundException e)
+            {
+                // if the class does not yet exist we need to really create it.
+                return createProxyClass(classLoader, proxyClassName, classToProxy, interceptedMethods, nonInterceptedMethods, null);
+            }
+        });
+    }
+
+    /**
+     * Runs the given proxy class generation at most once at a time for the given key.
+     * Concurrent callers for the same key wait for the running generation and get its result,
+     * while generations for different keys run in parallel.
+     * The generator is expected to check its own cache first since the key gets released once the generation is done.
+     *
+     * @param key the bean or proxy class name the generation is done for
+     * @param generator creates (or looks up) the proxy class
+     * @return the proxy class
+     */
+    protected <T> Class<T> generateOnce(Object key, Supplier<Class<T>> generator)
+    {
+        CompletableFuture<Class<?>> generation = new CompletableFuture<>();
+        CompletableFuture<Class<?>> running = runningGenerations.putIfAbsent(key, generation);
+        if (running != null)
+        {
+            try
+            {
+                return (Class<T>) running.join();
+            }
+            catch (CompletionException ce)
+            {
+                if (ce.getCause() instanceof RuntimeException)
+                {
+                    throw (RuntimeException) ce.getCause();
+                }
+                throw ce;
+            }
+        }
+
         try
         {
-            // this class might already exist from a previous definition.
-            return (Class<T>) classLoader.loadClass(proxyClassName);
+            Class<T> proxyClass = generator.get();
+            generation.complete(proxyClass);
+            return proxyClass;
         }
-        catch (ClassNotFoundException e)
+        catch (RuntimeException | Error e)
         {
-            // if the class does not yet exist we need to really create it.
-            return createProxyClass(classLoader, proxyClassName, classToProxy, interceptedMethods, nonInterceptedMethods, null);
+            generation.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            runningGenerations.remove(key, generation);
         }
     }
 
@@ -363,21 +482,57 @@ public abstract class AbstractProxyFactory
                                                       Constructor<T> constructor)
             throws ProxyGenerationException
     {
-        String proxyClassFileName = proxyClassName.replace('.', '/');
+        try
+        {
+            String proxyClassFileName = proxyClassName.replace('.', '/');
+            Method[] proxiedMethods = sortOutDuplicateMethods(interceptedMethods);
+            Method[] delegatedMethods = sortOutDuplicateMethods(nonInterceptedMethods);
 
-        byte[] proxyBytes = generateProxy(classLoader,
-                classToProxy,
-                proxyClassName,
-                proxyClassFileName,
-                sortOutDuplicateMethods(interceptedMethods),
-                sortOutDuplicateMethods(nonInterceptedMethods),
-                constructor);
+            String cacheKey = bytecodeCache == null ? null : bytecodeCache.createKey(
+                    getClass(), javaVersion, classToProxy, proxiedMethods, delegatedMethods, constructor);
+            byte[] proxyBytes = cacheKey == null ? null : bytecodeCache.load(cacheKey, proxyClassName);
+            MetricsService metrics = webBeansContext.getMetricsService();
+            if (proxyBytes != null)
+            {
+                if (metrics.isEnabled())
+                {
+                    metrics.increment(MetricsService.PROXY_CLASSES_CACHE_HITS, getClass().getSimpleName());
+                }
+            }
+            else
+            {
+                proxyBytes = generateProxy(classLoader,
+                        classToProxy,
+                        proxyClassName,
+                        proxyClassFileName,
+                        proxiedMethods,
+                        delegatedMethods,
+                        constructor);
+                if (cacheKey != null)
+                {
+                    bytecodeCache.store(cacheKey, proxyClassName, proxyBytes);
+                }
+                if (metrics.isEnabled())
+                {
+                    metrics.increment(MetricsService.PROXY_CLASSES_GENERATED, getClass().getSimpleName());
+                }
+            }
 
-        if (definingService != null)
+            if (definingService != null)
+            {
+                if (hiddenClasses && isSerializedByClassName(classToProxy))
+                {
+                    return ((HiddenClassProxyService) definingService).defineAndLoadNamed(proxyClassName, proxyBytes, classToProxy);
+                }
+                return definingService.defineAndLoad(proxyClassName, proxyBytes, classToProxy);
+            }
+            return unsafe.defineAndLoadClass(classLoader, proxyClassName, proxyBytes, classToProxy);
+        }
+        finally
         {
-            return definingService.defineAndLoad(proxyClassName, proxyBytes, classToProxy);
+            // once defined the name is taken by the class itself, if the definition failed the name is free again
+            reservedProxyClassNames.remove(proxyClassName);
         }
-        return unsafe.defineAndLoadClass(classLoader, proxyClassName, proxyBytes, classToProxy);
     }
 
     protected <T> T newInstance(final Class<? extends T> proxyClass)
@@ -456,6 +611,8 @@ public abstract class AbstractProxyFactory
 
         createConstructor(cw, proxyClassFileName, classToProxy, classFileName, constructor);
 
+        createHelperMethods(cw, proxyClassFileName, classToProxy);
+
 
         if (nonInterceptedMethods != null)
         {
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.proxy;
+
+import jakarta.inject.Provider;
+
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.intercept.ApplicationScopedBeanInterceptorHandler;
+import org.apache.xbean.asm9.ClassWriter;
+import org.apache.xbean.asm9.Label;
+import org.apache.xbean.asm9.MethodVisitor;
+import org.apache.xbean.asm9.Opcodes;
+import org.apache.xbean.asm9.Type;
+
+/**
+ * <p>Generates normal scoping proxies which keep the Contextual Instance in a
+ * {@link ContextualInstanceCache} after the first resolution. Any further invocation is just
+ * a field load and a direct call onto the instance which can get inlined by the JIT.</p>
+ *
+ * <p>This is only used for beans whose scope is mapped to a caching instance provider
+ * like {@link ApplicationScopedBeanInterceptorHandler}, see
+ * {@link org.apache.webbeans.config.OpenWebBeansConfiguration#CACHING_NORMAL_SCOPE_PROXIES}.
+ * All proxies of a bean and their instance providers share the same {@link ContextualInstanceCache},
+ * which gets cleared when the Contextual Instance gets destroyed.</p>
+ */
+public class CachingNormalScopeProxyFactory extends NormalScopeProxyFactory
+{
+    /** the name of the field which stores the {@link ContextualInstanceCache} of the bean */
+    public static final String FIELD_INSTANCE_CACHE = "owbContextualInstanceCache";
+
+    /** the name of the method which resolves the Contextual Instance */
+    private static final String METHOD_CONTEXTUAL_INSTANCE = "owbContextualInstance";
+
+
+    public CachingNormalScopeProxyFactory(WebBeansContext webBeansContext)
+    {
+        super(webBeansContext, null);
+    }
+
+    @Override
+    protected Class getMarkerInterface()
+    {
+        return OwbCachingNormalScopeProxy.class;
+    }
+
+    @Override
+    protected String getProxyClassSuffix()
+    {
+        return "$$OwbCachingNormalScopeProxy";
+    }
+
+    @Override
+    protected void createInstanceVariables(ClassWriter cw, Class<?> classToProxy, String classFileName)
+    {
+        super.createInstanceVariables(cw, classToProxy, classFileName);
+
+        // variable #3, the cache of the Contextual Instance shared by all proxies of the bean
+        cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_TRANSIENT,
+                FIELD_INSTANCE_CACHE, Type.getDescriptor(ContextualInstanceCache.class), null, null).visitEnd();
+    }
+
+    @Override
+    protected void createHelperMethods(ClassWriter cw, String proxyClassFileName, Class<?> classToProxy)
+    {
+        createContextualInstanceMethod(cw, proxyClassFileName, classToProxy);
+    }
+
+    /**
+     * Generates
+     * <pre>
+     * private T owbContextualInstance()
+     * {
+     *     ContextualInstanceCache cache = owbContextualInstanceCache;
+     *     if (cache != null)
+     *     {
+     *         Object instance = cache.get();
+     *         if (instance != null)
+     *         {
+     *             return (T) instance;
+     *         }
+     *     }
+     *     return (T) owbContextualInstanceProvider.get();
+     * }
+     * </pre>
+     * The provider fills the shared cache on its own, see {@link ApplicationScopedBeanInterceptorHandler}.
+     */
+    private void createContextualInstanceMethod(ClassWriter cw, String proxyClassFileName, Class<?> classToProxy)
+    {
+        String cacheClassName = Type.getInternalName(ContextualInstanceCache.class);
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PRIVATE, METHOD_CONTEXTUAL_INSTANCE, "()" + Type.getDescriptor(classToProxy), null, null);
+        mv.visitCode();
+
+        Label lookup = new Label();
+
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, proxyClassFileName, FIELD_INSTANCE_CACHE, Type.getDescriptor(ContextualInstanceCache.class));
+        mv.visitVarInsn(Opcodes.ASTORE, 1);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitJumpInsn(Opcodes.IFNULL, lookup);
+
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, cacheClassName, "get", "()Ljava/lang/Object;", false);
+        mv.visitVarInsn(Opcodes.ASTORE, 2);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitJumpInsn(Opcodes.IFNULL, lookup);
+
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(classToProxy));
+        mv.visitInsn(Opcodes.ARETURN);
+
+        mv.visitLabel(lookup);
+        super.loadContextualInstance(mv, proxyClassFileName, classToProxy);
+        mv.visitInsn(Opcodes.ARETURN);
+
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    /**
+     * Resolves the Contextual Instance via the shared {@link ContextualInstanceCache}
+     * and only falls back to the {@link Provider} if there is none yet.
+     */
+    @Override
+    protected void loadContextualInstance(MethodVisitor mv, String proxyClassFileName, Class<?> classToProxy)
+    {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, proxyClassFileName, METHOD_CONTEXTUAL_INSTANCE, "()" + Type.getDescriptor(classToProxy), false);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.proxy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>Holds the resolved Contextual Instance of a single bean for all
+ * {@link OwbCachingNormalScopeProxy caching proxies} of that bean and their
+ * {@link org.apache.webbeans.intercept.ApplicationScopedBeanInterceptorHandler}s.</p>
+ *
+ * <p>There is exactly one instance per bean, see
+ * {@link org.apache.webbeans.container.BeanManagerImpl#getContextualInstanceCache(jakarta.enterprise.context.spi.Contextual)}.
+ * Clearing it once the Contextual Instance got destroyed thus invalidates every proxy of the bean,
+ * no matter whether it got injected, looked up, created manually or de-serialized.</p>
+ */
+public final class ContextualInstanceCache
+{
+    private final AtomicReference<Object> instance = new AtomicReference<>();
+
+    /**
+     * Counts the {@link #clear()} calls, lets {@link #set(Object, int)} detect a concurrent destruction.
+     */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * @return the cached Contextual Instance or {@code null} if it needs to get resolved
+     */
+    public Object get()
+    {
+        return instance.get();
+    }
+
+    /**
+     * @return the generation to pass to {@link #set(Object, int)}, must be read before resolving the instance
+     */
+    public int getGeneration()
+    {
+        return generation.get();
+    }
+
+    /**
+     * Caches the given Contextual Instance unless the cache got cleared since the given generation,
+     * as the instance might be destroyed already in that case.
+     */
+    public void set(Object resolved, int resolvedGeneration)
+    {
+        if (generation.get() != resolvedGeneration)
+        {
+            return;
+        }
+        instance.set(resolved);
+        if (generation.get() != resolvedGeneration)
+        {
+            // cleared while we were setting it, don't keep the destroyed instance
+            instance.compareAndSet(resolved, null);
+        }
+    }
+
+    public void clear()
+    {
+        generation.incrementAndGet();
+        instance.set(null);
+    }
+}
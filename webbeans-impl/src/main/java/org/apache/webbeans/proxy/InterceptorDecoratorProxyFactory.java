@@ -171,17 +171,29 @@ public class InterceptorDecoratorProxyFactory extends AbstractProxyFactory
      * @param <T>
      * @return the proxy class
      */
-    public synchronized <T> Class<T> createProxyClass(Bean<T> bean, ClassLoader classLoader, Class<T> classToProxy,
-                                                      Method[] interceptedMethods, Method[] nonInterceptedMethods)
+    public <T> Class<T> createProxyClass(Bean<T> bean, ClassLoader classLoader, Class<T> classToProxy,
+                                         Method[] interceptedMethods, Method[] nonInterceptedMethods)
             throws ProxyGenerationException
     {
-        Class<T> proxyClass = createProxyClass(classLoader, classToProxy, interceptedMethods, nonInterceptedMethods);
-        cachedProxyClasses.put(bean, proxyClass);
-        return proxyClass;
+        // only the generation for this very bean gets serialized, other beans get generated in parallel
+        return generateOnce(bean, () ->
+        {
+            Class<T> cached = (Class<T>) cachedProxyClasses.get(bean);
+            if (cached == null)
+            {
+                cached = createProxyClass(classLoader, classToProxy, interceptedMethods, nonInterceptedMethods);
+                Class<T> existing = (Class<T>) cachedProxyClasses.putIfAbsent(bean, cached);
+                if (existing != null)
+                {
+                    cached = existing;
+                }
+            }
+            return cached;
+        });
     }
 
-    public synchronized <T> Class<T> createProxyClass(InterceptorResolutionService.BeanInterceptorInfo interceptorInfo,
-                                                      AnnotatedType<T> at, ClassLoader classLoader)
+    public <T> Class<T> createProxyClass(InterceptorResolutionService.BeanInterceptorInfo interceptorInfo,
+                                         AnnotatedType<T> at, ClassLoader classLoader)
             throws ProxyGenerationException
     {
         Collection<Method> intercepted = interceptorInfo.getBusinessMethodsInfo().keySet();
@@ -37,8 +37,8 @@ import org.apache.webbeans.config.OpenWebBeansConfiguration;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.exception.ProxyGenerationException;
 import org.apache.webbeans.exception.WebBeansConfigurationException;
+import org.apache.webbeans.intercept.ApplicationScopedBeanInterceptorHandler;
 import org.apache.webbeans.intercept.NormalScopedBeanInterceptorHandler;
-import org.apache.webbeans.util.ClassUtil;
 import org.apache.webbeans.util.ExceptionUtil;
 import org.apache.webbeans.util.WebBeansUtil;
 import org.apache.xbean.asm9.ClassWriter;
@@ -65,10 +65,24 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
      */
     private ConcurrentMap<Bean<?>, Class<?>> cachedProxyClasses = new ConcurrentHashMap<>();
 
+    /**
+     * Generates the proxies of beans which use a caching instance provider,
+     * {@code null} if {@link OpenWebBeansConfiguration#CACHING_NORMAL_SCOPE_PROXIES} is disabled.
+     */
+    private final NormalScopeProxyFactory cachingProxyFactory;
+
 
     public NormalScopeProxyFactory(WebBeansContext webBeansContext)
+    {
+        this(webBeansContext,
+                webBeansContext.getOpenWebBeansConfiguration().isCachingNormalScopeProxies() ?
+                        new CachingNormalScopeProxyFactory(webBeansContext) : null);
+    }
+
+    protected NormalScopeProxyFactory(WebBeansContext webBeansContext, NormalScopeProxyFactory cachingProxyFactory)
     {
         super(webBeansContext);
+        this.cachingProxyFactory = cachingProxyFactory;
     }
 
     @Override
@@ -117,47 +131,54 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
 
     public <T> T createNormalScopeProxy(Bean<T> bean)
     {
-        ClassLoader classLoader;
-        if (bean.getBeanClass() != null)
-        {
-            classLoader = getProxyClassLoader(bean.getBeanClass());
-        }
-        else if (OwbBean.class.isInstance(bean) && OwbBean.class.cast(bean).getReturnType() != null)
-        {
-            classLoader = getProxyClassLoader(OwbBean.class.cast(bean).getReturnType());
-        }
-        else
+        ClassLoader classLoader = getProxyClassLoader(bean);
+
+        Class<? extends T> proxyClass = (Class<? extends T>) cachedProxyClasses.get(bean);
+
+        if (proxyClass == null)
         {
-            classLoader = WebBeansUtil.getCurrentClassLoader();
+            proxyClass = createProxyClass(bean, classLoader, getClassToProxy(bean));
         }
 
-        Class<T> classToProxy;
-        if (bean instanceof OwbBean)
+        return createProxyInstance(proxyClass, getInstanceProvider(classLoader, bean));
+    }
+
+    /**
+     * Creates the proxy class for the given normal scoped bean without creating a proxy instance.
+     * This is used to generate the proxy classes eagerly while deploying the beans.
+     */
+    public <T> Class<T> createProxyClass(Bean<T> bean)
+    {
+        return createProxyClass(bean, getProxyClassLoader(bean), getClassToProxy(bean));
+    }
+
+    private ClassLoader getProxyClassLoader(Bean<?> bean)
+    {
+        if (bean.getBeanClass() != null)
         {
-            classToProxy = ((OwbBean<T>) bean).getReturnType();
+            return getProxyClassLoader(bean.getBeanClass());
         }
-        else
+        else if (OwbBean.class.isInstance(bean) && OwbBean.class.cast(bean).getReturnType() != null)
         {
-            // TODO: that might be wrong sometimes
-            classToProxy = (Class<T>) bean.getBeanClass();
+            return getProxyClassLoader(OwbBean.class.cast(bean).getReturnType());
         }
+        return WebBeansUtil.getCurrentClassLoader();
+    }
 
-        Class<? extends T> proxyClass = (Class<? extends T>) cachedProxyClasses.get(bean);
-
-        if (proxyClass == null)
+    private <T> Class<T> getClassToProxy(Bean<T> bean)
+    {
+        if (bean instanceof OwbBean)
         {
-            proxyClass = createProxyClass(bean, classLoader, classToProxy);
+            return ((OwbBean<T>) bean).getReturnType();
         }
-
-        return createProxyInstance(proxyClass, getInstanceProvider(classLoader, bean));
+        // TODO: that might be wrong sometimes
+        return (Class<T>) bean.getBeanClass();
     }
 
     public Provider getInstanceProvider(ClassLoader classLoader, Bean<?> bean)
     {
-        String scopeClassName = bean.getScope().getName();
         Class<? extends Provider> instanceProviderClass;
-        String proxyMappingConfigKey = OpenWebBeansConfiguration.PROXY_MAPPING_PREFIX + scopeClassName;
-        String className = webBeansContext.getOpenWebBeansConfiguration().getProperty(proxyMappingConfigKey);
+        String className = getInstanceProviderClassName(bean);
         if (className == null || NormalScopedBeanInterceptorHandler.class.getName().equals(className))
         {
             return new NormalScopedBeanInterceptorHandler(webBeansContext.getBeanManagerImpl(), bean);
@@ -183,17 +204,64 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
         }
     }
 
-    public synchronized <T> Class<T> createProxyClass(Bean<T> bean, ClassLoader classLoader, Class<T> classToProxy)
+    private String getInstanceProviderClassName(Bean<?> bean)
     {
-        Class<T> proxyClass = (Class<T>) cachedProxyClasses.get(bean);
+        String proxyMappingConfigKey = OpenWebBeansConfiguration.PROXY_MAPPING_PREFIX + bean.getScope().getName();
+        return webBeansContext.getOpenWebBeansConfiguration().getProperty(proxyMappingConfigKey);
+    }
 
-        if (proxyClass == null)
+    /**
+     * @return whether the configured instance provider for the scope of the bean
+     *         caches the contextual instance, i.e. whether the proxy is allowed to cache it as well.
+     */
+    private boolean isCachingInstanceProvider(ClassLoader classLoader, Bean<?> bean)
+    {
+        String className = getInstanceProviderClassName(bean);
+        if (className == null)
+        {
+            return false;
+        }
+        if (ApplicationScopedBeanInterceptorHandler.class.getName().equals(className))
+        {
+            return true;
+        }
+        try
+        {
+            return ApplicationScopedBeanInterceptorHandler.class.isAssignableFrom(Class.forName(className, false, classLoader));
+        }
+        catch (ClassNotFoundException e)
         {
-            proxyClass = createProxyClass(classLoader, classToProxy);
-            cachedProxyClasses.putIfAbsent(bean, proxyClass);
+            // will fail in getInstanceProvider
+            return false;
         }
+    }
 
-        return proxyClass;
+    public <T> Class<T> createProxyClass(Bean<T> bean, ClassLoader classLoader, Class<T> classToProxy)
+    {
+        Class<T> proxyClass = (Class<T>) cachedProxyClasses.get(bean);
+        if (proxyClass != null)
+        {
+            return proxyClass;
+        }
+
+        // only the generation for this very bean gets serialized, other beans get generated in parallel
+        return generateOnce(bean, () ->
+        {
+            Class<T> cached = (Class<T>) cachedProxyClasses.get(bean);
+            if (cached == null)
+            {
+                if (cachingProxyFactory != null && isCachingInstanceProvider(classLoader, bean))
+                {
+                    cached = cachingProxyFactory.createProxyClass(classLoader, classToProxy);
+                }
+                else
+                {
+                    cached = createProxyClass(classLoader, classToProxy);
+                }
+                cachedProxyClasses.putIfAbsent(bean, cached);
+            }
+            return cached;
+        });
     }
 
     @Override
@@ -228,7 +296,7 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
         Method[] interceptedMethods = null;
         if (classToProxy.isInterface())
         {
-            nonInterceptedMethods = classToProxy.getMethods();
+            nonInterceptedMethods = webBeansContext.getClassMetadata().getMethods(classToProxy);
         }
         else
         {
@@ -236,7 +304,7 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
             List<Method> protectedMethods = new ArrayList<>();
 
 
-            for (Method method : ClassUtil.getNonPrivateMethods(classToProxy, true, true))
+            for (Method method : webBeansContext.getClassMetadata().getNonPrivateMethods(classToProxy, true, true))
             {
                 if (unproxyableMethodExceptBridge(method))
                 {
@@ -258,7 +326,7 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
 
         String proxyClassName = getUnusedProxyClassName(
                 classLoader,
-                (classToProxy.getSigners() != null ? getSignedClassProxyName(classToProxy) : classToProxy.getName()) + "$$OwbNormalScopeProxy",
+                (classToProxy.getSigners() != null ? getSignedClassProxyName(classToProxy) : classToProxy.getName()) + getProxyClassSuffix(),
                 interceptedMethods, nonInterceptedMethods);
 
         Class<T> clazz = createProxyClass(classLoader, proxyClassName, classToProxy, interceptedMethods, nonInterceptedMethods);
@@ -279,6 +347,14 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
         return clazz;
     }
 
+    /**
+     * @return the suffix which gets appended to the name of the proxied class
+     */
+    protected String getProxyClassSuffix()
+    {
+        return "$$OwbNormalScopeProxy";
+    }
+
     public <T> T createProxyInstance(Class<T> proxyClass, Provider provider)
             throws ProxyGenerationException
     {
@@ -290,6 +366,18 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
             delegateField.setAccessible(true);
             delegateField.set(proxy, provider);
 
+            if (proxy instanceof OwbCachingNormalScopeProxy && provider instanceof ApplicationScopedBeanInterceptorHandler)
+            {
+                // all proxies of the bean share the cache, so destroying the instance invalidates each of them
+                ApplicationScopedBeanInterceptorHandler handler = (ApplicationScopedBeanInterceptorHandler) provider;
+                ContextualInstanceCache cache = webBeansContext.getBeanManagerImpl().getContextualInstanceCache(handler.getBean());
+                handler.setContextualInstanceCache(cache);
+
+                Field cacheField = proxy.getClass().getDeclaredField(CachingNormalScopeProxyFactory.FIELD_INSTANCE_CACHE);
+                cacheField.setAccessible(true);
+                cacheField.set(proxy, cache);
+            }
+
             return proxy;
         }
         catch (Exception e)
@@ -402,16 +490,7 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
             // fill method body
             mv.visitCode();
 
-            // load the contextual instance Provider
-            mv.visitVarInsn(Opcodes.ALOAD, 0);
-            mv.visitFieldInsn(Opcodes.GETFIELD, proxyClassFileName, FIELD_INSTANCE_PROVIDER, Type.getDescriptor(Provider.class));
-
-            // invoke the get() method on the Provider
-            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Provider.class), "get", "()Ljava/lang/Object;", true);
-
-            // and convert the Object to the target class type
-            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(classToProxy));
-
+            loadContextualInstance(mv, proxyClassFileName, classToProxy);
 
             // now calculate the parameters
             int offset = 1;
@@ -437,6 +516,23 @@ public class NormalScopeProxyFactory extends AbstractProxyFactory
 
     }
 
+    /**
+     * Generates the bytecode which pushes the current contextual instance,
+     * already casted to the proxied type, onto the stack.
+     */
+    protected void loadContextualInstance(MethodVisitor mv, String proxyClassFileName, Class<?> classToProxy)
+    {
+        // load the contextual instance Provider
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, proxyClassFileName, FIELD_INSTANCE_PROVIDER, Type.getDescriptor(Provider.class));
+
+        // invoke the get() method on the Provider
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Provider.class), "get", "()Ljava/lang/Object;", true);
+
+        // and convert the Object to the target class type
+        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(classToProxy));
+    }
+
     private boolean isIgnoredMethod(final Method delegatedMethod)
     {
         return "writeReplace".equals(delegatedMethod.getName());
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.proxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.apache.webbeans.hash.XxHash64;
+import org.apache.webbeans.logger.WebBeansLoggerFacade;
+import org.apache.xbean.asm9.ClassReader;
+import org.apache.xbean.asm9.ClassWriter;
+import org.apache.xbean.asm9.commons.ClassRemapper;
+import org.apache.xbean.asm9.commons.SimpleRemapper;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Stores generated proxy bytecode in a directory so later starts can define it without running ASM again.
+ *
+ * <p>An entry is keyed by the proxy factory (including a hash of the bytecode of the whole factory hierarchy
+ * and of ASM plus the OWB version, so an upgrade invalidates the cache), the target bytecode version, a hash of the bytecode of the proxied class,
+ * the constructor and the intercepted and non intercepted method signatures.
+ * The file name is the XxHash64 of that key, the full key is stored in the file as well and verified on read
+ * so a hash collision just results in a cache miss.</p>
+ *
+ * <p>The proxy class name is not part of the key since its numeric suffix depends on the order the proxies
+ * get generated in. The file stores the name the bytecode got generated with and a load for another name
+ * renames the class in the bytecode.</p>
+ *
+ * <p>Any IO problem only disables the cache for the affected proxy, it never breaks the proxy generation.</p>
+ */
+final class ProxyBytecodeCache
+{
+    private static final Logger LOGGER = WebBeansLoggerFacade.getLogger(ProxyBytecodeCache.class);
+
+    private static final ClassValue<String> BYTECODE_HASHES = new ClassValue<String>()
+    {
+        @Override
+        protected String computeValue(final Class<?> type)
+        {
+            return hashBytecode(type);
+        }
+    };
+
+    /**
+     * Hash of a proxy factory including all its superclasses up to {@link AbstractProxyFactory},
+     * since most of the emitted bytecode comes from there, and of the ASM and OWB versions.
+     */
+    private static final ClassValue<String> FACTORY_HASHES = new ClassValue<String>()
+    {
+        @Override
+        protected String computeValue(final Class<?> type)
+        {
+            return hashFactory(type);
+        }
+    };
+
+    private final Path directory;
+
+    ProxyBytecodeCache(final Path directory)
+    {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the cache key or {@code null} if the proxy can't be cached, e.g. because the bytecode of the proxied class is not available
+     */
+    String createKey(final Class<?> factoryType, final int javaVersion, final Class<?> classToProxy,
+                     final Method[] interceptedMethods, final Method[] nonInterceptedMethods, final Constructor<?> constructor)
+    {
+        final String factoryHash = FACTORY_HASHES.get(factoryType);
+        final String classHash = BYTECODE_HASHES.get(classToProxy);
+        if (factoryHash == null || classHash == null)
+        {
+            return null;
+        }
+        return factoryType.getName() + '@' + factoryHash + '\n'
+                + javaVersion + '\n'
+                + classToProxy.getName() + '@' + classHash + '\n'
+                + (constructor == null ? "" : constructor.toGenericString()) + '\n'
+                + signatures(interceptedMethods) + '\n'
+                + signatures(nonInterceptedMethods);
+    }
+
+    /**
+     * @return the cached bytecode of a class named {@code proxyClassName} or {@code null} if there is none
+     */
+    byte[] load(final String key, final String proxyClassName)
+    {
+        final Path file = fileOf(key);
+        if (!Files.isRegularFile(file))
+        {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file)))
+        {
+            final byte[] storedKey = new byte[in.readInt()];
+            in.readFully(storedKey);
+            if (!key.equals(new String(storedKey, StandardCharsets.UTF_8)))
+            {
+                return null;
+            }
+            final String storedName = in.readUTF();
+            final byte[] bytecode = new byte[in.readInt()];
+            in.readFully(bytecode);
+            return storedName.equals(proxyClassName) ? bytecode : rename(bytecode, storedName, proxyClassName);
+        }
+        catch (final IOException e)
+        {
+            LOGGER.log(Level.FINE, "Can't read cached proxy " + file, e);
+            return null;
+        }
+    }
+
+    void store(final String key, final String proxyClassName, final byte[] bytecode)
+    {
+        final Path file = fileOf(key);
+        Path tmp = null;
+        try
+        {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp)))
+            {
+                final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(keyBytes.length);
+                out.write(keyBytes);
+                out.writeUTF(proxyClassName);
+                out.writeInt(bytecode.length);
+                out.write(bytecode);
+            }
+            try
+            {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (final AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        }
+        catch (final IOException e)
+        {
+            LOGGER.log(Level.FINE, "Can't store proxy in " + file, e);
+        }
+        finally
+        {
+            if (tmp != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(tmp);
+                }
+                catch (final IOException e)
+                {
+                    // no-op
+                }
+            }
+        }
+    }
+
+    static byte[] rename(final byte[] bytecode, final String from, final String to)
+    {
+        final ClassReader reader = new ClassReader(bytecode);
+        final ClassWriter writer = new ClassWriter(0);
+        reader.accept(new ClassRemapper(writer, new SimpleRemapper(from.replace('.', '/'), to.replace('.', '/'))), 0);
+        return writer.toByteArray();
+    }
+
+    private Path fileOf(final String key)
+    {
+        return directory.resolve(Long.toHexString(XxHash64.apply(key)) + ".proxy");
+    }
+
+    private static String signatures(final Method[] methods)
+    {
+        if (methods == null)
+        {
+            return "";
+        }
+        return Stream.of(methods)
+                .map(m -> m.getDeclaringClass().getName() + '#' + m.toGenericString())
+                .sorted()
+                .collect(joining(";"));
+    }
+
+    private static String hashFactory(final Class<?> factoryType)
+    {
+        final StringBuilder hash = new StringBuilder();
+        for (Class<?> type = factoryType; type != null && AbstractProxyFactory.class.isAssignableFrom(type); type = type.getSuperclass())
+        {
+            final String typeHash = BYTECODE_HASHES.get(type);
+            if (typeHash == null)
+            {
+                return null;
+            }
+            hash.append(type.getName()).append('@').append(typeHash).append(';');
+        }
+
+        // the emitted bytecode also depends on the ASM version
+        final String asmHash = BYTECODE_HASHES.get(ClassWriter.class);
+        if (asmHash == null)
+        {
+            return null;
+        }
+        return hash.append("asm@").append(asmHash)
+                .append(";owb@").append(AbstractProxyFactory.class.getPackage().getImplementationVersion())
+                .toString();
+    }
+
+    private static String hashBytecode(final Class<?> type)
+    {
+        try (InputStream stream = type.getResourceAsStream('/' + type.getName().replace('.', '/') + ".class"))
+        {
+            if (stream == null)
+            {
+                return null;
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            stream.transferTo(out);
+            final byte[] bytes = out.toByteArray();
+            return Long.toHexString(XxHash64.apply(ByteBuffer.wrap(bytes))) + '-' + bytes.length
+                    + '-' + Integer.toHexString(Arrays.hashCode(bytes));
+        }
+        catch (final IOException e)
+        {
+            return null;
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.webbeans.proxy;
 
+import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -26,7 +27,6 @@ import java.util.List;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.exception.ProxyGenerationException;
 import org.apache.webbeans.exception.WebBeansConfigurationException;
-import org.apache.webbeans.util.ClassUtil;
 import org.apache.xbean.asm9.ClassWriter;
 import org.apache.xbean.asm9.MethodVisitor;
 import org.apache.xbean.asm9.Opcodes;
@@ -119,7 +119,7 @@ public class SubclassProxyFactory extends AbstractProxyFactory
 
         String proxyClassName = getSubClassName(classToProxy);
 
-        List<Method> methods = ClassUtil.getNonPrivateMethods(classToProxy, true);
+        List<Method> methods = webBeansContext.getClassMetadata().getNonPrivateMethods(classToProxy, true, false);
         Method[] businessMethods = methods.toArray(new Method[0]);
 
         AnnotatedConstructor<T> aCons = webBeansContext.getWebBeansUtil().getInjectedConstructor(annotatedType);
@@ -205,6 +205,13 @@ public class SubclassProxyFactory extends AbstractProxyFactory
         // nothing to do ;)
     }
 
+    @Override
+    protected boolean isSerializedByClassName(Class<?> classToProxy)
+    {
+        // the decorator gets serialized as it is
+        return Serializable.class.isAssignableFrom(classToProxy);
+    }
+
     @Override
     protected void delegateNonInterceptedMethods(ClassLoader classLoader, ClassWriter cw, String proxyClassFileName, Class<?> classToProxy,
                                                  Method[] noninterceptedMethods) throws ProxyGenerationException
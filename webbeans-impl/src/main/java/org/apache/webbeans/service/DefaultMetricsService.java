@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.service;
+
+import org.apache.webbeans.spi.MetricsService;
+
+/**
+ * Default {@link MetricsService} which drops all metrics.
+ */
+public class DefaultMetricsService implements MetricsService
+{
+    @Override
+    public boolean isEnabled()
+    {
+        return false;
+    }
+
+    @Override
+    public void increment(String name, String tag)
+    {
+        // no-op
+    }
+
+    @Override
+    public void decrement(String name, String tag)
+    {
+        // no-op
+    }
+
+    @Override
+    public void record(String name, String tag, long value)
+    {
+        // no-op
+    }
+}
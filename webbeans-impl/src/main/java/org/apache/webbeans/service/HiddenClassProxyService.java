@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.service;
+
+import java.lang.invoke.MethodHandles;
+
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.exception.ProxyGenerationException;
+
+/**
+ * Defines proxies as hidden classes (see {@link MethodHandles.Lookup#defineHiddenClass(byte[], boolean, MethodHandles.Lookup.ClassOption...)})
+ * in the package of the proxied class.
+ *
+ * <p>Hidden classes are not registered in any ClassLoader so they can be garbage collected as soon as
+ * the owning bean (and therefore the proxy factory cache) goes away. This avoids leaking proxy classes
+ * into long living ClassLoaders on redeployment. Since they can't be looked up by name the proxy factories
+ * do not need to probe for a free proxy class name either.</p>
+ *
+ * <p>Being not findable by name is no problem for the serialization of normal scoped, intercepted and decorated beans,
+ * including the passivation capable {@code @SessionScoped} and {@code @ConversationScoped} ones: their proxies replace
+ * themselves with their serializable handler and get re-created on deserialization. Only the subclasses of serializable
+ * abstract decorators get serialized with their own class, those get defined as regular named classes
+ * like the {@link LookupProxyService} does, see {@link #defineAndLoadNamed(String, byte[], Class)}.</p>
+ *
+ * <p>Enable it with {@code org.apache.webbeans.spi.DefiningClassService=org.apache.webbeans.service.HiddenClassProxyService}.</p>
+ */
+public class HiddenClassProxyService extends LookupProxyService
+{
+    public HiddenClassProxyService(final WebBeansContext context)
+    {
+        super(context);
+    }
+
+    @Override
+    public <T> Class<T> defineAndLoad(final String name, final byte[] bytecode, final Class<T> proxiedClass)
+    {
+        try
+        {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(getLookupHost(name, proxiedClass), MethodHandles.lookup());
+            return (Class<T>) lookup.defineHiddenClass(bytecode, true).lookupClass();
+        }
+        catch (final IllegalAccessException | LinkageError e)
+        {
+            throw new ProxyGenerationException("Can't define hidden proxy class " + name, e);
+        }
+    }
+
+    /**
+     * Defines a regular proxy class which can be found by its name, for proxies whose instances get serialized
+     * with the proxy class itself.
+     */
+    public <T> Class<T> defineAndLoadNamed(final String name, final byte[] bytecode, final Class<T> proxiedClass)
+    {
+        return super.defineAndLoad(name, bytecode, proxiedClass);
+    }
+}
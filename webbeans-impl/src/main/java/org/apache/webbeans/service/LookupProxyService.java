@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.custom.CustomProxyPackageMarker;
+import org.apache.webbeans.custom.signed.CustomSignedProxyPackageMarker;
+import org.apache.webbeans.exception.ProxyGenerationException;
+import org.apache.webbeans.logger.WebBeansLoggerFacade;
+import org.apache.webbeans.spi.DefiningClassService;
+import org.apache.webbeans.spi.InstantiatingClassService;
+
+/**
+ * Proxy backend which neither needs {@code sun.misc.Unsafe} nor any {@code --add-opens} flag.
+ *
+ * <p>Proxies get defined with {@link MethodHandles.Lookup#defineClass(byte[])} in the package
+ * (and ClassLoader) of the proxied class. Instances get created through a serialization constructor
+ * of the proxy class: a generated no-arg constructor which only invokes {@code Object()} and
+ * therefore skips the constructors of the proxied class, exactly like {@code Unsafe.allocateInstance} does.
+ * {@code sun.reflect.ReflectionFactory} lives in the exported {@code jdk.unsupported} module so no
+ * flag is needed. If it is not available we fall back to the public no-arg constructor of the proxy.</p>
+ *
+ * <p>Enable it with {@code org.apache.webbeans.spi.DefiningClassService=org.apache.webbeans.service.LookupProxyService}.</p>
+ */
+public class LookupProxyService implements DefiningClassService, InstantiatingClassService
+{
+    private static final Object REFLECTION_FACTORY;
+    private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+
+    static
+    {
+        Object factory = null;
+        Method newConstructor = null;
+        try
+        {
+            final Class<?> reflectionFactory = Class.forName("sun.reflect.ReflectionFactory");
+            factory = reflectionFactory.getMethod("getReflectionFactory").invoke(null);
+            newConstructor = reflectionFactory.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+        }
+        catch (final Exception | LinkageError e)
+        {
+            WebBeansLoggerFacade.getLogger(LookupProxyService.class)
+                    .info("sun.reflect.ReflectionFactory not available, proxies will be created using their default constructor");
+        }
+        REFLECTION_FACTORY = factory;
+        NEW_CONSTRUCTOR_FOR_SERIALIZATION = newConstructor;
+    }
+
+    private final ClassValue<Constructor<?>> constructors = new ClassValue<Constructor<?>>()
+    {
+        @Override
+        protected Constructor<?> computeValue(final Class<?> type)
+        {
+            return findConstructor(type);
+        }
+    };
+
+    private final WebBeansContext context;
+
+    public LookupProxyService(final WebBeansContext context)
+    {
+        this.context = context;
+    }
+
+    @Override
+    public ClassLoader getProxyClassLoader(final Class<?> forClass)
+    {
+        // a class defined through a Lookup always lives in the loader of its lookup class
+        final ClassLoader classLoader = forClass.getClassLoader();
+        if (classLoader == null)
+        {
+            return context.getApplicationBoundaryService().getBoundaryClassLoader(forClass);
+        }
+        return classLoader;
+    }
+
+    @Override
+    public <T> Class<T> defineAndLoad(final String name, final byte[] bytecode, final Class<T> proxiedClass)
+    {
+        final Class<?> host = getLookupHost(name, proxiedClass);
+        try
+        {
+            return (Class<T>) MethodHandles.privateLookupIn(host, MethodHandles.lookup()).defineClass(bytecode);
+        }
+        catch (final LinkageError e)
+        {
+            // another container sharing this ClassLoader defined it in the meantime
+            try
+            {
+                return (Class<T>) Class.forName(name, true, host.getClassLoader());
+            }
+            catch (final ClassNotFoundException cnfe)
+            {
+                throw new ProxyGenerationException("Can't define proxy class " + name, e);
+            }
+        }
+        catch (final IllegalAccessException e)
+        {
+            throw new ProxyGenerationException("Can't define proxy class " + name, e);
+        }
+    }
+
+    @Override
+    public <T> T newInstance(final Class<? extends T> proxyClass)
+    {
+        try
+        {
+            return (T) constructors.get(proxyClass).newInstance();
+        }
+        catch (final InvocationTargetException e)
+        {
+            throw new IllegalStateException("Failed to create a new Proxy instance of " + proxyClass.getName(),
+                    e.getTargetException() != null ? e.getTargetException() : e);
+        }
+        catch (final Exception e)
+        {
+            throw new IllegalStateException("Failed to create a new Proxy instance of " + proxyClass.getName(), e);
+        }
+    }
+
+    /**
+     * Proxies must be defined in the package of their lookup class,
+     * proxies of reserved or signed packages are moved to our custom packages.
+     */
+    protected Class<?> getLookupHost(final String name, final Class<?> proxiedClass)
+    {
+        if (name.startsWith("org.apache.webbeans.custom.signed."))
+        {
+            return CustomSignedProxyPackageMarker.class;
+        }
+        if (name.startsWith("org.apache.webbeans.custom."))
+        {
+            return CustomProxyPackageMarker.class;
+        }
+        return proxiedClass;
+    }
+
+    private static Constructor<?> findConstructor(final Class<?> proxyClass)
+    {
+        // hidden classes can't be referenced by the generated accessor of the serialization constructor
+        if (NEW_CONSTRUCTOR_FOR_SERIALIZATION != null && !proxyClass.isHidden())
+        {
+            try
+            {
+                final Constructor<?> constructor = (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(
+                        REFLECTION_FACTORY, proxyClass, Object.class.getConstructor());
+                if (constructor != null)
+                {
+                    return constructor;
+                }
+            }
+            catch (final Exception e)
+            {
+                // fall back to the generated default constructor
+            }
+        }
+        try
+        {
+            return proxyClass.getConstructor();
+        }
+        catch (final NoSuchMethodException e)
+        {
+            throw new ProxyGenerationException("No default constructor on " + proxyClass.getName(), e);
+        }
+    }
+}
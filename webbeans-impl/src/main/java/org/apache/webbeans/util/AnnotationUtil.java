@@ -370,7 +370,7 @@ public final class AnnotationUtil
      * @param method
      * @return
      */
-    private static Object callMethod(Object instance, Method method)
+    public static Object callMethod(Object instance, Method method)
     {
         try
         {
@@ -393,7 +393,7 @@ public final class AnnotationUtil
      *
      * @param qualifierAnnotationType
      */
-    private static List<Method> getBindingCdiAnnotationMethods(Class<? extends Annotation> qualifierAnnotationType)
+    public static List<Method> getBindingCdiAnnotationMethods(Class<? extends Annotation> qualifierAnnotationType)
     {
         Method[] qualifierMethods = qualifierAnnotationType.getDeclaredMethods();
 
@@ -417,7 +417,13 @@ public final class AnnotationUtil
         return Collections.emptyList();
     }
 
-    private static List<Method> getBindingCdiAnnotationMethods(AnnotatedType<?> at)
+    /**
+     * Return a List of all methods of the qualifier model,
+     * which are not annotated with @Nonbinding.
+     *
+     * @param at the AnnotatedType of the qualifier, e.g. added via BeforeBeanDiscovery#addQualifier
+     */
+    public static List<Method> getBindingCdiAnnotationMethods(AnnotatedType<?> at)
     {
         List<Method> bindingMethods = new ArrayList<>();
         for (AnnotatedMethod<?> method : at.getMethods())
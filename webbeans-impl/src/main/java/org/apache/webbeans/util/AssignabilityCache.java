@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.util;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memoizes the results of {@link GenericsUtil#satisfiesDependency} and {@link GenericsUtil#isAssignableFrom}
+ * for each pair of types.
+ * <p>
+ * Only pairs which involve a parameterized, wildcard or generic array type without type variables get cached:
+ * assignability between plain classes is already cheap and type variables depend on their declaration.
+ * Misses compute the result with a fresh visited map.
+ * </p>
+ * <p>
+ * The number of cached pairs is limited since dynamic lookups can use any number of distinct types.
+ * Once the limit is reached the {@link ClockCache} evicts pairs which were not used recently.
+ * </p>
+ */
+public final class AssignabilityCache
+{
+    private static final int DELEGATE_OR_EVENT = 1;
+    private static final int PRODUCER = 2;
+    private static final int SATISFIES_DEPENDENCY = 4;
+
+    /**
+     * Two classes get compared without tracking any visited types.
+     */
+    private static final Map<Type, Integer> NO_VISITS = Collections.emptyMap();
+
+    private final ClockCache<Key, Boolean> results;
+
+    public AssignabilityCache(int maxSize)
+    {
+        results = new ClockCache<>(maxSize);
+    }
+
+    /**
+     * @see GenericsUtil#satisfiesDependency(boolean, boolean, Type, Type, java.util.Map)
+     */
+    public boolean satisfiesDependency(boolean isDelegateOrEvent, boolean isProducer, Type injectionPointType, Type beanType)
+    {
+        if (injectionPointType instanceof Class && beanType instanceof Class)
+        {
+            return GenericsUtil.satisfiesDependency(isDelegateOrEvent, isProducer, injectionPointType, beanType, NO_VISITS);
+        }
+
+        Key key = new Key(SATISFIES_DEPENDENCY | flags(isDelegateOrEvent, isProducer), injectionPointType, beanType);
+        Boolean result = results.get(key);
+        if (result == null)
+        {
+            result = GenericsUtil.satisfiesDependency(isDelegateOrEvent, isProducer, injectionPointType, beanType, new HashMap<>());
+            store(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * @see GenericsUtil#isAssignableFrom(boolean, boolean, Type, Type, java.util.Map)
+     */
+    public boolean isAssignableFrom(boolean isDelegateOrEvent, boolean isProducer, Type requiredType, Type beanType)
+    {
+        if (requiredType instanceof Class && beanType instanceof Class)
+        {
+            return GenericsUtil.isAssignableFrom(isDelegateOrEvent, isProducer, requiredType, beanType, NO_VISITS);
+        }
+
+        Key key = new Key(flags(isDelegateOrEvent, isProducer), requiredType, beanType);
+        Boolean result = results.get(key);
+        if (result == null)
+        {
+            result = GenericsUtil.isAssignableFrom(isDelegateOrEvent, isProducer, requiredType, beanType, new HashMap<>());
+            store(key, result);
+        }
+        return result;
+    }
+
+    public int size()
+    {
+        return results.size();
+    }
+
+    public void clear()
+    {
+        results.clear();
+    }
+
+    private void store(Key key, Boolean result)
+    {
+        if (isConcrete(key.requiredType) && isConcrete(key.beanType))
+        {
+            results.put(key, result);
+        }
+    }
+
+    private static int flags(boolean isDelegateOrEvent, boolean isProducer)
+    {
+        return (isDelegateOrEvent ? DELEGATE_OR_EVENT : 0) | (isProducer ? PRODUCER : 0);
+    }
+
+    /**
+     * @return {@code true} if the type does not contain any type variable
+     */
+    private static boolean isConcrete(Type type)
+    {
+        if (type instanceof Class)
+        {
+            return true;
+        }
+        if (type instanceof ParameterizedType)
+        {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            for (Type argument : parameterizedType.getActualTypeArguments())
+            {
+                if (!isConcrete(argument))
+                {
+                    return false;
+                }
+            }
+            return parameterizedType.getOwnerType() == null || isConcrete(parameterizedType.getOwnerType());
+        }
+        if (type instanceof WildcardType)
+        {
+            WildcardType wildcardType = (WildcardType) type;
+            for (Type bound : wildcardType.getUpperBounds())
+            {
+                if (!isConcrete(bound))
+                {
+                    return false;
+                }
+            }
+            for (Type bound : wildcardType.getLowerBounds())
+            {
+                if (!isConcrete(bound))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type instanceof GenericArrayType)
+        {
+            return isConcrete(((GenericArrayType) type).getGenericComponentType());
+        }
+        // TypeVariable or unknown Type implementations
+        return false;
+    }
+
+    /**
+     * The flags of the call, the required and the bean type.
+     */
+    private static final class Key
+    {
+        private final int flags;
+        private final Type requiredType;
+        private final Type beanType;
+        private final int hashCode;
+
+        private Key(int flags, Type requiredType, Type beanType)
+        {
+            this.flags = flags;
+            this.requiredType = requiredType;
+            this.beanType = beanType;
+            this.hashCode = 31 * (31 * flags + requiredType.hashCode()) + beanType.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+            Key other = (Key) o;
+            return flags == other.flags && requiredType.equals(other.requiredType) && beanType.equals(other.beanType);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.util;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache of the reflective method tables of a class for a {@link org.apache.webbeans.config.WebBeansContext},
+ * shared by the bean and interceptor resolution, the annotated types and the proxy factories so that
+ * a class hierarchy only gets walked once.
+ *
+ * <p>If {@link org.apache.webbeans.config.OpenWebBeansConfiguration#SHARED_CLASS_METADATA} is enabled
+ * the entries of classes loaded by the ClassLoader of OpenWebBeans or one of its children are attached to
+ * the classes via a {@link ClassValue}: they are shared by all contexts and go away together with the class.
+ * All other classes, and all classes if the sharing is disabled, get kept in a map of this context which
+ * gets dropped by {@link #clear()} on shutdown. Attaching an entry to a class of a parent ClassLoader
+ * would pin the ClassLoader of OpenWebBeans.</p>
+ *
+ * <p>All returned arrays and lists are shared and must not be modified.</p>
+ */
+public final class ClassMetadata
+{
+    private static final ClassLoader OWB_LOADER = ClassMetadata.class.getClassLoader();
+
+    private static final ClassValue<Entry> SHARED_CLASSES = new ClassValue<Entry>()
+    {
+        @Override
+        protected Entry computeValue(Class<?> type)
+        {
+            return new Entry();
+        }
+    };
+
+    private final ConcurrentMap<Class<?>, Entry> classes = new ConcurrentHashMap<>();
+    private final boolean shared;
+
+    /**
+     * @param shared whether the entries of the classes of the ClassLoader of OpenWebBeans
+     *               and its children get shared with all other contexts
+     */
+    public ClassMetadata(boolean shared)
+    {
+        this.shared = shared;
+    }
+
+    /**
+     * @return the result of {@link Class#getDeclaredMethods()}
+     */
+    public Method[] getDeclaredMethods(Class<?> type)
+    {
+        Entry entry = entry(type);
+        Method[] result = entry.declaredMethods;
+        if (result == null)
+        {
+            result = type.getDeclaredMethods();
+            entry.declaredMethods = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the result of {@link Class#getMethods()}
+     */
+    public Method[] getMethods(Class<?> type)
+    {
+        Entry entry = entry(type);
+        Method[] result = entry.methods;
+        if (result == null)
+        {
+            result = type.getMethods();
+            entry.methods = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the result of {@link ClassUtil#getNonPrivateMethods(Class, boolean, boolean)} as unmodifiable list
+     */
+    public List<Method> getNonPrivateMethods(Class<?> type, boolean excludeFinalMethods, boolean includeJvmBridgeMethods)
+    {
+        Entry entry = entry(type);
+        int slot = (excludeFinalMethods ? 1 : 0) | (includeJvmBridgeMethods ? 2 : 0);
+        List<Method> result = entry.nonPrivateMethods.get(slot);
+        if (result == null)
+        {
+            result = Collections.unmodifiableList(ClassUtil.collectNonPrivateMethods(type, excludeFinalMethods, includeJvmBridgeMethods));
+            entry.nonPrivateMethods.set(slot, result);
+        }
+        return result;
+    }
+
+    /**
+     * Drops the entries owned by this context.
+     */
+    public void clear()
+    {
+        classes.clear();
+    }
+
+    private Entry entry(Class<?> type)
+    {
+        if (shared && isOfOwbLoaderOrChild(type))
+        {
+            return SHARED_CLASSES.get(type);
+        }
+        return classes.computeIfAbsent(type, k -> new Entry());
+    }
+
+    /**
+     * @return whether the given class got loaded by the ClassLoader of OpenWebBeans or one of its children,
+     *         i.e. whether metadata attached to it via a {@link ClassValue} goes away together with the class
+     */
+    public static boolean isOfOwbLoaderOrChild(Class<?> type)
+    {
+        return isSameOrParent(OWB_LOADER, type.getClassLoader());
+    }
+
+    /**
+     * @return whether the given class got loaded by a parent of the ClassLoader of OpenWebBeans,
+     *         i.e. whether it outlives OpenWebBeans
+     */
+    public static boolean isOfOwbParentLoader(Class<?> type)
+    {
+        return isSameOrParent(type.getClassLoader(), OWB_LOADER);
+    }
+
+    /**
+     * @return whether the given parent is the given loader or one of its parents
+     */
+    private static boolean isSameOrParent(ClassLoader parent, ClassLoader loader)
+    {
+        if (parent == null)
+        {
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent())
+        {
+            if (current == parent)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry
+    {
+        private volatile Method[] declaredMethods;
+        private volatile Method[] methods;
+
+        /**
+         * The non-private methods by the excludeFinalMethods and includeJvmBridgeMethods flags.
+         */
+        private final AtomicReferenceArray<List<Method>> nonPrivateMethods = new AtomicReferenceArray<>(4);
+    }
+}
@@ -290,6 +290,16 @@ public final class ClassUtil
      */
     public static List<Method> getNonPrivateMethods(Class<?> topClass, boolean excludeFinalMethods,
             boolean includeJvmBridgeMethods)
+    {
+        return collectNonPrivateMethods(topClass, excludeFinalMethods, includeJvmBridgeMethods);
+    }
+
+    /**
+     * Walks the class hierarchy for {@link #getNonPrivateMethods(Class, boolean, boolean)},
+     * the result gets cached per WebBeansContext by {@link ClassMetadata}.
+     */
+    static List<Method> collectNonPrivateMethods(Class<?> topClass, boolean excludeFinalMethods,
+            boolean includeJvmBridgeMethods)
     {
         Map<String, List<Method>> methodMap = new HashMap<>();
         List<Method> allMethods = new ArrayList<>(10);
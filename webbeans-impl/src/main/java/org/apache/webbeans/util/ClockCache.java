@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size bounded cache using the CLOCK (second chance) eviction.
+ * <p>
+ * Reads are lock free and only mark the entry as referenced. Inserts are serialized:
+ * once the cache is full the clock hand sweeps over the entries, resets the referenced
+ * flag of the recently used ones and evicts the first entry which was not used
+ * since the last sweep.
+ * </p>
+ * <p>
+ * A {@code capacity} of {@code 0} or less means the cache is unbounded.
+ * </p>
+ */
+public final class ClockCache<K, V>
+{
+    private final int capacity;
+    private final Map<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The slots of the clock, guarded by {@code this}. {@code null} if the cache is unbounded.
+     */
+    private final Node<K, V>[] ring;
+    private int size;
+    private int hand;
+
+    @SuppressWarnings("unchecked")
+    public ClockCache(int capacity)
+    {
+        this.capacity = capacity;
+        this.ring = capacity > 0 ? new Node[capacity] : null;
+    }
+
+    public V get(K key)
+    {
+        Node<K, V> node = entries.get(key);
+        if (node == null)
+        {
+            return null;
+        }
+        if (!node.referenced)
+        {
+            // only write if needed to not invalidate the cache line on every hit
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * Stores the value unless the key is already cached.
+     *
+     * @return {@code true} if another entry got evicted to make room for this one
+     */
+    public boolean put(K key, V value)
+    {
+        if (ring == null)
+        {
+            entries.putIfAbsent(key, new Node<>(key, value));
+            return false;
+        }
+
+        synchronized (this)
+        {
+            if (entries.containsKey(key))
+            {
+                return false;
+            }
+
+            boolean evicted = false;
+            int slot;
+            if (size < capacity)
+            {
+                slot = size++;
+            }
+            else
+            {
+                while (ring[hand].referenced)
+                {
+                    ring[hand].referenced = false;
+                    hand = (hand + 1) % capacity;
+                }
+                entries.remove(ring[hand].key);
+                slot = hand;
+                hand = (hand + 1) % capacity;
+                evicted = true;
+            }
+
+            Node<K, V> node = new Node<>(key, value);
+            ring[slot] = node;
+            entries.put(key, node);
+            return evicted;
+        }
+    }
+
+    public int size()
+    {
+        return entries.size();
+    }
+
+    public synchronized void clear()
+    {
+        entries.clear();
+        if (ring != null)
+        {
+            Arrays.fill(ring, null);
+        }
+        size = 0;
+        hand = 0;
+    }
+
+    private static final class Node<K, V>
+    {
+        private final K key;
+        private final V value;
+        private volatile boolean referenced;
+
+        private Node(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.util;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact immutable {@link Set} backed by a plain array, used for the frozen bean types, qualifiers,
+ * stereotypes and injection points.
+ *
+ * <p>Most of those sets only hold a handful of elements. So up to {@value #MAX_LINEAR_SIZE} elements
+ * {@link #contains(Object)} just scans the array, first by identity and then by {@link Object#equals(Object)}.
+ * The identity check hits most of the time for qualifiers since the very same annotation instances get passed around.
+ * Larger sets additionally get an open addressing hash index.</p>
+ *
+ * <p>The iteration order is the order of the source collection.</p>
+ */
+public final class ImmutableArraySet<E> extends AbstractSet<E> implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_LINEAR_SIZE = 8;
+
+    private final Object[] elements;
+
+    /**
+     * positions + 1 of the elements by their hash code, {@code null} for small sets and after deserialization
+     */
+    private final transient int[] index;
+
+    private transient int hashCode;
+
+    private ImmutableArraySet(Object[] elements)
+    {
+        this.elements = elements;
+        index = elements.length > MAX_LINEAR_SIZE ? createIndex(elements) : null;
+    }
+
+    /**
+     * @return an immutable set with the distinct elements of the given collection
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> copyOf(Collection<? extends E> collection)
+    {
+        if (collection == null || collection.isEmpty())
+        {
+            return Collections.emptySet();
+        }
+        if (collection instanceof ImmutableArraySet)
+        {
+            return (Set<E>) collection;
+        }
+        Collection<? extends E> distinct = collection instanceof Set ? collection : new LinkedHashSet<>(collection);
+        return new ImmutableArraySet<>(distinct.toArray());
+    }
+
+    private static int[] createIndex(Object[] elements)
+    {
+        int[] index = new int[Integer.highestOneBit(elements.length * 2 - 1) << 1];
+        int mask = index.length - 1;
+        for (int i = 0; i < elements.length; i++)
+        {
+            int slot = spread(elements[i].hashCode()) & mask;
+            while (index[slot] != 0)
+            {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = i + 1;
+        }
+        return index;
+    }
+
+    private static int spread(int hash)
+    {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (o == null)
+        {
+            return false;
+        }
+        for (Object element : elements)
+        {
+            if (element == o)
+            {
+                return true;
+            }
+        }
+
+        int[] idx = index;
+        if (idx == null)
+        {
+            for (Object element : elements)
+            {
+                if (o.equals(element))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int mask = idx.length - 1;
+        for (int slot = spread(o.hashCode()) & mask; idx[slot] != 0; slot = (slot + 1) & mask)
+        {
+            if (o.equals(elements[idx[slot] - 1]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new Iterator<E>()
+        {
+            private int position;
+
+            @Override
+            public boolean hasNext()
+            {
+                return position < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next()
+            {
+                if (position >= elements.length)
+                {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[position++];
+            }
+        };
+    }
+
+    @Override
+    public int size()
+    {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return elements.length == 0;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return elements.clone();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (o == this)
+        {
+            return true;
+        }
+        if (o instanceof ImmutableArraySet && o.hashCode() != hashCode())
+        {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int h = hashCode;
+        if (h == 0)
+        {
+            for (Object element : elements)
+            {
+                h += element.hashCode();
+            }
+            hashCode = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean add(E e)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear()
+    {
+        throw new UnsupportedOperationException();
+    }
+}
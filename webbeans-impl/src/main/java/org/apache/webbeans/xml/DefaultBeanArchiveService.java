@@ -20,10 +20,15 @@ package org.apache.webbeans.xml;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackInputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -43,8 +48,6 @@ import org.apache.webbeans.util.UrlSet;
 import org.apache.webbeans.util.WebBeansConstants;
 import org.apache.xbean.finder.archive.FileArchive;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 /**
  * Please note that this implementation is not thread safe.
@@ -54,6 +57,7 @@ public class DefaultBeanArchiveService implements BeanArchiveService
     private static final String WEB_INF_CLASSES = "WEB-INF/classes/";
     private static final String WEB_INF_CLASSES_MAVEN = "target/classes/";
     private static final String META_INF_BEANS_XML = "/META-INF/beans.xml";
+    private static final int MAX_CACHED_BEANS_XML_SIZE = 16 * 1024;
 
     private static final Logger logger = WebBeansLoggerFacade.getLogger(BeanArchiveService.class);
 
@@ -66,6 +70,14 @@ public class DefaultBeanArchiveService implements BeanArchiveService
 
     private UrlSet registeredBeanArchives = new UrlSet();
 
+    /**
+     * Parse results by beans.xml content. Only contains files up to {@link #MAX_CACHED_BEANS_XML_SIZE}
+     * bytes which do not use conditional excludes.
+     */
+    private Map<String, DefaultBeanArchiveInformation> parsedBeansXmls = new HashMap<>();
+
+    private XMLInputFactory xmlInputFactory;
+
 
     @Override
     public BeanArchiveInformation getBeanArchiveInformation(URL beanArchiveUrl)
@@ -281,59 +293,31 @@ public class DefaultBeanArchiveService implements BeanArchiveService
 
         if (xmlStreamIn != null)
         {
-            PushbackInputStream xmlStream = new PushbackInputStream(xmlStreamIn);
-
-            // try to read from the stream
-            int firstVal = xmlStream.read();
-            if (firstVal < 0)
+            byte[] content = xmlStreamIn.readAllBytes();
+            if (content.length == 0)
             {
                 // this means the stream is empty
                 bdaInfo.setBeanDiscoveryMode(getWebBeansContext().getOpenWebBeansConfiguration().getDefaultBeanDiscoveryMode());
             }
             else
             {
-                // put the first byte back on the stream so we can properly parse the XML.
-                xmlStream.unread(firstVal);
-
-                //Get root element of the XML document
-                Element webBeansRoot = getBeansRootElement(xmlStream);
-                if (webBeansRoot == null)
-                {
-                    bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.ALL);
-                }
-                else
+                // most beans.xml files of an application are identical one liners, so we only parse each content once
+                String cacheKey = content.length <= MAX_CACHED_BEANS_XML_SIZE ? new String(content, StandardCharsets.ISO_8859_1) : null;
+                DefaultBeanArchiveInformation parsedBeansXml = cacheKey != null ? parsedBeansXmls.get(cacheKey) : null;
+                if (parsedBeansXml == null)
                 {
-                    if (!"beans".equalsIgnoreCase(webBeansRoot.getLocalName()))
+                    parsedBeansXml = new DefaultBeanArchiveInformation(beansXmlLocation);
+                    boolean environmentDependent = parseBeansXml(content, parsedBeansXml, beansXmlLocation);
+                    if (cacheKey != null && !environmentDependent)
                     {
-                        throw new WebBeansConfigurationException("beans.xml must have a <beans> root element, but has: " + webBeansRoot.getLocalName() +
-                                                                 " in " + beansXmlLocation);
+                        parsedBeansXmls.put(cacheKey, parsedBeansXml);
                     }
-
-                    bdaInfo.setVersion(getTrimmedAttribute(webBeansRoot, "version"));
-
-                    String beanDiscoveryMode = getTrimmedAttribute(webBeansRoot, "bean-discovery-mode");
-                    BeanDiscoveryMode mode = beanDiscoveryMode != null ? BeanDiscoveryMode.valueOf(beanDiscoveryMode.toUpperCase()) : null;
-                    if (mode == null && isCdi41OrLater(bdaInfo.getVersion()))
-                    {
-                        // CDI 4.1+: default bean-discovery-mode is "annotated" when the attribute is omitted
-                        mode = BeanDiscoveryMode.ANNOTATED;
-                    }
-                    bdaInfo.setBeanDiscoveryMode(mode);
-
-                    readBeanChildren(bdaInfo, webBeansRoot, beansXmlLocation);
-                }
-
-
-                if (bdaInfo.getVersion() != null && !"1.0".equals(bdaInfo.getVersion()) && bdaInfo.getBeanDiscoveryMode() == null)
-                {
-                    throw new WebBeansConfigurationException("beans.xml with version 1.1 and higher must declare a bean-discovery-mode! url=" + beansXmlLocation);
                 }
 
-
-                if (bdaInfo.getBeanDiscoveryMode() == null)
+                copyBeansXml(parsedBeansXml, bdaInfo);
+                if (bdaInfo.getBeanDiscoveryMode() == BeanDiscoveryMode.TRIM)
                 {
-                    // an empty beans.xml file lead to backward compat mode with CDI-1.1.
-                    bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.ALL);
+                    logger.log(Level.FINE, "trimmed bean archive detected: " + beansXmlLocation);
                 }
             }
         }
@@ -358,203 +342,324 @@ public class DefaultBeanArchiveService implements BeanArchiveService
         return webBeansContext;
     }
 
-    private void readBeanChildren(DefaultBeanArchiveInformation bdaInfo, Element webBeansRoot, String beansXmlLocation)
+    private XMLInputFactory getXmlInputFactory()
     {
-        ElementIterator elit = new ElementIterator(webBeansRoot);
-        while (elit.hasNext())
+        if (xmlInputFactory == null)
         {
-            Element child = elit.next();
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+            factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.TRUE);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+            xmlInputFactory = factory;
+        }
+        return xmlInputFactory;
+    }
 
-            if (WebBeansConstants.WEB_BEANS_XML_DECORATORS_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+    /**
+     * Streams over the given beans.xml content and fills the parsed information into the given bdaInfo.
+     *
+     * @return {@code true} if the result depends on the classloader or on system properties
+     *         and thus must not get cached
+     */
+    private boolean parseBeansXml(byte[] content, DefaultBeanArchiveInformation bdaInfo, String beansXmlLocation)
+    {
+        XMLStreamReader reader = null;
+        try
+        {
+            reader = getXmlInputFactory().createXMLStreamReader(new ByteArrayInputStream(content));
+
+            int event = reader.getEventType();
+            while (event != XMLStreamConstants.START_ELEMENT)
             {
-                fillDecorators(bdaInfo, child);
+                if (event == XMLStreamConstants.END_DOCUMENT)
+                {
+                    throw new XMLStreamException("beans.xml does not contain any element");
+                }
+                event = reader.next();
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_INTERCEPTORS_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+
+            if (!"beans".equalsIgnoreCase(reader.getLocalName()))
             {
-                fillInterceptors(bdaInfo, child);
+                throw new WebBeansConfigurationException("beans.xml must have a <beans> root element, but has: " + reader.getLocalName() +
+                                                         " in " + beansXmlLocation);
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_ALTERNATIVES_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+
+            bdaInfo.setVersion(getTrimmedAttribute(reader, "version"));
+
+            String beanDiscoveryMode = getTrimmedAttribute(reader, "bean-discovery-mode");
+            BeanDiscoveryMode mode = beanDiscoveryMode != null ? BeanDiscoveryMode.valueOf(beanDiscoveryMode.toUpperCase()) : null;
+            if (mode == null && isCdi41OrLater(bdaInfo.getVersion()))
             {
-                fillAlternatives(bdaInfo, child);
+                // CDI 4.1+: default bean-discovery-mode is "annotated" when the attribute is omitted
+                mode = BeanDiscoveryMode.ANNOTATED;
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_SCAN_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+            bdaInfo.setBeanDiscoveryMode(mode);
+
+            // an empty <beans/> element directly hits its END_ELEMENT, there is no need to read past it
+            boolean environmentDependent = readBeanChildren(reader, bdaInfo);
+
+            if (bdaInfo.getVersion() != null && !"1.0".equals(bdaInfo.getVersion()) && bdaInfo.getBeanDiscoveryMode() == null)
             {
-                fillExcludes(bdaInfo, child);
+                throw new WebBeansConfigurationException("beans.xml with version 1.1 and higher must declare a bean-discovery-mode! url=" + beansXmlLocation);
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_ALLOW_PROXYING_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+
+            if (bdaInfo.getBeanDiscoveryMode() == null)
             {
-                fillAllowProxying(bdaInfo, child);
+                // an empty beans.xml file lead to backward compat mode with CDI-1.1.
+                bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.ALL);
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_SCOPED_BEANS_ONLY_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+
+            return environmentDependent;
+        }
+        catch (XMLStreamException e)
+        {
+            logger.log(Level.SEVERE, OWBLogConst.FATAL_0002, e);
+            throw new WebBeansException(WebBeansLoggerFacade.getTokenString(OWBLogConst.EXCEPT_0013), e);
+        }
+        finally
+        {
+            if (reader != null)
             {
-                logger.log(Level.FINE, "trimmed bean archive detected: " + beansXmlLocation);
-                bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.TRIM);
+                try
+                {
+                    reader.close();
+                }
+                catch (XMLStreamException e)
+                {
+                    // all content got read already
+                }
             }
         }
     }
 
-    private void fillDecorators(DefaultBeanArchiveInformation bdaInfo, Element decoratorsElement)
+    private static void copyBeansXml(DefaultBeanArchiveInformation parsedBeansXml, DefaultBeanArchiveInformation bdaInfo)
     {
-        ElementIterator elit = new ElementIterator(decoratorsElement);
-        while (elit.hasNext())
+        bdaInfo.setVersion(parsedBeansXml.getVersion());
+        bdaInfo.setBeanDiscoveryMode(parsedBeansXml.getBeanDiscoveryMode());
+        bdaInfo.getInterceptors().addAll(parsedBeansXml.getInterceptors());
+        bdaInfo.getDecorators().addAll(parsedBeansXml.getDecorators());
+        bdaInfo.getAlternativeClasses().addAll(parsedBeansXml.getAlternativeClasses());
+        bdaInfo.getAlternativeStereotypes().addAll(parsedBeansXml.getAlternativeStereotypes());
+        bdaInfo.getAllowProxyingClasses().addAll(parsedBeansXml.getAllowProxyingClasses());
+        if (parsedBeansXml.getExcludedClasses() != null)
         {
-            Element child = elit.next();
-            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(child.getLocalName()))
-            {
-                String clazz = child.getTextContent().trim();
-                if (clazz.isEmpty())
-                {
-                    throw new WebBeansConfigurationException("decorators <class> element must not be empty!");
-                }
-                bdaInfo.getDecorators().add(clazz);
-            }
+            bdaInfo.setExcludedClasses(new ArrayList<>(parsedBeansXml.getExcludedClasses()));
+        }
+        if (parsedBeansXml.getExcludedPackages() != null)
+        {
+            bdaInfo.setExcludedPackages(new ArrayList<>(parsedBeansXml.getExcludedPackages()));
         }
     }
 
-    private void fillInterceptors(DefaultBeanArchiveInformation bdaInfo, Element interceptorsElement)
+    private boolean readBeanChildren(XMLStreamReader reader, DefaultBeanArchiveInformation bdaInfo) throws XMLStreamException
     {
-        ElementIterator elit = new ElementIterator(interceptorsElement);
-        while (elit.hasNext())
+        boolean environmentDependent = false;
+        while (nextElement(reader) == XMLStreamConstants.START_ELEMENT)
         {
-            Element child = elit.next();
-            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(child.getLocalName()))
+            String localName = reader.getLocalName();
+            if (WebBeansConstants.WEB_BEANS_XML_DECORATORS_ELEMENT.equalsIgnoreCase(localName))
+            {
+                fillClasses(reader, WebBeansConstants.WEB_BEANS_XML_DECORATORS_ELEMENT, bdaInfo.getDecorators(), null);
+            }
+            else if (WebBeansConstants.WEB_BEANS_XML_INTERCEPTORS_ELEMENT.equalsIgnoreCase(localName))
+            {
+                fillClasses(reader, WebBeansConstants.WEB_BEANS_XML_INTERCEPTORS_ELEMENT, bdaInfo.getInterceptors(), null);
+            }
+            else if (WebBeansConstants.WEB_BEANS_XML_ALTERNATIVES_ELEMENT.equalsIgnoreCase(localName))
+            {
+                fillClasses(reader, WebBeansConstants.WEB_BEANS_XML_ALTERNATIVES_ELEMENT, bdaInfo.getAlternativeClasses(), bdaInfo.getAlternativeStereotypes());
+            }
+            else if (WebBeansConstants.WEB_BEANS_XML_SCAN_ELEMENT.equalsIgnoreCase(localName))
+            {
+                environmentDependent |= fillExcludes(reader, bdaInfo);
+            }
+            else if (WebBeansConstants.WEB_BEANS_XML_ALLOW_PROXYING_ELEMENT.equalsIgnoreCase(localName))
+            {
+                fillClasses(reader, WebBeansConstants.WEB_BEANS_XML_ALLOW_PROXYING_ELEMENT, bdaInfo.getAllowProxyingClasses(), null);
+            }
+            else
             {
-                String clazz = child.getTextContent().trim();
-                if (clazz.isEmpty())
+                if (WebBeansConstants.WEB_BEANS_XML_SCOPED_BEANS_ONLY_ELEMENT.equalsIgnoreCase(localName))
                 {
-                    throw new WebBeansConfigurationException("interceptors <class> element must not be empty!");
+                    bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.TRIM);
                 }
-                bdaInfo.getInterceptors().add(clazz);
+                skipElement(reader);
             }
         }
+        return environmentDependent;
     }
 
-    private void fillAlternatives(DefaultBeanArchiveInformation bdaInfo, Element alternativesElement)
+    /**
+     * Reads the {@code <class>} and optionally {@code <stereotype>} children of the current element.
+     */
+    private void fillClasses(XMLStreamReader reader, String elementName, List<String> classes, List<String> stereotypes) throws XMLStreamException
     {
-        ElementIterator elit = new ElementIterator(alternativesElement);
-        while (elit.hasNext())
+        while (nextElement(reader) == XMLStreamConstants.START_ELEMENT)
         {
-            Element child = elit.next();
-            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(child.getLocalName()))
+            String localName = reader.getLocalName();
+            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(localName))
             {
-                String clazz = child.getTextContent().trim();
-                if (clazz.isEmpty())
-                {
-                    throw new WebBeansConfigurationException("alternatives <class> element must not be empty!");
-                }
-                bdaInfo.getAlternativeClasses().add(clazz);
+                classes.add(readRequiredText(reader, elementName + " <class>"));
             }
-            if (WebBeansConstants.WEB_BEANS_XML_STEREOTYPE.equalsIgnoreCase(child.getLocalName()))
+            else if (stereotypes != null && WebBeansConstants.WEB_BEANS_XML_STEREOTYPE.equalsIgnoreCase(localName))
             {
-                String stereotype = child.getTextContent().trim();
-                if (stereotype.isEmpty())
-                {
-                    throw new WebBeansConfigurationException("alternatives <stereotype> element must not be empty!");
-                }
-                bdaInfo.getAlternativeStereotypes().add(stereotype);
+                stereotypes.add(readRequiredText(reader, elementName + " <stereotype>"));
+            }
+            else
+            {
+                skipElement(reader);
             }
         }
     }
 
-
-    private void fillExcludes(DefaultBeanArchiveInformation bdaInfo, Element scanElement)
+    /**
+     * @return {@code true} if any exclude is bound to a condition
+     */
+    private boolean fillExcludes(XMLStreamReader reader, DefaultBeanArchiveInformation bdaInfo) throws XMLStreamException
     {
         ClassLoader loader = Thread.currentThread().getContextClassLoader();
-        NodeList childNodes = scanElement.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++)
+        boolean conditional = false;
+        while (nextElement(reader) == XMLStreamConstants.START_ELEMENT)
         {
-            Node nd = childNodes.item(i);
-            if (!Element.class.isInstance(nd))
+            if (!WebBeansConstants.WEB_BEANS_XML_EXCLUDE.equalsIgnoreCase(reader.getLocalName()))
             {
+                skipElement(reader);
                 continue;
             }
 
-            Element child = Element.class.cast(nd);
-            if (WebBeansConstants.WEB_BEANS_XML_EXCLUDE.equalsIgnoreCase(child.getLocalName()))
+            String name = getTrimmedAttribute(reader, "name");
+            boolean skip = false;
+            while (nextElement(reader) == XMLStreamConstants.START_ELEMENT)
             {
-                String name = getTrimmedAttribute(child, "name");
-                NodeList children = child.getChildNodes();
-                boolean skip = false;
-                for (int j = 0; j < children.getLength(); j++)
+                String localName = reader.getLocalName();
+                if (!skip)
                 {
-                    Node ndChild = children.item(j);
-                    if (!Element.class.isInstance(ndChild))
-                    {
-                        continue;
-                    }
-
-                    Element condition = Element.class.cast(ndChild);
-
-                    String localName = condition.getLocalName();
                     if (WebBeansConstants.WEB_BEANS_XML_IF_CLASS_AVAILABLE.equalsIgnoreCase(localName))
                     {
-                        if (!isClassAvailable(loader, getTrimmedAttribute(condition, "name")))
-                        {
-                            skip = true;
-                            break;
-                        }
+                        conditional = true;
+                        skip = !isClassAvailable(loader, getTrimmedAttribute(reader, "name"));
                     }
                     else if (WebBeansConstants.WEB_BEANS_XML_IF_CLASS_NOT_AVAILABLE.equalsIgnoreCase(localName))
                     {
-                        if (isClassAvailable(loader, getTrimmedAttribute(condition, "name")))
-                        {
-                            skip = true;
-                            break;
-                        }
+                        conditional = true;
+                        skip = isClassAvailable(loader, getTrimmedAttribute(reader, "name"));
                     }
                     else if (WebBeansConstants.WEB_BEANS_XML_IF_SYSTEM_PROPERTY.equalsIgnoreCase(localName))
                     {
-                        String value = getTrimmedAttribute(condition, "value");
-                        String systProp = System.getProperty(getTrimmedAttribute(condition, "name"));
-                        if (!(value != null && value.equals(systProp)))
-                        {
-                            skip = true;
-                            break;
-                        }
+                        conditional = true;
+                        String value = getTrimmedAttribute(reader, "value");
+                        String systProp = System.getProperty(getTrimmedAttribute(reader, "name"));
+                        skip = !(value != null && value.equals(systProp));
                     }
                 }
-                if (skip)
-                {
-                    continue;
-                }
-                if (name.endsWith(".*"))
-                {
-                    // package exclude without sub-packages
-                    bdaInfo.addClassExclude(name.substring(0, name.length() - 2));
-                }
-                else if (name.endsWith(".**"))
-                {
-                    // package exclude WITH sub-packages
-                    bdaInfo.addPackageExclude(name.substring(0, name.length() - 3));
-                }
-                else
-                {
-                    // a simple Class
-                    bdaInfo.addClassExclude(name);
-                }
+                skipElement(reader);
+            }
+            if (skip)
+            {
+                continue;
+            }
+            if (name.endsWith(".*"))
+            {
+                // package exclude without sub-packages
+                bdaInfo.addClassExclude(name.substring(0, name.length() - 2));
+            }
+            else if (name.endsWith(".**"))
+            {
+                // package exclude WITH sub-packages
+                bdaInfo.addPackageExclude(name.substring(0, name.length() - 3));
+            }
+            else
+            {
+                // a simple Class
+                bdaInfo.addClassExclude(name);
             }
         }
+        return conditional;
     }
 
-    private void fillAllowProxying(DefaultBeanArchiveInformation bdaInfo, Element allowProxyingElement)
+    /**
+     * Moves to the next child START_ELEMENT or to the END_ELEMENT of the current element,
+     * ignoring text, comments and processing instructions in between.
+     */
+    private static int nextElement(XMLStreamReader reader) throws XMLStreamException
     {
-        ElementIterator elit = new ElementIterator(allowProxyingElement);
-        while (elit.hasNext())
+        int event = reader.next();
+        while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT)
         {
-            Element child = elit.next();
-            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(child.getLocalName()))
+            event = reader.next();
+        }
+        return event;
+    }
+
+    /**
+     * Skips the current element including all its children.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException
+    {
+        int depth = 1;
+        while (depth > 0)
+        {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT)
             {
-                String clazz = child.getTextContent().trim();
-                if (clazz.isEmpty())
-                {
-                    throw new WebBeansConfigurationException("allowProxying <class> element must not be empty!");
-                }
-                bdaInfo.getAllowProxyingClasses().add(clazz);
+                depth++;
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT)
+            {
+                depth--;
             }
         }
     }
 
+    /**
+     * @return the trimmed text content of the current element, same as DOM {@code getTextContent()} would return
+     */
+    private static String readRequiredText(XMLStreamReader reader, String description) throws XMLStreamException
+    {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0)
+        {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                depth++;
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT)
+            {
+                depth--;
+            }
+            else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA || event == XMLStreamConstants.SPACE)
+            {
+                text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            }
+        }
+
+        String value = text.toString().trim();
+        if (value.isEmpty())
+        {
+            throw new WebBeansConfigurationException(description + " element must not be empty!");
+        }
+        return value;
+    }
 
+    /**
+     * @return the trimmed value of the unqualified attribute of the current element,
+     *         or <code>null</code> if the attribute does not exist or the attribute is empty
+     */
+    private static String getTrimmedAttribute(XMLStreamReader reader, String attributeName)
+    {
+        for (int i = 0; i < reader.getAttributeCount(); i++)
+        {
+            String prefix = reader.getAttributePrefix(i);
+            if ((prefix == null || prefix.isEmpty()) && attributeName.equals(reader.getAttributeLocalName(i)))
+            {
+                String val = reader.getAttributeValue(i).trim();
+                return val.isEmpty() ? null : val;
+            }
+        }
+        return null;
+    }
 
     private static boolean isClassAvailable(ClassLoader loader, String name)
     {
@@ -574,6 +679,7 @@ public class DefaultBeanArchiveService implements BeanArchiveService
     public void release()
     {
         beanArchiveInformations.clear();
+        parsedBeansXmls.clear();
     }
 
 
@@ -583,7 +689,10 @@ public class DefaultBeanArchiveService implements BeanArchiveService
      * @param xmlStream parsed document
      * @return root element of the document
      * @throws org.apache.webbeans.exception.WebBeansException if any runtime exception occurs
+     * @deprecated beans.xml files get streamed via StAX in {@link #readBeansXml(InputStream, String)},
+     *             this DOM based parsing is not used anymore
      */
+    @Deprecated
     protected Element getBeansRootElement(InputStream xmlStream) throws WebBeansException
     {
         try
@@ -631,7 +740,9 @@ public class DefaultBeanArchiveService implements BeanArchiveService
 
     /**
      * @return the trimmed attribute value, or <code>null</code> if the attribute does not exist or the attribute is empty
+     * @deprecated only used together with {@link #getBeansRootElement(InputStream)}
      */
+    @Deprecated
     protected String getTrimmedAttribute(Element element, String attributeName)
     {
         final String val = element.getAttribute(attributeName).trim();
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.spi.AnnotatedType;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.inject.Named;
+
+import org.apache.webbeans.el.ELContextStore;
+import org.apache.webbeans.spi.MetricsService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class BeanNameIndexTest extends AbstractUnitTest
+{
+    @Test
+    public void namesAndDottedPrefixes()
+    {
+        startContainer(Service.class, Fish.class);
+        BeanNameIndex index = getWebBeansContext().getBeanManagerImpl().getBeanNameIndex();
+        assertNotNull(index);
+
+        BeanNameIndex.Entry service = index.get("service");
+        assertSame(getBean(Service.class), service.getBean());
+        assertFalse(service.isPrefix());
+        assertTrue(service.getSlot() >= 0);
+
+        BeanNameIndex.Entry fish = index.get("magic.golden.fish");
+        assertSame(getBean(Fish.class), fish.getBean());
+        assertEquals(-1, fish.getSlot());
+
+        for (String prefix : new String[] {"magic", "magic.golden"})
+        {
+            BeanNameIndex.Entry entry = index.get(prefix);
+            assertTrue(entry.isPrefix());
+            assertNull(entry.getBean());
+            assertTrue(entry.getBeans().isEmpty());
+        }
+
+        assertNull(index.get("unknown"));
+        assertNull(index.get("magic.golden.fish.bowl"));
+        assertTrue(service.getSlot() < index.getSlotCount());
+    }
+
+    @Test
+    public void resolutionByNameUsesTheIndex()
+    {
+        startContainer(Service.class, Fish.class);
+
+        assertEquals(1, getBeanManager().getBeans("service").size());
+        assertEquals(1, getBeanManager().getBeans("magic.golden.fish").size());
+        assertTrue(getBeanManager().getBeans("magic").isEmpty());
+        assertTrue(getBeanManager().getBeans("unknown").isEmpty());
+    }
+
+    @Test
+    public void indexedLookupsAreCounted()
+    {
+        CountingMetricsService metrics = new CountingMetricsService();
+        addService(MetricsService.class, metrics);
+        startContainer(Service.class, Fish.class);
+        long lookups = metrics.get(MetricsService.NAME_INDEX_LOOKUPS, null);
+        long hits = metrics.get(MetricsService.RESOLUTION_CACHE_HITS, "name");
+        long misses = metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "name");
+
+        getBeanManager().getBeans("service");
+        getBeanManager().getBeans("unknown");
+        assertEquals(lookups + 2, metrics.get(MetricsService.NAME_INDEX_LOOKUPS, null));
+        assertEquals(hits, metrics.get(MetricsService.RESOLUTION_CACHE_HITS, "name"));
+        assertEquals(misses, metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "name"));
+    }
+
+    @Test
+    public void modificationsInvalidateTheIndex()
+    {
+        startContainer(Service.class, Fish.class);
+        BeanManagerImpl beanManager = getWebBeansContext().getBeanManagerImpl();
+        assertNotNull(beanManager.getBeanNameIndex());
+
+        // replace a bean, the number of beans stays the same
+        Bean<?> fish = getBean(Fish.class);
+        AnnotatedType<Pond> pond = beanManager.createAnnotatedType(Pond.class);
+        beanManager.removeBeans(bean -> bean == fish);
+        beanManager.addInternalBean(beanManager.createBean(beanManager.createBeanAttributes(pond), Pond.class,
+                beanManager.getInjectionTargetFactory(pond)));
+        assertNull(beanManager.getBeanNameIndex());
+
+        beanManager.buildBeanNameIndex();
+        BeanNameIndex index = beanManager.getBeanNameIndex();
+        assertNotNull(index);
+        assertNull(index.get("magic.golden.fish"));
+        assertEquals(1, index.get("pond").getBeans().size());
+    }
+
+    @Test
+    public void normalScopedSlots()
+    {
+        ELContextStore store = ELContextStore.getInstance(true);
+        try
+        {
+            Object reference = new Object();
+            assertNull(store.getNormalScoped(2));
+            store.addNormalScoped(2, reference, 1);
+            assertSame(reference, store.getNormalScoped(2));
+            assertNull(store.getNormalScoped(0));
+        }
+        finally
+        {
+            store.destroyELContextStore();
+        }
+        assertNull(ELContextStore.getInstance(true).getNormalScoped(2));
+        ELContextStore.getInstance(false).destroyELContextStore();
+    }
+
+    public static class CountingMetricsService implements MetricsService
+    {
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean isEnabled()
+        {
+            return true;
+        }
+
+        @Override
+        public void increment(String name, String tag)
+        {
+            counter(name, tag).incrementAndGet();
+        }
+
+        @Override
+        public void decrement(String name, String tag)
+        {
+            counter(name, tag).decrementAndGet();
+        }
+
+        @Override
+        public void record(String name, String tag, long value)
+        {
+            // not needed
+        }
+
+        long get(String name, String tag)
+        {
+            return counter(name, tag).get();
+        }
+
+        private AtomicLong counter(String name, String tag)
+        {
+            return counters.computeIfAbsent(name + '/' + tag, k -> new AtomicLong());
+        }
+    }
+
+    @Named
+    @ApplicationScoped
+    public static class Service
+    {
+    }
+
+    @Named("pond")
+    @Dependent
+    public static class Pond
+    {
+    }
+
+    @Named("magic.golden.fish")
+    @Dependent
+    public static class Fish
+    {
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class BeanTypeIndexTest extends AbstractUnitTest
+{
+    @Test
+    public void candidatesByRawType()
+    {
+        startContainer(Green.class, Blue.class, Producers.class, Consumer.class);
+        BeanTypeIndex index = getWebBeansContext().getBeanManagerImpl().getBeanTypeIndex();
+
+        Collection<Bean<?>> colors = index.getCandidates(Color.class);
+        assertEquals(2, colors.size());
+        assertTrue(colors.contains(getBean(Green.class)));
+        assertTrue(colors.contains(getBean(Blue.class)));
+
+        // primitives and parameterized types are indexed by their raw class
+        assertEquals(1, index.getCandidates(int.class).size());
+        assertEquals(1, index.getCandidates(new TypeLiteral<List<String>>() { }.getType()).size());
+
+        assertTrue(index.getCandidates(BeanTypeIndexTest.class).isEmpty());
+
+        Consumer consumer = getInstance(Consumer.class);
+        assertEquals(42, consumer.getNumber());
+        assertEquals("green", consumer.getNames().get(0));
+    }
+
+    @Test
+    public void removedBeansAreDetected()
+    {
+        startContainer(Green.class, Blue.class);
+        BeanManagerImpl beanManager = getWebBeansContext().getBeanManagerImpl();
+
+        Bean<?> blue = getBean(Blue.class);
+        beanManager.removeBeans(bean -> bean == blue);
+
+        Collection<Bean<?>> colors = beanManager.getBeanTypeIndex().getCandidates(Color.class);
+        assertEquals(1, colors.size());
+        assertFalse(colors.contains(blue));
+    }
+
+    @Test
+    public void replacedBeansAreDetected()
+    {
+        startContainer(Green.class, Blue.class);
+        BeanManagerImpl beanManager = getWebBeansContext().getBeanManagerImpl();
+        BeanTypeIndex index = beanManager.getBeanTypeIndex();
+        assertEquals(2, index.getCandidates(Color.class).size());
+
+        // same number of beans afterwards
+        Bean<?> blue = getBean(Blue.class);
+        Bean<?> red = new RedBean(getBean(Green.class));
+        beanManager.removeBeans(bean -> bean == blue);
+        beanManager.addInternalBean(red);
+
+        Collection<Bean<?>> colors = index.getCandidates(Color.class);
+        assertEquals(2, colors.size());
+        assertFalse(colors.contains(blue));
+    }
+
+    @Test
+    public void candidatesWithoutRawTypeAreASnapshot()
+    {
+        startContainer(Green.class, Blue.class);
+        BeanManagerImpl beanManager = getWebBeansContext().getBeanManagerImpl();
+        Type typeVariable = List.class.getTypeParameters()[0];
+
+        Collection<Bean<?>> all = beanManager.getBeanTypeIndex().getCandidates(typeVariable);
+        assertEquals(beanManager.getBeans().size(), all.size());
+
+        Bean<?> blue = getBean(Blue.class);
+        beanManager.removeBeans(bean -> bean == blue);
+        assertTrue(all.contains(blue));
+        assertFalse(beanManager.getBeanTypeIndex().getCandidates(typeVariable).contains(blue));
+    }
+
+    /**
+     * Delegates to another bean, only the identity matters.
+     */
+    private static final class RedBean implements Bean<Object>
+    {
+        private final Bean<Object> delegate;
+
+        @SuppressWarnings("unchecked")
+        private RedBean(Bean<?> delegate)
+        {
+            this.delegate = (Bean<Object>) delegate;
+        }
+
+        @Override
+        public Class<?> getBeanClass()
+        {
+            return delegate.getBeanClass();
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints()
+        {
+            return delegate.getInjectionPoints();
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext)
+        {
+            return delegate.create(creationalContext);
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext)
+        {
+            delegate.destroy(instance, creationalContext);
+        }
+
+        @Override
+        public Set<Type> getTypes()
+        {
+            return delegate.getTypes();
+        }
+
+        @Override
+        public Set<Annotation> getQualifiers()
+        {
+            return delegate.getQualifiers();
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope()
+        {
+            return delegate.getScope();
+        }
+
+        @Override
+        public String getName()
+        {
+            return "red";
+        }
+
+        @Override
+        public Set<Class<? extends Annotation>> getStereotypes()
+        {
+            return delegate.getStereotypes();
+        }
+
+        @Override
+        public boolean isAlternative()
+        {
+            return false;
+        }
+    }
+
+    public interface Color
+    {
+        String name();
+    }
+
+    @ApplicationScoped
+    public static class Green implements Color
+    {
+        @Override
+        public String name()
+        {
+            return "green";
+        }
+    }
+
+    @ApplicationScoped
+    public static class Blue implements Color
+    {
+        @Override
+        public String name()
+        {
+            return "blue";
+        }
+    }
+
+    @Dependent
+    public static class Producers
+    {
+        @Produces
+        public Integer number()
+        {
+            return 42;
+        }
+
+        @Produces
+        public List<String> names(Green green)
+        {
+            return List.of(green.name());
+        }
+    }
+
+    @Dependent
+    public static class Consumer
+    {
+        @Inject
+        private int number;
+
+        @Inject
+        private List<String> names;
+
+        public int getNumber()
+        {
+            return number;
+        }
+
+        public List<String> getNames()
+        {
+            return names;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.apache.webbeans.component.AbstractOwbBean;
+import org.apache.webbeans.proxy.OwbNormalScopeProxy;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class ReferenceStrategyTest extends AbstractUnitTest
+{
+    @Test
+    public void strategyIsKeptByTheBean()
+    {
+        startContainer(Service.class, Helper.class);
+        BeanManager beanManager = getBeanManager();
+
+        Bean<?> serviceBean = getBean(Service.class);
+        Object service = beanManager.getReference(serviceBean, Service.class, beanManager.createCreationalContext(serviceBean));
+        assertTrue(service instanceof OwbNormalScopeProxy);
+        ReferenceStrategy strategy = ((AbstractOwbBean<?>) serviceBean).getReferenceStrategy();
+        assertNotNull(strategy);
+
+        assertSame(service, beanManager.getReference(serviceBean, Service.class, beanManager.createCreationalContext(serviceBean)));
+        assertSame(strategy, ((AbstractOwbBean<?>) serviceBean).getReferenceStrategy());
+
+        Bean<?> helperBean = getBean(Helper.class);
+        assertNotSame(beanManager.getReference(helperBean, Helper.class, beanManager.createCreationalContext(helperBean)),
+                beanManager.getReference(helperBean, Helper.class, beanManager.createCreationalContext(helperBean)));
+    }
+
+    @Test
+    public void strategiesAreAssignedAtDeployment()
+    {
+        startContainer(Service.class, OtherService.class, Helper.class);
+
+        ReferenceStrategy serviceStrategy = ((AbstractOwbBean<?>) getBean(Service.class)).getReferenceStrategy();
+        assertNotNull(serviceStrategy);
+        assertSame(serviceStrategy, ((AbstractOwbBean<?>) getBean(OtherService.class)).getReferenceStrategy());
+        assertNotNull(((AbstractOwbBean<?>) getBean(Helper.class)).getReferenceStrategy());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void typeIsStillChecked()
+    {
+        startContainer(Service.class, Helper.class);
+        Bean<?> helperBean = getBean(Helper.class);
+        getBeanManager().getReference(helperBean, Service.class, getBeanManager().createCreationalContext(helperBean));
+    }
+
+    @ApplicationScoped
+    public static class Service
+    {
+    }
+
+    @ApplicationScoped
+    public static class OtherService
+    {
+    }
+
+    @Dependent
+    public static class Helper
+    {
+    }
+}
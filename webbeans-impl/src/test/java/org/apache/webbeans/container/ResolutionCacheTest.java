@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Inject;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.spi.MetricsService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.apache.webbeans.util.ClockCache;
+import org.junit.Test;
+
+public class ResolutionCacheTest extends AbstractUnitTest
+{
+    @Test
+    public void clockEvictsUnreferencedEntriesFirst()
+    {
+        ClockCache<String, String> cache = new ClockCache<>(2);
+        assertFalse(cache.put("a", "A"));
+        assertFalse(cache.put("b", "B"));
+        assertEquals("A", cache.get("a"));
+
+        assertTrue(cache.put("c", "C"));
+        assertEquals(2, cache.size());
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+    }
+
+    @Test
+    public void dynamicLookupsAreBounded()
+    {
+        Counters metrics = new Counters();
+        addConfiguration(OpenWebBeansConfiguration.RESOLUTION_CACHE_SIZE, "4");
+        addService(MetricsService.class, metrics);
+        startContainer(Helper.class, Consumer.class);
+
+        InjectionResolver resolver = getWebBeansContext().getBeanManagerImpl().getInjectionResolver();
+        for (int i = 0; i < 50; i++)
+        {
+            assertTrue(getBeanManager().getBeans(Helper.class, NamedLiteral.of("helper" + i)).isEmpty());
+        }
+        assertEquals(4, resolver.getDynamicCacheSize());
+        assertTrue(metrics.get(MetricsService.RESOLUTION_CACHE_EVICTIONS, "type") >= 46);
+
+        // the injection points of the deployment stay cached
+        InjectionPoint injectionPoint = getBean(Consumer.class).getInjectionPoints().iterator().next();
+        long misses = metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "type");
+        assertEquals(getBean(Helper.class), resolver.getInjectionPointBean(injectionPoint));
+        assertEquals(misses, metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "type"));
+    }
+
+    @Test
+    public void injectionPointsResolvedDynamicallyFirstStayCached()
+    {
+        Counters metrics = new Counters();
+        addConfiguration(OpenWebBeansConfiguration.RESOLUTION_CACHE_SIZE, "2");
+        addService(MetricsService.class, metrics);
+        startContainer(Helper.class, Consumer.class);
+
+        InjectionResolver resolver = getWebBeansContext().getBeanManagerImpl().getInjectionResolver();
+        resolver.clearCaches();
+        InjectionPoint injectionPoint = getBean(Consumer.class).getInjectionPoints().iterator().next();
+
+        // same key as the injection point
+        assertEquals(1, getBeanManager().getBeans(Helper.class).size());
+        assertEquals(getBean(Helper.class), resolver.getInjectionPointBean(injectionPoint));
+
+        for (int i = 0; i < 10; i++)
+        {
+            getBeanManager().getBeans(Helper.class, NamedLiteral.of("helper" + i));
+        }
+        long misses = metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "type");
+        assertEquals(getBean(Helper.class), resolver.getInjectionPointBean(injectionPoint));
+        assertEquals(misses, metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "type"));
+    }
+
+    @Test
+    public void unbounded()
+    {
+        addConfiguration(OpenWebBeansConfiguration.RESOLUTION_CACHE_SIZE, "0");
+        startContainer(Helper.class);
+
+        for (int i = 0; i < 50; i++)
+        {
+            getBeanManager().getBeans(Helper.class, NamedLiteral.of("helper" + i));
+        }
+        assertEquals(50, getWebBeansContext().getBeanManagerImpl().getInjectionResolver().getDynamicCacheSize());
+    }
+
+    @Dependent
+    public static class Helper
+    {
+    }
+
+    @Dependent
+    public static class Consumer
+    {
+        @Inject
+        private Helper helper;
+    }
+
+    public static class Counters implements MetricsService
+    {
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean isEnabled()
+        {
+            return true;
+        }
+
+        @Override
+        public void increment(String name, String tag)
+        {
+            counter(name, tag).incrementAndGet();
+        }
+
+        @Override
+        public void decrement(String name, String tag)
+        {
+            counter(name, tag).decrementAndGet();
+        }
+
+        @Override
+        public void record(String name, String tag, long value)
+        {
+            // not needed
+        }
+
+        long get(String name, String tag)
+        {
+            return counter(name, tag).get();
+        }
+
+        private AtomicLong counter(String name, String tag)
+        {
+            return counters.computeIfAbsent(name + '/' + tag, k -> new AtomicLong());
+        }
+    }
+}
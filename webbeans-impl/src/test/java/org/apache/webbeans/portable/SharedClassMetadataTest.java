@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.portable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.enterprise.inject.spi.AnnotatedConstructor;
+import jakarta.enterprise.inject.spi.AnnotatedMethod;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.config.WebBeansContext;
+import org.junit.Test;
+
+public class SharedClassMetadataTest
+{
+    @Test
+    public void sharedAcrossContexts()
+    {
+        Method first = method(new AnnotatedTypeImpl<>(new WebBeansContext(), Foo.class, null));
+        Method second = method(new AnnotatedTypeImpl<>(new WebBeansContext(), Foo.class, null));
+        assertSame(first, second);
+
+        assertSame(constructor(new AnnotatedTypeImpl<>(new WebBeansContext(), Foo.class, null)),
+                constructor(new AnnotatedTypeImpl<>(new WebBeansContext(), Foo.class, null)));
+    }
+
+    @Test
+    public void parentClassesArePerContext()
+    {
+        WebBeansContext webBeansContext = new WebBeansContext();
+        Constructor<?> first = constructor(new AnnotatedTypeImpl<>(webBeansContext, String.class, null));
+        assertSame(first, constructor(new AnnotatedTypeImpl<>(webBeansContext, String.class, null)));
+        assertNotSame(first, constructor(new AnnotatedTypeImpl<>(new WebBeansContext(), String.class, null)));
+
+        webBeansContext.getAnnotatedElementFactory().clear();
+        assertNotSame(first, constructor(new AnnotatedTypeImpl<>(webBeansContext, String.class, null)));
+    }
+
+    /**
+     * Loads the cache with a throwaway ClassLoader as if OpenWebBeans got deployed in a web application.
+     * Caching the JDK classes must not pin that ClassLoader.
+     */
+    @Test
+    public void throwawayLoaderGetsCollected() throws Exception
+    {
+        WeakReference<ClassLoader> loader = cacheParentClasses();
+        for (int i = 0; i < 50 && loader.get() != null; i++)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(loader.get());
+    }
+
+    private static WeakReference<ClassLoader> cacheParentClasses() throws Exception
+    {
+        ClassLoader loader = new ChildFirstLoader(SharedClassMetadataTest.class.getClassLoader());
+        Method of = loader.loadClass(SharedClassMetadata.class.getName()).getDeclaredMethod("of", Class.class, ConcurrentMap.class);
+        of.setAccessible(true);
+
+        ConcurrentMap<Class<?>, Object> parentClasses = new ConcurrentHashMap<>();
+        assertNotNull(of.invoke(null, String.class, parentClasses));
+        assertNotNull(of.invoke(null, Serializable.class, parentClasses));
+        assertEquals(2, parentClasses.size());
+        return new WeakReference<>(loader);
+    }
+
+    private static Constructor<?> constructor(AnnotatedTypeImpl<?> annotatedType)
+    {
+        for (AnnotatedConstructor<?> constructor : annotatedType.getConstructors())
+        {
+            if (constructor.getJavaMember().getParameterCount() == 0)
+            {
+                return constructor.getJavaMember();
+            }
+        }
+        throw new IllegalStateException("default constructor not found");
+    }
+
+    @Test
+    public void notSharedIfDisabled()
+    {
+        Properties properties = new Properties();
+        properties.setProperty(OpenWebBeansConfiguration.SHARED_CLASS_METADATA, "false");
+
+        Method first = method(new AnnotatedTypeImpl<>(new WebBeansContext(Collections.emptyMap(), properties), Foo.class, null));
+        Method second = method(new AnnotatedTypeImpl<>(new WebBeansContext(Collections.emptyMap(), properties), Foo.class, null));
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void typeClosureIsCopied()
+    {
+        Set<Type> closure = new AnnotatedTypeImpl<>(new WebBeansContext(), Foo.class, null).getTypeClosure();
+        assertEquals(3, closure.size());
+        assertTrue(closure.contains(Serializable.class));
+
+        closure.remove(Serializable.class);
+        assertEquals(3, new AnnotatedTypeImpl<>(new WebBeansContext(), Foo.class, null).getTypeClosure().size());
+    }
+
+    private static Method method(AnnotatedTypeImpl<Foo> annotatedType)
+    {
+        for (AnnotatedMethod<? super Foo> method : annotatedType.getMethods())
+        {
+            if ("bar".equals(method.getJavaMember().getName()))
+            {
+                return method.getJavaMember();
+            }
+        }
+        throw new IllegalStateException("bar not found");
+    }
+
+    /**
+     * Defines {@link SharedClassMetadata} itself like a web application ClassLoader containing OpenWebBeans.
+     */
+    private static final class ChildFirstLoader extends ClassLoader
+    {
+        private ChildFirstLoader(ClassLoader parent)
+        {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+        {
+            if (!name.startsWith(SharedClassMetadata.class.getName()))
+            {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name))
+            {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null)
+                {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class"))
+                    {
+                        byte[] bytes = in.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    }
+                    catch (IOException e)
+                    {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
+
+    public static class Foo implements Serializable
+    {
+        public String bar()
+        {
+            return "bar";
+        }
+    }
+}
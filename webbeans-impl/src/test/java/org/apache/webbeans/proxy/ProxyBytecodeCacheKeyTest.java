@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProxyBytecodeCacheKeyTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void keyCoversTheWholeFactoryHierarchy() throws Exception
+    {
+        String key = new ProxyBytecodeCache(Paths.get("target")).createKey(
+                CachingNormalScopeProxyFactory.class, 61, ProxyBytecodeCacheKeyTest.class,
+                null, new Method[]{ProxyBytecodeCacheKeyTest.class.getMethod("keyCoversTheWholeFactoryHierarchy")}, null);
+
+        assertNotNull(key);
+        assertTrue(key, key.contains(CachingNormalScopeProxyFactory.class.getName() + '@'));
+        assertTrue(key, key.contains(NormalScopeProxyFactory.class.getName() + '@'));
+        assertTrue(key, key.contains(AbstractProxyFactory.class.getName() + '@'));
+        assertTrue(key, key.contains(";asm@"));
+    }
+
+    @Test
+    public void storedBytecodeGetsRenamed() throws Exception
+    {
+        ProxyBytecodeCache cache = new ProxyBytecodeCache(folder.newFolder("proxies").toPath());
+        String key = cache.createKey(NormalScopeProxyFactory.class, 61, Self.class, null, null, null);
+        String storedName = Self.class.getName();
+        cache.store(key, storedName, bytecodeOf(Self.class));
+
+        String otherName = storedName + "$$Renamed1";
+        byte[] renamed = cache.load(key, otherName);
+        Class<?> type = new ClassLoader(getClass().getClassLoader())
+        {
+            Class<?> define()
+            {
+                return defineClass(otherName, renamed, 0, renamed.length);
+            }
+        }.define();
+        assertEquals(otherName, type.getName());
+        assertSame(type, type.getMethod("self").invoke(null));
+    }
+
+    private static byte[] bytecodeOf(Class<?> type) throws Exception
+    {
+        try (InputStream in = type.getResourceAsStream('/' + type.getName().replace('.', '/') + ".class"))
+        {
+            return in.readAllBytes();
+        }
+    }
+
+    public static class Self
+    {
+        public static Class<?> self()
+        {
+            return Self.class;
+        }
+    }
+}
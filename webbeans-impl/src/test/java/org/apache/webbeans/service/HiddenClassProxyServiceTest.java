@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.service;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.proxy.NormalScopeProxyFactory;
+import org.apache.webbeans.spi.DefiningClassService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static org.apache.webbeans.test.util.Serializations.deserialize;
+import static org.apache.webbeans.test.util.Serializations.serialize;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+public class HiddenClassProxyServiceTest extends AbstractUnitTest
+{
+    @Test
+    public void defineHidden() throws Exception
+    {
+        final Properties config = new Properties();
+        config.setProperty(DefiningClassService.class.getName(), HiddenClassProxyService.class.getName());
+        final WebBeansContext context = new WebBeansContext(emptyMap(), config);
+        final NormalScopeProxyFactory factory = new NormalScopeProxyFactory(context);
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final Class<MyBean> proxyClass = factory.createProxyClass(contextClassLoader, MyBean.class);
+        assertTrue(proxyClass.isHidden());
+        assertEquals(MyBean.class.getPackageName(), proxyClass.getPackageName());
+        assertEquals(MyBean.class.getClassLoader(), proxyClass.getClassLoader());
+
+        // no name probing, a second definition just gets another hidden class
+        final Class<MyBean> other = factory.createProxyClass(contextClassLoader, MyBean.class);
+        assertTrue(other != proxyClass);
+    }
+
+    @Test
+    public void container()
+    {
+        addService(DefiningClassService.class, HiddenClassProxyService.class);
+        startContainer(MyBean.class, Intercepted.class, Wrapping.class);
+
+        final MyBean bean = getInstance(MyBean.class);
+        assertTrue(bean.getClass().isHidden());
+        assertEquals(">a<", bean.ok("a"));
+
+        final Intercepted intercepted = getInstance(Intercepted.class);
+        assertTrue(intercepted.getClass().isHidden());
+        assertEquals("[b]", intercepted.value("b"));
+    }
+
+    @Test
+    public void serializationRoundTrip() throws Exception
+    {
+        addService(DefiningClassService.class, HiddenClassProxyService.class);
+        startContainer(Cart.class, Counted.class, Wrapping.class);
+
+        final Cart cart = getInstance(Cart.class);
+        assertTrue(cart.getClass().isHidden());
+        cart.add("apple");
+        final Cart deserializedCart = (Cart) deserialize(serialize(cart));
+        assertEquals(1, deserializedCart.size());
+
+        final Counted counted = getInstance(Counted.class);
+        final Counted deserializedCounted = (Counted) deserialize(serialize(counted));
+        assertEquals("[c]", deserializedCounted.value("c"));
+    }
+
+    @Test
+    public void abstractDecoratorRoundTrip() throws Exception
+    {
+        addService(DefiningClassService.class, HiddenClassProxyService.class);
+        addDecorator(Shouting.class);
+        startContainer(Greeter.class, Shouting.class);
+
+        final Greeting greeting = getInstance(Greeter.class);
+        assertEquals("HI", greeting.greet("hi"));
+        final Greeting deserialized = (Greeting) deserialize(serialize(greeting));
+        assertEquals("HO", deserialized.greet("ho"));
+        assertEquals("ok", deserialized.status());
+    }
+
+    @SessionScoped
+    public static class Cart implements Serializable
+    {
+        private final List<String> items = new ArrayList<>();
+
+        public void add(final String item)
+        {
+            items.add(item);
+        }
+
+        public int size()
+        {
+            return items.size();
+        }
+    }
+
+    @Wrap
+    public static class Counted implements Serializable
+    {
+        public String value(final String value)
+        {
+            return value;
+        }
+    }
+
+    public interface Greeting
+    {
+        String greet(String name);
+
+        String status();
+    }
+
+    public static class Greeter implements Greeting, Serializable
+    {
+        @Override
+        public String greet(final String name)
+        {
+            return name;
+        }
+
+        @Override
+        public String status()
+        {
+            return "ok";
+        }
+    }
+
+    @Decorator
+    public abstract static class Shouting implements Greeting, Serializable
+    {
+        @Inject
+        @Delegate
+        private Greeting delegate;
+
+        @Override
+        public String greet(final String name)
+        {
+            return delegate.greet(name).toUpperCase(Locale.ROOT);
+        }
+    }
+
+    @ApplicationScoped
+    public static class MyBean
+    {
+        public String ok(final String value)
+        {
+            return ">" + value + "<";
+        }
+    }
+
+    @Wrap
+    public static class Intercepted
+    {
+        public String value(final String value)
+        {
+            return value;
+        }
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({TYPE, METHOD})
+    public @interface Wrap
+    {
+    }
+
+    @Wrap
+    @Interceptor
+    @Priority(1)
+    public static class Wrapping implements Serializable
+    {
+        @AroundInvoke
+        public Object wrap(final InvocationContext context) throws Exception
+        {
+            return "[" + context.proceed() + "]";
+        }
+    }
+}
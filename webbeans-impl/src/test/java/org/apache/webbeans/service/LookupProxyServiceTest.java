@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.service;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.proxy.NormalScopeProxyFactory;
+import org.apache.webbeans.proxy.OwbNormalScopeProxy;
+import org.apache.webbeans.spi.DefiningClassService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class LookupProxyServiceTest extends AbstractUnitTest
+{
+    @Test
+    public void defineInProxiedPackage()
+    {
+        final Properties config = new Properties();
+        config.setProperty(DefiningClassService.class.getName(), LookupProxyService.class.getName());
+        final WebBeansContext context = new WebBeansContext(emptyMap(), config);
+        final NormalScopeProxyFactory factory = new NormalScopeProxyFactory(context);
+        final Class<Counted> proxyClass = factory.createProxyClass(Thread.currentThread().getContextClassLoader(), Counted.class);
+        assertFalse(proxyClass.isHidden());
+        assertEquals(Counted.class.getPackageName(), proxyClass.getPackageName());
+        assertEquals(Counted.class.getClassLoader(), proxyClass.getClassLoader());
+    }
+
+    @Test
+    public void superConstructorIsSkipped()
+    {
+        addService(DefiningClassService.class, LookupProxyService.class);
+        startContainer(Counted.class);
+
+        final int before = Counted.CREATED.get();
+        final Counted counted = getInstance(Counted.class);
+        assertEquals(before, Counted.CREATED.get());
+        assertTrue(OwbNormalScopeProxy.class.isInstance(counted));
+
+        assertEquals("ok", counted.ok());
+        assertEquals(before + 1, Counted.CREATED.get());
+    }
+
+    @ApplicationScoped
+    public static class Counted
+    {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public Counted()
+        {
+            CREATED.incrementAndGet();
+        }
+
+        public String ok()
+        {
+            return "ok";
+        }
+    }
+}
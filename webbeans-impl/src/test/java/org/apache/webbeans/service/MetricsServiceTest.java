@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.inject.Inject;
+
+import org.apache.webbeans.spi.ContextsService;
+import org.apache.webbeans.spi.MetricsService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class MetricsServiceTest extends AbstractUnitTest
+{
+    private final RecordingMetricsService metrics = new RecordingMetricsService();
+
+    @Test
+    public void defaultIsDisabled()
+    {
+        startContainer(Service.class);
+        assertTrue(DefaultMetricsService.class.isInstance(getWebBeansContext().getMetricsService()));
+    }
+
+    @Test
+    public void containerReportsMetrics() throws Exception
+    {
+        addService(MetricsService.class, metrics);
+        startContainer(Service.class, Helper.class, Tool.class, Cart.class);
+
+        Service service = getInstance(Service.class);
+        service.ping();
+        assertEquals(1, metrics.get(MetricsService.INSTANCES_CREATED, ApplicationScoped.class.getName()));
+        assertTrue(metrics.get(MetricsService.PROXY_CLASSES_GENERATED, "NormalScopeProxyFactory") > 0);
+
+        long misses = metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "type");
+        long hits = metrics.get(MetricsService.RESOLUTION_CACHE_HITS, "type");
+        getBeanManager().getBeans(Service.class);
+        getBeanManager().getBeans(Service.class);
+        assertEquals(hits + 2, metrics.get(MetricsService.RESOLUTION_CACHE_HITS, "type"));
+        assertEquals(misses, metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "type"));
+
+        long live = metrics.get(MetricsService.DEPENDENT_INSTANCES_LIVE, null);
+        Bean<Helper> helperBean = (Bean<Helper>) getBeanManager().resolve(getBeanManager().getBeans(Helper.class));
+        CreationalContext<Helper> creationalContext = getBeanManager().createCreationalContext(helperBean);
+        Helper helper = (Helper) getBeanManager().getReference(helperBean, Helper.class, creationalContext);
+        // the helper and its tool
+        assertEquals(live + 2, metrics.get(MetricsService.DEPENDENT_INSTANCES_LIVE, null));
+        helperBean.destroy(helper, creationalContext);
+        assertEquals(live, metrics.get(MetricsService.DEPENDENT_INSTANCES_LIVE, null));
+
+        creationalContext = getBeanManager().createCreationalContext(helperBean);
+        getBeanManager().getReference(helperBean, Helper.class, creationalContext);
+        assertEquals(live + 2, metrics.get(MetricsService.DEPENDENT_INSTANCES_LIVE, null));
+        creationalContext.release();
+        assertEquals(live, metrics.get(MetricsService.DEPENDENT_INSTANCES_LIVE, null));
+
+        service.fire();
+        service.fire();
+        assertEquals(1, metrics.get(MetricsService.OBSERVER_CACHE_MISSES, "sync"));
+        assertEquals(1, metrics.get(MetricsService.OBSERVER_CACHE_HITS, "sync"));
+
+        service.fireAsync().toCompletableFuture().get(1, TimeUnit.MINUTES);
+        assertEquals(0, metrics.get(MetricsService.ASYNC_EVENTS_QUEUED, null));
+
+        ContextsService contextsService = getWebBeansContext().getContextsService();
+        contextsService.startContext(SessionScoped.class, null);
+        getInstance(Cart.class).add();
+        contextsService.endContext(SessionScoped.class, null);
+        assertEquals(1, metrics.get(MetricsService.INSTANCES_CREATED, SessionScoped.class.getName()));
+        assertEquals(1, metrics.histograms.get(MetricsService.SESSION_CONTEXT_SIZE).size());
+        assertEquals(1L, metrics.histograms.get(MetricsService.SESSION_CONTEXT_SIZE).get(0).longValue());
+    }
+
+    public static class RecordingMetricsService implements MetricsService
+    {
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+        private final Map<String, List<Long>> histograms = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean isEnabled()
+        {
+            return true;
+        }
+
+        @Override
+        public void increment(String name, String tag)
+        {
+            counter(name, tag).incrementAndGet();
+        }
+
+        @Override
+        public void decrement(String name, String tag)
+        {
+            counter(name, tag).decrementAndGet();
+        }
+
+        @Override
+        public void record(String name, String tag, long value)
+        {
+            histograms.computeIfAbsent(name, k -> new CopyOnWriteArrayList<>()).add(value);
+        }
+
+        long get(String name, String tag)
+        {
+            return counter(name, tag).get();
+        }
+
+        private AtomicLong counter(String name, String tag)
+        {
+            return counters.computeIfAbsent(name + '/' + tag, k -> new AtomicLong());
+        }
+    }
+
+    public static class Ping
+    {
+    }
+
+    @ApplicationScoped
+    public static class Service
+    {
+        @Inject
+        private Event<Ping> event;
+
+        public void ping()
+        {
+            // creates the instance
+        }
+
+        public void fire()
+        {
+            event.fire(new Ping());
+        }
+
+        public CompletionStage<Ping> fireAsync()
+        {
+            return event.fireAsync(new Ping());
+        }
+
+        public void onPing(@Observes Ping ping)
+        {
+            // no-op
+        }
+
+        public void onPingAsync(@ObservesAsync Ping ping)
+        {
+            // no-op
+        }
+    }
+
+    @Dependent
+    public static class Helper
+    {
+        @Inject
+        private Tool tool;
+    }
+
+    @Dependent
+    public static class Tool
+    {
+    }
+
+    @SessionScoped
+    public static class Cart implements Serializable
+    {
+        public void add()
+        {
+            // creates the instance
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.annotation.binding;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Named;
+
+import org.apache.webbeans.annotation.AnnotationManager;
+import org.apache.webbeans.annotation.DefaultLiteral;
+import org.apache.webbeans.annotation.QualifierId;
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.container.BeanCacheKey;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class QualifierInterningTest extends AbstractUnitTest
+{
+    @Test
+    public void equalQualifiersShareTheirId()
+    {
+        startContainer(NamedBean.class);
+        AnnotationManager annotationManager = getWebBeansContext().getAnnotationManager();
+
+        QualifierId named = annotationManager.internQualifier(NamedLiteral.of("x"));
+        assertTrue(named.isCanonical());
+        assertSame(named, annotationManager.internQualifier(NamedLiteral.of("x")));
+        assertSame(named, annotationManager.internQualifier(NamedBean.class.getAnnotation(Named.class)));
+        assertNotEquals(named, annotationManager.internQualifier(NamedLiteral.of("y")));
+
+        assertSame(annotationManager.internQualifier(DefaultLiteral.INSTANCE), annotationManager.internQualifier(Default.Literal.INSTANCE));
+
+        // @Nonbinding members do not matter
+        QualifierId b = annotationManager.internQualifier(BeanCacheKeyUnitTest.a3[0]);
+        assertSame(b, annotationManager.internQualifier(BeanCacheKeyUnitTest.a4[0]));
+        assertNotSame(b, annotationManager.internQualifier(BeanCacheKeyUnitTest.a5[0]));
+
+        // non canonical ids are compared by value
+        assertEquals(QualifierId.of(NamedLiteral.of("x"), null), named);
+        assertEquals(named, QualifierId.of(NamedLiteral.of("x"), null));
+
+        BeanCacheKey key1 = new BeanCacheKey(false, String.class, null, annotationManager.internQualifiers(NamedLiteral.of("x"), BeanCacheKeyUnitTest.a3[0]));
+        BeanCacheKey key2 = new BeanCacheKey(false, String.class, null, annotationManager.internQualifiers(BeanCacheKeyUnitTest.a4[0], NamedLiteral.of("x")));
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+    }
+
+    @Test
+    public void sortOrderIsTotal()
+    {
+        // same hash code, different values
+        QualifierId aa = QualifierId.of(NamedLiteral.of("Aa"), null);
+        QualifierId bb = QualifierId.of(NamedLiteral.of("BB"), null);
+        assertEquals(aa.hashCode(), bb.hashCode());
+
+        QualifierId[] first = {aa, bb};
+        QualifierId[] second = {bb, aa};
+        QualifierId.sort(first);
+        QualifierId.sort(second);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void internedQualifiersAreBounded()
+    {
+        addConfiguration(OpenWebBeansConfiguration.QUALIFIER_INTERN_SIZE, "4");
+        startContainer(NamedBean.class);
+        AnnotationManager annotationManager = getWebBeansContext().getAnnotationManager();
+
+        List<QualifierId> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+        {
+            ids.add(annotationManager.internQualifier(NamedLiteral.of("value" + i)));
+        }
+        assertTrue(ids.get(0).isCanonical());
+        assertFalse(ids.get(9).isCanonical());
+
+        // the interned ids never get evicted, new values compare by value
+        for (int i = 0; i < 10; i++)
+        {
+            QualifierId id = annotationManager.internQualifier(NamedLiteral.of("value" + i));
+            if (ids.get(i).isCanonical())
+            {
+                assertSame(ids.get(i), id);
+            }
+            else
+            {
+                assertFalse(id.isCanonical());
+                assertEquals(ids.get(i), id);
+            }
+        }
+    }
+
+    @Test
+    public void lookupWithQualifierValues()
+    {
+        startContainer(NamedBean.class);
+
+        assertEquals(1, getBeanManager().getBeans(NamedBean.class, NamedLiteral.of("x")).size());
+        assertEquals(1, getBeanManager().getBeans(NamedBean.class, NamedLiteral.of("x")).size());
+        assertTrue(getBeanManager().getBeans(NamedBean.class, NamedLiteral.of("y")).isEmpty());
+    }
+
+    @Named("x")
+    public static class NamedBean
+    {
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.config;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BootstrapMonitorTest extends AbstractUnitTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void jsonReport() throws Exception
+    {
+        File report = new File(folder.getRoot(), "report.json");
+        addExtension(new PatObserver());
+        addConfiguration(OpenWebBeansConfiguration.BOOTSTRAP_REPORT, "json");
+        addConfiguration(OpenWebBeansConfiguration.BOOTSTRAP_REPORT_FILE, report.getAbsolutePath());
+        startContainer(Service.class);
+
+        String json = new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8);
+        assertTrue(json, json.startsWith("{\"totalMs\":"));
+        assertTrue(json, json.contains("{\"name\":\"annotatedTypes\""));
+        assertTrue(json, json.contains("{\"name\":\"validation\""));
+        assertTrue(json, json.contains("\"extension\":\"" + PatObserver.class.getName() + "\""));
+        assertTrue(json, json.contains("\"slowestBeans\":[{\"name\":\"" + Service.class.getName() + "\""));
+    }
+
+    @Test
+    public void textReport() throws Exception
+    {
+        File report = new File(folder.getRoot(), "report.txt");
+        addConfiguration(OpenWebBeansConfiguration.BOOTSTRAP_REPORT, "text");
+        addConfiguration(OpenWebBeansConfiguration.BOOTSTRAP_REPORT_FILE, report.getAbsolutePath());
+        startContainer(Service.class);
+
+        String text = new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8);
+        assertTrue(text, text.startsWith("OpenWebBeans bootstrap report"));
+        assertTrue(text, text.contains("  deployBeans: "));
+        assertTrue(text, text.contains("Slowest annotated types:\n  "));
+    }
+
+    @Test
+    public void noReportByDefault()
+    {
+        startContainer(Service.class);
+        assertFalse(getWebBeansContext().getBootstrapMonitor().isReporting());
+    }
+
+    @Test
+    public void jfrEvents() throws Exception
+    {
+        Path dump = folder.getRoot().toPath().resolve("boot.jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable("org.apache.webbeans.BootstrapPhase");
+            recording.enable("org.apache.webbeans.ExtensionObserver");
+            recording.start();
+
+            addConfiguration(OpenWebBeansConfiguration.BOOTSTRAP_JFR_EVENTS, "true");
+            addExtension(new PatObserver());
+            startContainer(Service.class);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Set<String> phases = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.apache.webbeans.BootstrapPhase"))
+                .map(e -> e.getString("phase"))
+                .collect(Collectors.toSet());
+        assertTrue(phases.toString(), phases.contains("annotatedTypes"));
+        assertTrue(phases.toString(), phases.contains("afterDeploymentValidation"));
+        assertTrue(events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.apache.webbeans.ExtensionObserver"))
+                .anyMatch(e -> PatObserver.class.getName().equals(e.getString("extension"))));
+    }
+
+    @Test
+    public void noJfrEventsByDefault() throws Exception
+    {
+        Path dump = folder.getRoot().toPath().resolve("default.jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable("org.apache.webbeans.BootstrapPhase");
+            recording.enable("org.apache.webbeans.ExtensionObserver");
+            recording.start();
+
+            addExtension(new PatObserver());
+            startContainer(Service.class);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        assertTrue(RecordingFile.readAllEvents(dump).stream()
+                .noneMatch(e -> e.getEventType().getName().startsWith("org.apache.webbeans.")));
+    }
+
+    public static class PatObserver implements Extension
+    {
+        void onPat(@Observes ProcessAnnotatedType<?> pat)
+        {
+            // just to be measured
+        }
+    }
+
+    @ApplicationScoped
+    public static class Service
+    {
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.UnsatisfiedResolutionException;
+import jakarta.inject.Inject;
+
+import org.apache.webbeans.config.DeferredValidation;
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.exception.WebBeansConfigurationException;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class DeferredValidationTest extends AbstractUnitTest
+{
+    @Test
+    public void validApplication() throws Exception
+    {
+        addConfiguration(OpenWebBeansConfiguration.DEFERRED_VALIDATION, "true");
+        startContainer(Service.class, Helper.class);
+
+        assertEquals("ok", getInstance(Service.class).ok());
+
+        DeferredValidation validation = getWebBeansContext().getDeferredValidation();
+        assertTrue(validation.await(1, TimeUnit.MINUTES));
+        assertEquals(DeferredValidation.State.VALID, validation.getState());
+        assertTrue(validation.isHealthy());
+        assertTrue(validation.getFailures().isEmpty());
+    }
+
+    @Test
+    public void brokenBeanIsReported() throws Exception
+    {
+        addConfiguration(OpenWebBeansConfiguration.DEFERRED_VALIDATION, "true");
+        startContainer(Service.class, Helper.class, Broken.class);
+
+        // the valid part of the application is usable
+        assertEquals("ok", getInstance(Service.class).ok());
+
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                getInstance(Broken.class).toString();
+                fail("Broken must not be usable");
+            }
+            catch (UnsatisfiedResolutionException e)
+            {
+                assertTrue(e.getMessage(), e.getMessage().contains(Broken.class.getName()));
+            }
+        }
+
+        DeferredValidation validation = getWebBeansContext().getDeferredValidation();
+        assertTrue(validation.await(1, TimeUnit.MINUTES));
+        assertEquals(DeferredValidation.State.FAILED, validation.getState());
+        assertFalse(validation.isHealthy());
+        assertEquals(1, validation.getFailures().size());
+    }
+
+    @Test(expected = WebBeansConfigurationException.class)
+    public void disabledByDefault()
+    {
+        startContainer(Service.class, Helper.class, Broken.class);
+    }
+
+    public interface Missing
+    {
+    }
+
+    @ApplicationScoped
+    public static class Helper
+    {
+        public String ok()
+        {
+            return "ok";
+        }
+    }
+
+    @ApplicationScoped
+    public static class Service
+    {
+        @Inject
+        private Helper helper;
+
+        public String ok()
+        {
+            return helper.ok();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Broken
+    {
+        @Inject
+        private Missing missing;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.spi.AnnotatedField;
+import jakarta.enterprise.inject.spi.AnnotatedType;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+import jakarta.inject.Inject;
+
+import org.apache.webbeans.component.InjectionTargetBean;
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.portable.AnnotatedTypeImpl;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class ReleaseDeploymentMetadataTest extends AbstractUnitTest
+{
+    @Test
+    public void memberMetadataIsReleased()
+    {
+        addConfiguration(OpenWebBeansConfiguration.RELEASE_DEPLOYMENT_METADATA, "true");
+        startContainer(Service.class, Helper.class);
+
+        AnnotatedTypeImpl<?> annotatedType = annotatedTypeOf(Helper.class);
+        assertFalse(annotatedType.isMemberMetadataLoaded());
+
+        // the container keeps working without the released metadata
+        assertEquals("ok", getInstance(Service.class).ok());
+        assertEquals("ok", getWebBeansContext().getBeanManagerImpl().createInstance().select(Helper.class).get().ok());
+
+        // and it gets rebuilt on demand
+        assertFalse(annotatedType.isMemberMetadataLoaded());
+        assertEquals(1, annotatedType.getFields().size());
+        assertTrue(annotatedType.isMemberMetadataLoaded());
+    }
+
+    @Test
+    public void releasedMembersCanBeCollected() throws Exception
+    {
+        addConfiguration(OpenWebBeansConfiguration.RELEASE_DEPLOYMENT_METADATA, "true");
+        MemberCapture capture = new MemberCapture();
+        addExtension(capture);
+        startContainer(Service.class, Helper.class);
+
+        assertNotNull(capture.initialized);
+        for (int i = 0; i < 50 && capture.initialized.get() != null; i++)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull("the released AnnotatedField must not be referenced anymore", capture.initialized.get());
+
+        // the container keeps working with the rebuilt members
+        assertEquals("ok", getInstance(Service.class).ok());
+    }
+
+    @Test
+    public void referencedMembersAreKept()
+    {
+        addConfiguration(OpenWebBeansConfiguration.RELEASE_DEPLOYMENT_METADATA, "true");
+        startContainer(Service.class, Helper.class, Factory.class, Listener.class);
+
+        assertFalse(annotatedTypeOf(Helper.class).isMemberMetadataLoaded());
+        assertTrue(annotatedTypeOf(Factory.class).isMemberMetadataLoaded());
+        assertTrue(annotatedTypeOf(Listener.class).isMemberMetadataLoaded());
+
+        AnnotatedTypeImpl<?> annotatedType = annotatedTypeOf(Service.class);
+        assertTrue(annotatedType.isMemberMetadataLoaded());
+        InjectionPoint injectionPoint = getBean(Service.class).getInjectionPoints().iterator().next();
+        boolean identical = false;
+        for (AnnotatedField<?> field : annotatedType.getFields())
+        {
+            identical |= field == injectionPoint.getAnnotated();
+        }
+        assertTrue("the injection point must still reference the member of its AnnotatedType", identical);
+    }
+
+    @Test
+    public void keptByDefault()
+    {
+        startContainer(Service.class, Helper.class);
+
+        assertTrue(annotatedTypeOf(Service.class).isMemberMetadataLoaded());
+        assertTrue(countLoadedAnnotatedTypes() >= 2);
+    }
+
+    private int countLoadedAnnotatedTypes()
+    {
+        int loaded = 0;
+        for (Bean<?> bean : getWebBeansContext().getBeanManagerImpl().getBeans())
+        {
+            if (bean instanceof InjectionTargetBean)
+            {
+                AnnotatedType<?> annotatedType = ((InjectionTargetBean<?>) bean).getAnnotatedType();
+                if (annotatedType instanceof AnnotatedTypeImpl && ((AnnotatedTypeImpl<?>) annotatedType).isMemberMetadataLoaded())
+                {
+                    loaded++;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private AnnotatedTypeImpl<?> annotatedTypeOf(Class<?> beanClass)
+    {
+        Bean<?> bean = getBean(beanClass);
+        return (AnnotatedTypeImpl<?>) ((InjectionTargetBean<?>) bean).getAnnotatedType();
+    }
+
+    public static class MemberCapture implements Extension
+    {
+        private WeakReference<AnnotatedField<?>> initialized;
+
+        void capture(@Observes ProcessAnnotatedType<Helper> pat)
+        {
+            for (AnnotatedField<?> field : pat.getAnnotatedType().getFields())
+            {
+                if ("initialized".equals(field.getJavaMember().getName()))
+                {
+                    initialized = new WeakReference<>(field);
+                }
+            }
+        }
+    }
+
+    @ApplicationScoped
+    public static class Factory
+    {
+        @Produces
+        public String greeting()
+        {
+            return "hello";
+        }
+    }
+
+    @ApplicationScoped
+    public static class Listener
+    {
+        public void onGreeting(@Observes String greeting)
+        {
+            // only there to register an observer method
+        }
+    }
+
+    @ApplicationScoped
+    public static class Helper
+    {
+        private boolean initialized;
+
+        @Inject
+        public void initialize()
+        {
+            initialized = true;
+        }
+
+        public String ok()
+        {
+            return initialized ? "ok" : "not initialized";
+        }
+    }
+
+    @ApplicationScoped
+    public static class Service
+    {
+        @Inject
+        private Helper helper;
+
+        private String status;
+
+        @PostConstruct
+        public void init()
+        {
+            status = helper.ok();
+        }
+
+        public String ok()
+        {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.spi.MetricsService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class WarmUpTest extends AbstractUnitTest
+{
+    private final CountingMetricsService metrics = new CountingMetricsService();
+
+    @Test
+    public void firstUseIsResolvedFromTheCache()
+    {
+        addConfiguration(OpenWebBeansConfiguration.WARM_UP, "true");
+        addService(MetricsService.class, metrics);
+        startContainer(Service.class, Helper.class);
+        assertTrue(metrics.get(MetricsService.PROXY_CLASSES_GENERATED, "NormalScopeProxyFactory") > 0);
+
+        Service service = getInstance(Service.class);
+        long misses = metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "type");
+        long hits = metrics.get(MetricsService.RESOLUTION_CACHE_HITS, "type");
+
+        assertEquals("ok/ok", service.work());
+        assertEquals(misses, metrics.get(MetricsService.RESOLUTION_CACHE_MISSES, "type"));
+        assertTrue(metrics.get(MetricsService.RESOLUTION_CACHE_HITS, "type") > hits);
+        assertEquals(1, service.getPings());
+    }
+
+    @Test
+    public void lazyWithoutWarmUp()
+    {
+        addService(MetricsService.class, metrics);
+        startContainer(Service.class, Helper.class);
+        assertEquals(0, metrics.get(MetricsService.PROXY_CLASSES_GENERATED, "NormalScopeProxyFactory"));
+
+        assertEquals("ok/ok", getInstance(Service.class).work());
+        assertEquals(1, metrics.get(MetricsService.PROXY_CLASSES_GENERATED, "NormalScopeProxyFactory"));
+    }
+
+    @Test
+    public void timeoutDoesNotBreakTheDeployment()
+    {
+        addConfiguration(OpenWebBeansConfiguration.WARM_UP, "true");
+        addConfiguration(OpenWebBeansConfiguration.WARM_UP_TIMEOUT, "0");
+        startContainer(Service.class, Helper.class);
+
+        assertEquals("ok/ok", getInstance(Service.class).work());
+    }
+
+    public static class Ping
+    {
+    }
+
+    @Dependent
+    public static class Helper
+    {
+        public String ok()
+        {
+            return "ok";
+        }
+    }
+
+    @ApplicationScoped
+    public static class Service
+    {
+        @Inject
+        private Helper helper;
+
+        @Inject
+        private Instance<Helper> helpers;
+
+        @Inject
+        private Event<Ping> event;
+
+        private int pings;
+
+        public String work()
+        {
+            event.fire(new Ping());
+            return helper.ok() + "/" + helpers.get().ok();
+        }
+
+        public int getPings()
+        {
+            return pings;
+        }
+
+        public void onPing(@Observes Ping ping)
+        {
+            pings++;
+        }
+    }
+
+    public static class CountingMetricsService implements MetricsService
+    {
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean isEnabled()
+        {
+            return true;
+        }
+
+        @Override
+        public void increment(String name, String tag)
+        {
+            counter(name, tag).incrementAndGet();
+        }
+
+        @Override
+        public void decrement(String name, String tag)
+        {
+            counter(name, tag).decrementAndGet();
+        }
+
+        @Override
+        public void record(String name, String tag, long value)
+        {
+            // not needed
+        }
+
+        long get(String name, String tag)
+        {
+            return counter(name, tag).get();
+        }
+
+        private AtomicLong counter(String name, String tag)
+        {
+            return counters.computeIfAbsent(name + '/' + tag, k -> new AtomicLong());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.discovery;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.AnnotatedType;
+import jakarta.enterprise.inject.spi.DefinitionException;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+import jakarta.enterprise.inject.spi.ProcessBeanAttributes;
+import jakarta.inject.Inject;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.spi.ThreadSafeExtension;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class ParallelDiscoveryTest extends AbstractUnitTest
+{
+    @Test
+    public void threadSafeExtension()
+    {
+        ThreadSafeObserver extension = new ThreadSafeObserver();
+        addExtension(extension);
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_DISCOVERY, "true");
+        startContainer(Service.class, Client.class, Vetoed.class);
+
+        assertTrue(extension.types.contains(Service.class));
+        assertTrue(extension.types.contains(Client.class));
+        assertTrue(extension.types.contains(Vetoed.class));
+        assertEquals("ok", getInstance(Client.class).call());
+        assertTrue(getBeanManager().getBeans(Vetoed.class).isEmpty());
+    }
+
+    @Test
+    public void sequentialExtension()
+    {
+        SequentialObserver extension = new SequentialObserver();
+        addExtension(extension);
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_DISCOVERY, "true");
+        startContainer(Service.class, Client.class, Vetoed.class);
+
+        assertFalse(extension.concurrentCall);
+        assertEquals(3, extension.types.size());
+        assertNotNull(getInstance(Client.class));
+        assertTrue(getBeanManager().getBeans(Vetoed.class).isEmpty());
+    }
+
+    @Test
+    public void beanAttributes()
+    {
+        BeanAttributesObserver extension = new BeanAttributesObserver();
+        addExtension(extension);
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_DISCOVERY, "true");
+        startContainer(Service.class, Client.class, Plain.class);
+
+        assertTrue(extension.types.containsAll(asList(Service.class, Client.class, Plain.class)));
+        assertEquals(RequestScoped.class, getBean(Plain.class).getScope());
+        assertEquals("ok", getInstance(Client.class).call());
+    }
+
+    @Test(expected = DefinitionException.class)
+    public void definitionErrorIsReported()
+    {
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_DISCOVERY, "true");
+        startContainer(Service.class, Client.class, TwoScopes.class);
+    }
+
+    public static class BeanAttributesObserver implements Extension
+    {
+        private final List<Class<?>> types = new ArrayList<>();
+
+        void onPba(@Observes ProcessBeanAttributes<?> pba)
+        {
+            Class<?> type = ((AnnotatedType<?>) pba.getAnnotated()).getJavaClass();
+            types.add(type);
+            if (type == Plain.class)
+            {
+                pba.configureBeanAttributes().scope(RequestScoped.class);
+            }
+        }
+    }
+
+    public static class ThreadSafeObserver implements ThreadSafeExtension
+    {
+        private final Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+
+        void onPat(@Observes ProcessAnnotatedType<?> pat)
+        {
+            Class<?> type = pat.getAnnotatedType().getJavaClass();
+            types.add(type);
+            if (type == Vetoed.class)
+            {
+                pat.veto();
+            }
+        }
+    }
+
+    public static class SequentialObserver implements Extension
+    {
+        private final Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        private volatile boolean running;
+        private volatile boolean concurrentCall;
+
+        void onPat(@Observes ProcessAnnotatedType<?> pat)
+        {
+            concurrentCall |= running;
+            running = true;
+            Class<?> type = pat.getAnnotatedType().getJavaClass();
+            types.add(type);
+            if (type == Vetoed.class)
+            {
+                pat.veto();
+            }
+            running = false;
+        }
+    }
+
+    @ApplicationScoped
+    public static class Service
+    {
+        public String ok()
+        {
+            return "ok";
+        }
+    }
+
+    @ApplicationScoped
+    public static class Client
+    {
+        @Inject
+        private Service service;
+
+        public String call()
+        {
+            return service.ok();
+        }
+    }
+
+    public static class Vetoed
+    {
+    }
+
+    public static class Plain
+    {
+    }
+
+    @ApplicationScoped
+    @RequestScoped
+    public static class TwoScopes
+    {
+    }
+}
@@ -21,11 +21,14 @@ package org.apache.webbeans.test.interceptors.resolution;
 import jakarta.enterprise.inject.spi.AnnotatedType;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.InterceptionType;
+import jakarta.enterprise.inject.spi.Interceptor;
 import jakarta.enterprise.util.AnnotationLiteral;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -111,6 +114,43 @@ public class InterceptorResolutionServiceTest extends AbstractUnitTest
         shutDownContainer();
     }
 
+    @Test
+    public void testResolvedInterceptorsAreShared() throws Exception
+    {
+        Collection<String> beanXmls = new ArrayList<>();
+        beanXmls.add(getXmlPath(this.getClass().getPackage().getName(), this.getClass().getSimpleName()));
+
+        Collection<Class<?>> beanClasses = new ArrayList<>();
+        beanClasses.add(ClassInterceptedClass.class);
+        beanClasses.add(Transactional.class);
+        beanClasses.add(TransactionalInterceptor.class);
+
+        startContainer(beanClasses, beanXmls);
+
+        Annotation transactional = new AnnotationLiteral<Transactional>() {};
+        List<Interceptor<?>> interceptors = getWebBeansContext().getInterceptorsManager().getInterceptors(InterceptionType.AROUND_INVOKE, transactional);
+        Assert.assertEquals(1, interceptors.size());
+        Assert.assertSame(interceptors,
+                getWebBeansContext().getInterceptorsManager().getInterceptors(InterceptionType.AROUND_INVOKE, new AnnotationLiteral<Transactional>() {}));
+        Assert.assertNotSame(interceptors, getBeanManager().resolveInterceptors(InterceptionType.AROUND_INVOKE, transactional));
+        Assert.assertEquals(interceptors, getBeanManager().resolveInterceptors(InterceptionType.AROUND_INVOKE, transactional));
+
+        InterceptorResolutionService ir = new InterceptorResolutionService(getWebBeansContext());
+        AnnotatedType<ClassInterceptedClass> annotatedType = getBeanManager().createAnnotatedType(ClassInterceptedClass.class);
+        Bean<ClassInterceptedClass> bean =
+                (Bean<ClassInterceptedClass>) getBeanManager().resolve((Set) getBeanManager().getBeans(ClassInterceptedClass.class));
+
+        BeanInterceptorInfo interceptorInfo = ir.calculateInterceptorInfo(bean.getTypes(), bean.getQualifiers(), annotatedType, false);
+        Set<Annotation> bindings = interceptorInfo.getClassLevelInterceptorBindings();
+        for (BusinessMethodInterceptorInfo mi : interceptorInfo.getBusinessMethodsInfo().values())
+        {
+            Assert.assertSame(bindings, mi.getCdiInterceptorBindings());
+            Assert.assertSame(interceptors.get(0), mi.getCdiInterceptors()[0]);
+        }
+
+        shutDownContainer();
+    }
+
     @Test
     public void testStereotypeInterceptorBinding() throws Exception
     {
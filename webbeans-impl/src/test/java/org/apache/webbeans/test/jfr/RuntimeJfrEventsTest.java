@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.apache.webbeans.spi.ContextsService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RuntimeJfrEventsTest extends AbstractUnitTest
+{
+    private static final String BEAN_CREATION = "org.apache.webbeans.BeanCreation";
+    private static final String PRODUCE = "org.apache.webbeans.Produce";
+    private static final String INTERCEPTOR_CHAIN = "org.apache.webbeans.InterceptorChain";
+    private static final String OBSERVER_NOTIFICATION = "org.apache.webbeans.ObserverNotification";
+    private static final String CONTEXT_LIFECYCLE = "org.apache.webbeans.ContextLifecycle";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void runtimeEvents() throws Exception
+    {
+        List<RecordedEvent> events = record(BEAN_CREATION, PRODUCE, INTERCEPTOR_CHAIN, OBSERVER_NOTIFICATION, CONTEXT_LIFECYCLE);
+
+        assertTrue(events.stream()
+                .filter(e -> isType(e, BEAN_CREATION))
+                .anyMatch(e -> Service.class.getName().equals(e.getString("bean"))
+                        && ApplicationScoped.class.getName().equals(e.getString("scope"))));
+        assertTrue(events.stream()
+                .filter(e -> isType(e, PRODUCE))
+                .anyMatch(e -> Service.class.getName().equals(e.getString("beanClass"))));
+        assertTrue(events.stream()
+                .filter(e -> isType(e, INTERCEPTOR_CHAIN))
+                .anyMatch(e -> "ping".equals(e.getString("method")) && e.getInt("interceptors") == 1));
+        assertTrue(events.stream()
+                .filter(e -> isType(e, OBSERVER_NOTIFICATION))
+                .anyMatch(e -> Ping.class.getName().equals(e.getString("event"))
+                        && (Service.class.getName() + "#onPing").equals(e.getString("observer"))
+                        && !e.getBoolean("async")));
+
+        List<String> requestContext = events.stream()
+                .filter(e -> isType(e, CONTEXT_LIFECYCLE))
+                .filter(e -> RequestScoped.class.getName().equals(e.getString("scope")))
+                .map(e -> e.getString("action"))
+                .collect(Collectors.toList());
+        assertTrue(requestContext.toString(), requestContext.contains("start"));
+        assertTrue(requestContext.toString(), requestContext.contains("end"));
+    }
+
+    @Test
+    public void disabledByDefault() throws Exception
+    {
+        List<RecordedEvent> events = record();
+        assertEquals(0, events.stream()
+                .filter(e -> e.getEventType().getCategoryNames().equals(Arrays.asList("OpenWebBeans", "Runtime")))
+                .count());
+    }
+
+    private List<RecordedEvent> record(String... enabled) throws Exception
+    {
+        Path dump = folder.getRoot().toPath().resolve("runtime.jfr");
+        try (Recording recording = new Recording())
+        {
+            for (String event : enabled)
+            {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            startContainer(Service.class, Measured.class, MeasuredInterceptor.class);
+            ContextsService contextsService = getWebBeansContext().getContextsService();
+            contextsService.startContext(RequestScoped.class, null);
+            try
+            {
+                getInstance(Service.class).ping();
+                getBeanManager().getEvent().fire(new Ping());
+            }
+            finally
+            {
+                contextsService.endContext(RequestScoped.class, null);
+            }
+
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump);
+    }
+
+    private static boolean isType(RecordedEvent event, String name)
+    {
+        return event.getEventType().getName().equals(name);
+    }
+
+    public static class Ping
+    {
+    }
+
+    @InterceptorBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    public @interface Measured
+    {
+    }
+
+    @Measured
+    @Interceptor
+    @Priority(100)
+    public static class MeasuredInterceptor
+    {
+        @AroundInvoke
+        public Object measure(InvocationContext ic) throws Exception
+        {
+            return ic.proceed();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Service
+    {
+        @Measured
+        public String ping()
+        {
+            return "pong";
+        }
+
+        public void onPing(@Observes Ping ping)
+        {
+            // just to be measured
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelEagerInitializerTest extends AbstractUnitTest
+{
+    private static final List<String> CREATED = new CopyOnWriteArrayList<>();
+    private static final List<String> OBSERVED = new CopyOnWriteArrayList<>();
+    private static final Map<String, Thread> THREADS = new ConcurrentHashMap<>();
+    private static final List<Boolean> REACHED = new CopyOnWriteArrayList<>();
+    private static CountDownLatch latch;
+
+    @Before
+    public void reset()
+    {
+        CREATED.clear();
+        OBSERVED.clear();
+        THREADS.clear();
+        REACHED.clear();
+        latch = new CountDownLatch(2);
+    }
+
+    @Test
+    public void dependenciesAreCreatedFirst()
+    {
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_EAGER_INIT, "true");
+        startContainer(Client.class, Pool.class, Cache.class, Wrapper.class);
+
+        // everything got created before the observers got notified
+        assertEquals(3, CREATED.size());
+        assertTrue(CREATED.indexOf("Pool") < CREATED.indexOf("Client"));
+        assertEquals(2, OBSERVED.size());
+        assertTrue(OBSERVED.contains("Client:3"));
+        assertTrue(OBSERVED.contains("Cache:3"));
+
+        for (Thread thread : THREADS.values())
+        {
+            assertNotEquals(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    public void cyclesAreLeftToTheObservers()
+    {
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_EAGER_INIT, "true");
+        startContainer(Ping.class, Pong.class, Cache.class);
+
+        assertEquals(Thread.currentThread(), THREADS.get("Ping"));
+        assertEquals(Thread.currentThread(), THREADS.get("Pong"));
+        assertNotEquals(Thread.currentThread(), THREADS.get("Cache"));
+    }
+
+    @Test
+    public void failuresAreReportedInDependencyOrder()
+    {
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_EAGER_INIT, "true");
+        try
+        {
+            startContainer(BrokenA.class, BrokenB.class, Cache.class);
+            fail("the broken beans must fail the startup");
+        }
+        catch (RuntimeException e)
+        {
+            Throwable failure = e;
+            while (!(failure instanceof IllegalStateException) && failure.getCause() != null)
+            {
+                failure = failure.getCause();
+            }
+            assertEquals("BrokenA", failure.getMessage());
+            assertEquals(1, failure.getSuppressed().length);
+            assertEquals("BrokenB", failure.getSuppressed()[0].getMessage());
+        }
+    }
+
+    @Test
+    public void independentBeansAreCreatedConcurrently()
+    {
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_EAGER_INIT, "true");
+        startContainer(LatchA.class, LatchB.class);
+
+        // both creations waited for each other
+        assertEquals(List.of(true, true), REACHED);
+        assertNotEquals(THREADS.get("LatchA"), THREADS.get("LatchB"));
+    }
+
+    @Test
+    public void threadBoundScopesAreLeftToTheObservers()
+    {
+        addConfiguration(OpenWebBeansConfiguration.PARALLEL_EAGER_INIT, "true");
+        startContainer(Cart.class, Shop.class, Cache.class);
+
+        assertEquals(Thread.currentThread(), THREADS.get("Shop"));
+        assertNotEquals(Thread.currentThread(), THREADS.get("Cache"));
+    }
+
+    @Test
+    public void disabledByDefault()
+    {
+        startContainer(Client.class, Pool.class, Cache.class, Wrapper.class);
+
+        for (Thread thread : THREADS.values())
+        {
+            assertEquals(Thread.currentThread(), thread);
+        }
+    }
+
+    private static void created(String name)
+    {
+        CREATED.add(name);
+        THREADS.put(name, Thread.currentThread());
+    }
+
+    private static void awaitOther()
+    {
+        latch.countDown();
+        try
+        {
+            REACHED.add(latch.await(10, TimeUnit.SECONDS));
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            REACHED.add(false);
+        }
+    }
+
+    @ApplicationScoped
+    public static class LatchA
+    {
+        @PostConstruct
+        public void init()
+        {
+            created("LatchA");
+            awaitOther();
+        }
+
+        public void onStartup(@Observes Startup startup)
+        {
+            // created eagerly
+        }
+    }
+
+    @ApplicationScoped
+    public static class LatchB
+    {
+        @PostConstruct
+        public void init()
+        {
+            created("LatchB");
+            awaitOther();
+        }
+
+        public void onStartup(@Observes Startup startup)
+        {
+            // created eagerly
+        }
+    }
+
+    @SessionScoped
+    public static class Cart implements Serializable
+    {
+        public int size()
+        {
+            return 0;
+        }
+    }
+
+    @ApplicationScoped
+    public static class Shop
+    {
+        @Inject
+        private Cart cart;
+
+        @PostConstruct
+        public void init()
+        {
+            // needs the session context of the starting thread
+            cart.size();
+            created("Shop");
+        }
+
+        public void onStartup(@Observes Startup startup)
+        {
+            OBSERVED.add("Shop");
+        }
+    }
+
+    @ApplicationScoped
+    public static class Pool
+    {
+        @PostConstruct
+        public void init()
+        {
+            created("Pool");
+        }
+
+        public String name()
+        {
+            return "pool";
+        }
+    }
+
+    @Dependent
+    public static class Wrapper
+    {
+        @Inject
+        private Pool pool;
+
+        public Pool getPool()
+        {
+            return pool;
+        }
+    }
+
+    @ApplicationScoped
+    public static class Client
+    {
+        @Inject
+        private Wrapper wrapper;
+
+        @PostConstruct
+        public void init()
+        {
+            // uses the pool while getting created
+            wrapper.getPool().name();
+            created("Client");
+        }
+
+        public void onStartup(@Observes Startup startup)
+        {
+            OBSERVED.add("Client:" + CREATED.size());
+        }
+    }
+
+    @ApplicationScoped
+    public static class Cache
+    {
+        @PostConstruct
+        public void init()
+        {
+            created("Cache");
+        }
+
+        public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event)
+        {
+            OBSERVED.add("Cache:" + CREATED.size());
+        }
+    }
+
+    @ApplicationScoped
+    public static class Ping
+    {
+        @Inject
+        private Pong pong;
+
+        @PostConstruct
+        public void init()
+        {
+            created("Ping");
+        }
+
+        public void onStartup(@Observes Startup startup)
+        {
+            OBSERVED.add("Ping");
+        }
+    }
+
+    @ApplicationScoped
+    public static class Pong
+    {
+        @Inject
+        private Ping ping;
+
+        @PostConstruct
+        public void init()
+        {
+            created("Pong");
+        }
+
+        public void onStartup(@Observes Startup startup)
+        {
+            OBSERVED.add("Pong");
+        }
+    }
+
+    @ApplicationScoped
+    public static class BrokenA
+    {
+        @PostConstruct
+        public void init()
+        {
+            throw new IllegalStateException("BrokenA");
+        }
+
+        public void onStartup(@Observes Startup startup)
+        {
+            // never reached
+        }
+    }
+
+    @ApplicationScoped
+    public static class BrokenB
+    {
+        @PostConstruct
+        public void init()
+        {
+            throw new IllegalStateException("BrokenB");
+        }
+
+        public void onStartup(@Observes Startup startup)
+        {
+            // never reached
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.AlterableContext;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.proxy.ContextualInstanceCache;
+import org.apache.webbeans.proxy.OwbCachingNormalScopeProxy;
+import org.apache.webbeans.proxy.OwbNormalScopeProxy;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class CachingNormalScopeProxyTest extends AbstractUnitTest
+{
+    @Test
+    public void cachingProxy()
+    {
+        addConfiguration(OpenWebBeansConfiguration.CACHING_NORMAL_SCOPE_PROXIES, "true");
+        startContainer(AppBean.class, ReqBean.class, SupplierProducer.class);
+
+        AppBean appBean = getInstance(AppBean.class);
+        assertTrue(appBean instanceof OwbCachingNormalScopeProxy);
+        int id = appBean.instanceId();
+        assertEquals(id, appBean.instanceId());
+        assertEquals("protected", appBean.callProtected());
+
+        Supplier<String> supplier = getInstance(Supplier.class);
+        assertTrue(supplier instanceof OwbCachingNormalScopeProxy);
+        assertEquals("supplied", supplier.get());
+
+        ReqBean reqBean = getInstance(ReqBean.class);
+        assertTrue(reqBean instanceof OwbNormalScopeProxy);
+        assertFalse(reqBean instanceof OwbCachingNormalScopeProxy);
+        assertEquals("req", reqBean.get());
+    }
+
+    @Test
+    public void destroyedInstanceIsNotCached()
+    {
+        addConfiguration(OpenWebBeansConfiguration.CACHING_NORMAL_SCOPE_PROXIES, "true");
+        startContainer(AppBean.class);
+
+        AppBean appBean = getInstance(AppBean.class);
+        int first = appBean.instanceId();
+
+        ((AlterableContext) getBeanManager().getContext(ApplicationScoped.class)).destroy(getBean(AppBean.class));
+
+        assertEquals(first + 1, appBean.instanceId());
+    }
+
+    @Test
+    public void destroyedInstanceIsNotCachedByOtherProxies()
+    {
+        addConfiguration(OpenWebBeansConfiguration.CACHING_NORMAL_SCOPE_PROXIES, "true");
+        startContainer(AppBean.class);
+
+        Bean<AppBean> bean = getBean(AppBean.class);
+        AppBean injected = getInstance(AppBean.class);
+        AppBean manual = getWebBeansContext().getNormalScopeProxyFactory().createNormalScopeProxy(bean);
+        assertNotSame(injected, manual);
+        assertTrue(manual instanceof OwbCachingNormalScopeProxy);
+
+        int first = injected.instanceId();
+        assertEquals(first, manual.instanceId());
+
+        ((AlterableContext) getBeanManager().getContext(ApplicationScoped.class)).destroy(bean);
+
+        assertEquals(first + 1, manual.instanceId());
+        assertEquals(first + 1, injected.instanceId());
+    }
+
+    @Test
+    public void instanceDestroyedWhileResolvingIsNotCached()
+    {
+        addConfiguration(OpenWebBeansConfiguration.CACHING_NORMAL_SCOPE_PROXIES, "true");
+        startContainer(AppBean.class);
+
+        Bean<?> bean = getBean(AppBean.class);
+        ContextualInstanceCache cache = getWebBeansContext().getBeanManagerImpl().getContextualInstanceCache(bean);
+
+        int generation = cache.getGeneration();
+        Object resolved = new Object();
+        // destroyed after the proxy resolved it but before the proxy cached it
+        getWebBeansContext().getBeanManagerImpl().clearCachedProxyInstance(bean);
+        cache.set(resolved, generation);
+        assertNull(cache.get());
+
+        cache.set(resolved, cache.getGeneration());
+        assertSame(resolved, cache.get());
+    }
+
+    @Test
+    public void disabledByDefault()
+    {
+        startContainer(AppBean.class);
+
+        AppBean appBean = getInstance(AppBean.class);
+        assertTrue(appBean instanceof OwbNormalScopeProxy);
+        assertFalse(appBean instanceof OwbCachingNormalScopeProxy);
+    }
+
+    @ApplicationScoped
+    public static class AppBean
+    {
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        private int id;
+
+        @PostConstruct
+        public void init()
+        {
+            id = INSTANCES.incrementAndGet();
+        }
+
+        public int instanceId()
+        {
+            return id;
+        }
+
+        public String callProtected()
+        {
+            return doProtected();
+        }
+
+        protected String doProtected()
+        {
+            return "protected";
+        }
+    }
+
+    @RequestScoped
+    public static class ReqBean
+    {
+        public String get()
+        {
+            return "req";
+        }
+    }
+
+    public static class SupplierProducer
+    {
+        @Produces
+        @ApplicationScoped
+        public Supplier<String> supplier()
+        {
+            return () -> "supplied";
+        }
+    }
+}
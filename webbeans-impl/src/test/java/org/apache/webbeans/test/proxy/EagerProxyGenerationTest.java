@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.proxy.NormalScopeProxyFactory;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class EagerProxyGenerationTest extends AbstractUnitTest
+{
+    @Test
+    public void eagerGeneration()
+    {
+        addConfiguration(OpenWebBeansConfiguration.EAGER_PROXY_GENERATION, "true");
+        startContainer(AppBean.class, ReqBean.class);
+
+        NormalScopeProxyFactory factory = getWebBeansContext().getNormalScopeProxyFactory();
+        for (Class<?> type : new Class<?>[] { AppBean.class, ReqBean.class })
+        {
+            Bean<?> bean = getBean(type);
+            Class<?> proxyClass = factory.createProxyClass(bean);
+            assertSame(proxyClass, getInstance(type).getClass());
+        }
+    }
+
+    @Test
+    public void concurrentGeneration() throws Exception
+    {
+        startContainer(AppBean.class, ReqBean.class);
+
+        NormalScopeProxyFactory factory = getWebBeansContext().getNormalScopeProxyFactory();
+        Bean<?> app = getBean(AppBean.class);
+        Bean<?> req = getBean(ReqBean.class);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Class<?>>> generations = IntStream.range(0, 16)
+                .mapToObj(i -> CompletableFuture.<Class<?>>supplyAsync(() ->
+                {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                    Bean<?> bean = i % 2 == 0 ? app : req;
+                    return factory.createProxyClass(bean);
+                }))
+                .collect(Collectors.toList());
+        start.countDown();
+
+        List<Class<?>> proxyClasses = generations.stream().map(CompletableFuture::join).distinct().collect(Collectors.toList());
+        assertEquals(2, proxyClasses.size());
+        assertSame(factory.createProxyClass(app), getInstance(AppBean.class).getClass());
+        assertSame(factory.createProxyClass(req), getInstance(ReqBean.class).getClass());
+    }
+
+    @ApplicationScoped
+    public static class AppBean
+    {
+        public String get()
+        {
+            return "app";
+        }
+    }
+
+    @RequestScoped
+    public static class ReqBean
+    {
+        public String get()
+        {
+            return "req";
+        }
+    }
+}
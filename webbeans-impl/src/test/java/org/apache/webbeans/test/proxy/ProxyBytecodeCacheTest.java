@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.proxy;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.proxy.NormalScopeProxyFactory;
+import org.apache.webbeans.service.ClassLoaderProxyService;
+import org.apache.webbeans.spi.DefiningClassService;
+import org.apache.webbeans.spi.MetricsService;
+import org.apache.xbean.asm9.ClassWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProxyBytecodeCacheTest
+{
+    private static final AtomicInteger GENERATIONS = new AtomicInteger();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void reuseStoredBytecode() throws Exception
+    {
+        File directory = folder.newFolder("proxies");
+        GENERATIONS.set(0);
+        CountingMetricsService metrics = new CountingMetricsService();
+
+        Class<Service> first = createProxyClass(directory, metrics);
+        assertEquals(1, GENERATIONS.get());
+        assertEquals(1, directory.list((dir, name) -> name.endsWith(".proxy")).length);
+        assertEquals(1, metrics.get(MetricsService.PROXY_CLASSES_GENERATED, "CountingProxyFactory"));
+        assertEquals(0, metrics.get(MetricsService.PROXY_CLASSES_CACHE_HITS, "CountingProxyFactory"));
+
+        // a new container gets its own proxy ClassLoader, the bytecode must come from the directory
+        Class<Service> second = createProxyClass(directory, metrics);
+        assertEquals(1, GENERATIONS.get());
+        assertEquals(1, metrics.get(MetricsService.PROXY_CLASSES_GENERATED, "CountingProxyFactory"));
+        assertEquals(1, metrics.get(MetricsService.PROXY_CLASSES_CACHE_HITS, "CountingProxyFactory"));
+        assertNotSame(first, second);
+        assertEquals(first.getName(), second.getName());
+        assertEquals(1, directory.list((dir, name) -> name.endsWith(".proxy")).length);
+    }
+
+    @Test
+    public void disabledByDefault()
+    {
+        GENERATIONS.set(0);
+        createProxyClass(null, null);
+        createProxyClass(null, null);
+        assertEquals(2, GENERATIONS.get());
+    }
+
+    private Class<Service> createProxyClass(File directory, MetricsService metrics)
+    {
+        Properties config = new Properties();
+        config.setProperty(DefiningClassService.class.getName(), ClassLoaderProxyService.class.getName());
+        if (directory != null)
+        {
+            config.setProperty(OpenWebBeansConfiguration.PROXY_BYTECODE_CACHE_DIRECTORY, directory.getAbsolutePath());
+        }
+        Map<Class<?>, Object> services = metrics == null ? emptyMap() : singletonMap(MetricsService.class, metrics);
+        WebBeansContext context = new WebBeansContext(services, config);
+        return new CountingProxyFactory(context).createProxyClass(Thread.currentThread().getContextClassLoader(), Service.class);
+    }
+
+    public static class Service
+    {
+        public String value()
+        {
+            return "ok";
+        }
+    }
+
+    public static class CountingProxyFactory extends NormalScopeProxyFactory
+    {
+        public CountingProxyFactory(WebBeansContext webBeansContext)
+        {
+            super(webBeansContext);
+        }
+
+        @Override
+        protected void createSerialisation(ClassWriter cw, String proxyClassFileName, Class<?> classToProxy, String classFileName)
+        {
+            GENERATIONS.incrementAndGet();
+            super.createSerialisation(cw, proxyClassFileName, classToProxy, classFileName);
+        }
+    }
+
+    public static class CountingMetricsService implements MetricsService
+    {
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean isEnabled()
+        {
+            return true;
+        }
+
+        @Override
+        public void increment(String name, String tag)
+        {
+            counter(name, tag).incrementAndGet();
+        }
+
+        @Override
+        public void decrement(String name, String tag)
+        {
+            counter(name, tag).decrementAndGet();
+        }
+
+        @Override
+        public void record(String name, String tag, long value)
+        {
+            // not needed
+        }
+
+        long get(String name, String tag)
+        {
+            return counter(name, tag).get();
+        }
+
+        private AtomicLong counter(String name, String tag)
+        {
+            return counters.computeIfAbsent(name + '/' + tag, k -> new AtomicLong());
+        }
+    }
+}
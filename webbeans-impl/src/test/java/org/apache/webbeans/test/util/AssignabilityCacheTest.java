@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.List;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.apache.webbeans.config.OwbParametrizedTypeImpl;
+import org.apache.webbeans.config.OwbWildcardTypeImpl;
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.util.AssignabilityCache;
+import org.junit.Test;
+
+public class AssignabilityCacheTest
+{
+    private static final Type LIST_OF_STRING = new TypeLiteral<List<String>>() { }.getType();
+    private static final Type LIST_OF_NUMBER = new TypeLiteral<List<? extends Number>>() { }.getType();
+    private static final Type LIST_OF_INTEGER = new TypeLiteral<List<Integer>>() { }.getType();
+
+    @Test
+    public void memoizesParameterizedTypes()
+    {
+        AssignabilityCache cache = new AssignabilityCache(0);
+
+        assertTrue(cache.satisfiesDependency(false, false, LIST_OF_NUMBER, LIST_OF_INTEGER));
+        assertFalse(cache.satisfiesDependency(false, false, LIST_OF_NUMBER, LIST_OF_STRING));
+        assertEquals(2, cache.size());
+
+        // structurally equal OWB types hit the same entries
+        Type owbListOfInteger = new OwbParametrizedTypeImpl(null, List.class, Integer.class);
+        Type owbListOfNumber = new OwbParametrizedTypeImpl(null, List.class,
+                new OwbWildcardTypeImpl(new Type[]{Number.class}, new Type[0]));
+        assertTrue(cache.satisfiesDependency(false, false, owbListOfNumber, owbListOfInteger));
+        assertEquals(2, cache.size());
+
+        // the flags are part of the key
+        assertTrue(cache.isAssignableFrom(true, false, LIST_OF_NUMBER, LIST_OF_INTEGER));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void skipsClassesAndTypeVariables()
+    {
+        AssignabilityCache cache = new AssignabilityCache(0);
+        TypeVariable<?> variable = Holder.class.getTypeParameters()[0];
+
+        assertTrue(cache.satisfiesDependency(false, false, Number.class, Number.class));
+        assertTrue(cache.satisfiesDependency(false, false, Number.class, variable));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void bounded()
+    {
+        AssignabilityCache cache = new AssignabilityCache(2);
+
+        assertTrue(cache.satisfiesDependency(false, false, LIST_OF_NUMBER, LIST_OF_INTEGER));
+        assertFalse(cache.satisfiesDependency(false, false, LIST_OF_NUMBER, LIST_OF_STRING));
+        assertFalse(cache.satisfiesDependency(false, false, LIST_OF_NUMBER, LIST_OF_STRING));
+        assertEquals(2, cache.size());
+
+        // new pairs still get cached by evicting old ones
+        for (int i = 0; i < 10; i++)
+        {
+            Type listOfArray = new OwbParametrizedTypeImpl(null, List.class, Array.newInstance(Integer.class, new int[i + 1]).getClass());
+            assertFalse(cache.satisfiesDependency(false, false, LIST_OF_NUMBER, listOfArray));
+            assertFalse(cache.satisfiesDependency(false, false, LIST_OF_NUMBER, listOfArray));
+            assertEquals(2, cache.size());
+        }
+    }
+
+    @Test
+    public void clearedOnShutdown()
+    {
+        WebBeansContext webBeansContext = new WebBeansContext();
+        AssignabilityCache cache = webBeansContext.getAssignabilityCache();
+        assertTrue(cache.satisfiesDependency(false, false, LIST_OF_NUMBER, LIST_OF_INTEGER));
+        assertEquals(1, cache.size());
+
+        webBeansContext.clear();
+        assertEquals(0, cache.size());
+    }
+
+    public static class Holder<T extends Number>
+    {
+    }
+}
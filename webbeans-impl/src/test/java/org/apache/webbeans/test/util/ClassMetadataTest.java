@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.webbeans.util.ClassMetadata;
+import org.apache.webbeans.util.ClassUtil;
+import org.junit.Test;
+
+public class ClassMetadataTest
+{
+    @Test
+    public void methodTablesAreShared()
+    {
+        ClassMetadata metadata = new ClassMetadata(true);
+        assertSame(metadata.getDeclaredMethods(Service.class), metadata.getDeclaredMethods(Service.class));
+        assertSame(metadata.getMethods(Service.class), metadata.getMethods(Service.class));
+        assertSame(metadata.getDeclaredMethods(String.class), metadata.getDeclaredMethods(String.class));
+
+        assertEquals(new HashSet<>(List.of(Service.class.getDeclaredMethods())),
+                new HashSet<>(List.of(metadata.getDeclaredMethods(Service.class))));
+
+        // classes of the ClassLoader of OpenWebBeans are shared by all contexts
+        assertSame(metadata.getDeclaredMethods(Service.class), new ClassMetadata(true).getDeclaredMethods(Service.class));
+    }
+
+    @Test
+    public void parentClassesArePerContext()
+    {
+        ClassMetadata metadata = new ClassMetadata(true);
+        Method[] methods = metadata.getDeclaredMethods(String.class);
+        assertNotSame(methods, new ClassMetadata(true).getDeclaredMethods(String.class));
+
+        metadata.clear();
+        assertNotSame(methods, metadata.getDeclaredMethods(String.class));
+    }
+
+    @Test
+    public void notSharedIfDisabled()
+    {
+        ClassMetadata metadata = new ClassMetadata(false);
+        Method[] methods = metadata.getDeclaredMethods(Service.class);
+        assertSame(methods, metadata.getDeclaredMethods(Service.class));
+        assertNotSame(methods, new ClassMetadata(false).getDeclaredMethods(Service.class));
+        assertNotSame(methods, new ClassMetadata(true).getDeclaredMethods(Service.class));
+
+        metadata.clear();
+        assertNotSame(methods, metadata.getDeclaredMethods(Service.class));
+    }
+
+    @Test
+    public void nonPrivateMethodsAreShared()
+    {
+        ClassMetadata metadata = new ClassMetadata(true);
+        List<Method> methods = metadata.getNonPrivateMethods(Service.class, true, false);
+        assertSame(methods, metadata.getNonPrivateMethods(Service.class, true, false));
+        assertNotSame(methods, metadata.getNonPrivateMethods(Service.class, false, false));
+
+        List<Method> copy = ClassUtil.getNonPrivateMethods(Service.class, true);
+        assertEquals(methods, copy);
+        copy.clear();
+        assertTrue(metadata.getNonPrivateMethods(Service.class, true, false).size() > 0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void nonPrivateMethodsAreUnmodifiable()
+    {
+        new ClassMetadata(true).getNonPrivateMethods(Service.class, true, false).clear();
+    }
+
+    @Test
+    public void bridgeMethods() throws Exception
+    {
+        ClassMetadata metadata = new ClassMetadata(true);
+        Method bridge = null;
+        for (Method method : metadata.getNonPrivateMethods(Service.class, true, true))
+        {
+            if (method.isBridge())
+            {
+                assertNull(bridge);
+                bridge = method;
+            }
+        }
+        assertNotNull(bridge);
+        assertEquals(Object.class, bridge.getReturnType());
+        assertEquals(String.class, Service.class.getDeclaredMethod("get").getReturnType());
+        assertFalse(metadata.getNonPrivateMethods(Service.class, true, false).contains(bridge));
+    }
+
+    public static class Service implements Supplier<String>
+    {
+        @Override
+        public String get()
+        {
+            return "service";
+        }
+
+        public final void close()
+        {
+            // final methods get excluded for proxies
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+
+import org.apache.webbeans.annotation.AnyLiteral;
+import org.apache.webbeans.annotation.DefaultLiteral;
+import org.apache.webbeans.util.ImmutableArraySet;
+import org.junit.Test;
+
+public class ImmutableArraySetTest
+{
+    @Test
+    public void smallSet()
+    {
+        Set<Object> set = ImmutableArraySet.copyOf(Arrays.asList(DefaultLiteral.INSTANCE, AnyLiteral.INSTANCE, DefaultLiteral.INSTANCE));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(DefaultLiteral.INSTANCE));
+        assertTrue(set.contains(new Any.Literal()));
+        assertFalse(set.contains(null));
+        assertFalse(set.contains("foo"));
+
+        Set<Object> expected = new HashSet<>(Arrays.asList(new Default.Literal(), new Any.Literal()));
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(Arrays.asList(DefaultLiteral.INSTANCE, AnyLiteral.INSTANCE), new ArrayList<>(set));
+    }
+
+    @Test
+    public void largeSet()
+    {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+        {
+            values.add(i * 31);
+        }
+        Set<Integer> set = ImmutableArraySet.copyOf(values);
+        assertEquals(100, set.size());
+        for (int i = 0; i < 100; i++)
+        {
+            assertTrue(set.contains(i * 31));
+            assertFalse(set.contains(i * 31 + 1));
+        }
+        assertEquals(new HashSet<>(values), set);
+        assertEquals(values, new ArrayList<>(set));
+    }
+
+    @Test
+    public void copies()
+    {
+        assertSame(Collections.emptySet(), ImmutableArraySet.copyOf(null));
+        assertSame(Collections.emptySet(), ImmutableArraySet.copyOf(Collections.emptyList()));
+
+        Set<String> set = ImmutableArraySet.copyOf(Collections.singleton("a"));
+        assertSame(set, ImmutableArraySet.copyOf(set));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void immutable()
+    {
+        ImmutableArraySet.copyOf(Collections.singleton("a")).add("b");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void immutableIterator()
+    {
+        ImmutableArraySet.copyOf(Collections.singleton("a")).removeIf(s -> true);
+    }
+}
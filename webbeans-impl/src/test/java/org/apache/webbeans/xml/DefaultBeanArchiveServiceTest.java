@@ -18,6 +18,8 @@
  */
 package org.apache.webbeans.xml;
 
+import org.apache.webbeans.exception.WebBeansConfigurationException;
+import org.apache.webbeans.exception.WebBeansException;
 import org.apache.webbeans.spi.BeanArchiveService;
 import org.junit.Test;
 
@@ -27,8 +29,15 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode.ALL;
 import static org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode.ANNOTATED;
+import static org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode.TRIM;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class DefaultBeanArchiveServiceTest
 {
@@ -101,6 +110,117 @@ public class DefaultBeanArchiveServiceTest
                 "", "4.1");
     }
 
+    @Test
+    public void parseDiscoveryModeOnly() throws IOException
+    {
+        final BeanArchiveService.BeanArchiveInformation info = read(new DefaultBeanArchiveService(),
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<beans bean-discovery-mode=\"all\" version=\"2.0\"/>\n", "mem");
+        assertEquals("2.0", info.getVersion());
+        assertEquals(ALL, info.getBeanDiscoveryMode());
+        assertTrue(info.getInterceptors().isEmpty());
+        assertTrue(info.getAlternativeClasses().isEmpty());
+    }
+
+    @Test
+    public void parseAllElements() throws IOException
+    {
+        final DefaultBeanArchiveInformation info = (DefaultBeanArchiveInformation) read(new DefaultBeanArchiveService(), "" +
+                "<beans version=\"1.1\" bean-discovery-mode=\"all\">\n" +
+                "  <!-- a comment -->\n" +
+                "  <decorators><class> com.acme.Decorator </class></decorators>\n" +
+                "  <alternatives>\n" +
+                "    <class><![CDATA[com.acme.Alternative]]></class>\n" +
+                "    <stereotype>com.acme.Mock</stereotype>\n" +
+                "  </alternatives>\n" +
+                "  <scan>\n" +
+                "    <exclude name=\"com.acme.Excluded\"/>\n" +
+                "    <exclude name=\"com.acme.flat.*\"/>\n" +
+                "    <exclude name=\"com.acme.deep.**\"/>\n" +
+                "  </scan>\n" +
+                "  <allowProxying><class>com.acme.Final</class></allowProxying>\n" +
+                "  <unknown><class>com.acme.Ignored</class></unknown>\n" +
+                "  <trim/>\n" +
+                "</beans>", "mem");
+        assertEquals(TRIM, info.getBeanDiscoveryMode());
+        assertEquals(singletonList("com.acme.Decorator"), info.getDecorators());
+        assertEquals(singletonList("com.acme.Alternative"), info.getAlternativeClasses());
+        assertEquals(singletonList("com.acme.Mock"), info.getAlternativeStereotypes());
+        assertEquals(asList("com.acme.Excluded", "com.acme.flat"), info.getExcludedClasses());
+        assertEquals(singletonList("com.acme.deep"), info.getExcludedPackages());
+        assertEquals(singletonList("com.acme.Final"), info.getAllowProxyingClasses());
+        assertTrue(info.getInterceptors().isEmpty());
+    }
+
+    @Test
+    public void cachedParseResultIsCopiedPerLocation() throws IOException
+    {
+        final String beansXml = "<beans version=\"2.0\" bean-discovery-mode=\"annotated\">" + CONTENT + "</beans>";
+        final DefaultBeanArchiveService service = new DefaultBeanArchiveService();
+
+        final BeanArchiveService.BeanArchiveInformation first = read(service, beansXml, "first");
+        first.getInterceptors().add("com.acme.Third");
+        final BeanArchiveService.BeanArchiveInformation second = read(service, beansXml, "second");
+
+        assertNotSame(first, second);
+        assertEquals("second", second.getBdaUrl());
+        assertEquals(ANNOTATED, second.getBeanDiscoveryMode());
+        assertEquals(asList("com.acme.First", "com.acme.Second"), second.getInterceptors());
+    }
+
+    @Test
+    public void conditionalExcludesAreNotCached() throws IOException
+    {
+        final String property = DefaultBeanArchiveServiceTest.class.getName() + ".exclude";
+        final String beansXml = "" +
+                "<beans version=\"2.0\" bean-discovery-mode=\"all\">\n" +
+                "  <scan>\n" +
+                "    <exclude name=\"com.acme.Excluded\">\n" +
+                "      <if-system-property name=\"" + property + "\" value=\"true\"/>\n" +
+                "    </exclude>\n" +
+                "  </scan>\n" +
+                "</beans>";
+        final DefaultBeanArchiveService service = new DefaultBeanArchiveService();
+
+        System.setProperty(property, "true");
+        try
+        {
+            assertTrue(read(service, beansXml, "first").isClassExcluded("com.acme.Excluded"));
+        }
+        finally
+        {
+            System.clearProperty(property);
+        }
+        final DefaultBeanArchiveInformation second = (DefaultBeanArchiveInformation) read(service, beansXml, "second");
+        assertFalse(second.isClassExcluded("com.acme.Excluded"));
+        assertNull(second.getExcludedClasses());
+    }
+
+    @Test(expected = WebBeansConfigurationException.class)
+    public void emptyClassElement() throws IOException
+    {
+        read(new DefaultBeanArchiveService(), "<beans version=\"2.0\" bean-discovery-mode=\"all\"><interceptors><class> </class></interceptors></beans>", "mem");
+    }
+
+    @Test(expected = WebBeansConfigurationException.class)
+    public void wrongRootElement() throws IOException
+    {
+        read(new DefaultBeanArchiveService(), "<interceptors/>", "mem");
+    }
+
+    @Test(expected = WebBeansException.class)
+    public void malformedBeansXml() throws IOException
+    {
+        read(new DefaultBeanArchiveService(), "<beans version=\"2.0\" bean-discovery-mode=\"all\"><interceptors></beans>", "mem");
+    }
+
+    private BeanArchiveService.BeanArchiveInformation read(final DefaultBeanArchiveService service, final String beansXml, final String location)
+            throws IOException
+    {
+        try (final InputStream stream = new ByteArrayInputStream(beansXml.getBytes(StandardCharsets.UTF_8))) {
+            return service.readBeansXml(stream, location);
+        }
+    }
+
     private void assertBeansXml(final String beansXml, final String version) throws IOException
     {
         try (final InputStream stream = new ByteArrayInputStream(beansXml.getBytes(StandardCharsets.UTF_8))) {
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.openwebbeans.jmx;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.webbeans.spi.MetricsService;
+
+/**
+ * {@link MetricsService} which exposes all metrics as attributes of a single MBean.
+ *
+ * <p>Counters and gauges show up as {@code name} or {@code name[tag]}, histograms as
+ * {@code name.count}, {@code name.min}, {@code name.max} and {@code name.mean}.
+ * The MBean gets registered as {@code org.apache.openwebbeans:type=Metrics,context=<n>}
+ * in the platform MBeanServer and unregistered when the container shuts down.</p>
+ *
+ * <p>Enable it with {@code org.apache.webbeans.spi.MetricsService=org.apache.openwebbeans.jmx.JmxMetricsService}.</p>
+ */
+public class JmxMetricsService implements MetricsService, DynamicMBean, Closeable
+{
+    private static final AtomicInteger CONTEXTS = new AtomicInteger();
+
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final MBeanServer server;
+    private final ObjectName objectName;
+
+    public JmxMetricsService()
+    {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxMetricsService(MBeanServer server)
+    {
+        this.server = server;
+        try
+        {
+            objectName = new ObjectName("org.apache.openwebbeans:type=Metrics,context=" + CONTEXTS.incrementAndGet());
+            server.registerMBean(this, objectName);
+        }
+        catch (JMException e)
+        {
+            throw new IllegalStateException("Can't register the OpenWebBeans metrics MBean", e);
+        }
+    }
+
+    public ObjectName getObjectName()
+    {
+        return objectName;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return true;
+    }
+
+    @Override
+    public void increment(String name, String tag)
+    {
+        counters.computeIfAbsent(key(name, tag), k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void decrement(String name, String tag)
+    {
+        counters.computeIfAbsent(key(name, tag), k -> new LongAdder()).decrement();
+    }
+
+    @Override
+    public void record(String name, String tag, long value)
+    {
+        histograms.computeIfAbsent(key(name, tag), k -> new Histogram()).record(value);
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException
+    {
+        Object value = snapshot().get(attribute);
+        if (value == null)
+        {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value;
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes)
+    {
+        Map<String, Object> snapshot = snapshot();
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes)
+        {
+            Object value = snapshot.get(attribute);
+            if (value != null)
+            {
+                list.add(new Attribute(attribute, value));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException
+    {
+        throw new AttributeNotFoundException("Metrics are read only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes)
+    {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature)
+    {
+        throw new UnsupportedOperationException(actionName);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo()
+    {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : snapshot().entrySet())
+        {
+            attributes.add(new MBeanAttributeInfo(entry.getKey(), entry.getValue().getClass().getName(), entry.getKey(),
+                    true, false, false));
+        }
+        return new MBeanInfo(getClass().getName(), "OpenWebBeans container metrics",
+                attributes.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[0], null);
+    }
+
+    @Override
+    public void close()
+    {
+        try
+        {
+            if (server.isRegistered(objectName))
+            {
+                server.unregisterMBean(objectName);
+            }
+        }
+        catch (JMException e)
+        {
+            // already gone
+        }
+    }
+
+    private Map<String, Object> snapshot()
+    {
+        Map<String, Object> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        histograms.forEach((name, histogram) ->
+        {
+            long count = histogram.count.sum();
+            values.put(name + ".count", count);
+            values.put(name + ".min", count == 0 ? 0L : histogram.min.get());
+            values.put(name + ".max", count == 0 ? 0L : histogram.max.get());
+            values.put(name + ".mean", count == 0 ? 0D : (double) histogram.sum.sum() / count);
+        });
+        return values;
+    }
+
+    private static String key(String name, String tag)
+    {
+        return tag == null ? name : name + '[' + tag + ']';
+    }
+
+    private static final class Histogram
+    {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private void record(long value)
+        {
+            count.increment();
+            sum.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+        }
+    }
+}
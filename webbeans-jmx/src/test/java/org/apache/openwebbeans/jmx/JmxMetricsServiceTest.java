@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.openwebbeans.jmx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+
+import org.apache.webbeans.spi.MetricsService;
+import org.junit.Test;
+
+public class JmxMetricsServiceTest
+{
+    @Test
+    public void exposeMetrics() throws Exception
+    {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        JmxMetricsService metrics = new JmxMetricsService();
+        try
+        {
+            assertTrue(server.isRegistered(metrics.getObjectName()));
+
+            metrics.increment(MetricsService.INSTANCES_CREATED, "jakarta.enterprise.context.ApplicationScoped");
+            metrics.increment(MetricsService.INSTANCES_CREATED, "jakarta.enterprise.context.ApplicationScoped");
+            metrics.increment(MetricsService.DEPENDENT_INSTANCES_LIVE, null);
+            metrics.decrement(MetricsService.DEPENDENT_INSTANCES_LIVE, null);
+            metrics.record(MetricsService.SESSION_CONTEXT_SIZE, null, 2);
+            metrics.record(MetricsService.SESSION_CONTEXT_SIZE, null, 6);
+
+            assertEquals(2L, server.getAttribute(metrics.getObjectName(),
+                    "instances.created[jakarta.enterprise.context.ApplicationScoped]"));
+            assertEquals(0L, server.getAttribute(metrics.getObjectName(), "dependent.instances.live"));
+            assertEquals(2L, server.getAttribute(metrics.getObjectName(), "session.context.size.count"));
+            assertEquals(2L, server.getAttribute(metrics.getObjectName(), "session.context.size.min"));
+            assertEquals(6L, server.getAttribute(metrics.getObjectName(), "session.context.size.max"));
+            assertEquals(4D, server.getAttribute(metrics.getObjectName(), "session.context.size.mean"));
+
+            assertTrue(Arrays.stream(server.getMBeanInfo(metrics.getObjectName()).getAttributes())
+                    .map(MBeanAttributeInfo::getName)
+                    .collect(Collectors.toSet())
+                    .contains("dependent.instances.live"));
+        }
+        finally
+        {
+            metrics.close();
+        }
+        assertFalse(server.isRegistered(metrics.getObjectName()));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.spi;
+
+/**
+ * SPI the container reports metrics about its internals into.
+ *
+ * <p>Counters only ever get incremented, gauges get incremented and decremented
+ * and histograms record single values. Each metric can carry a tag, e.g. the scope
+ * of a created instance, which can be {@code null}.</p>
+ *
+ * <p>Implementations get invoked on hot paths and from many threads concurrently.
+ * The container checks {@link #isEnabled()} before computing tags, so a disabled
+ * implementation does not cost anything.</p>
+ */
+public interface MetricsService
+{
+    /**
+     * Counter of InjectionResolver cache hits, tagged with {@code type} or {@code name}.
+     */
+    String RESOLUTION_CACHE_HITS = "resolution.cache.hits";
+
+    /**
+     * Counter of InjectionResolver cache misses, tagged with {@code type} or {@code name}.
+     */
+    String RESOLUTION_CACHE_MISSES = "resolution.cache.misses";
+
+    /**
+     * Counter of entries evicted from the bounded InjectionResolver cache, tagged with {@code type} or {@code name}.
+     */
+    String RESOLUTION_CACHE_EVICTIONS = "resolution.cache.evictions";
+
+    /**
+     * Counter of bean name lookups answered by the bean name index, which gets built at the end of the deployment.
+     * These lookups don't touch the InjectionResolver cache and so are neither counted as hits nor as misses.
+     */
+    String NAME_INDEX_LOOKUPS = "name.index.lookups";
+
+    /**
+     * Counter of observer method cache hits of {@code Event}, tagged with {@code sync} or {@code async}.
+     */
+    String OBSERVER_CACHE_HITS = "observer.cache.hits";
+
+    /**
+     * Counter of observer method cache misses of {@code Event}, tagged with {@code sync} or {@code async}.
+     */
+    String OBSERVER_CACHE_MISSES = "observer.cache.misses";
+
+    /**
+     * Counter of generated proxy classes, tagged with the simple name of the proxy factory.
+     */
+    String PROXY_CLASSES_GENERATED = "proxy.classes.generated";
+
+    /**
+     * Counter of proxy classes whose bytecode got loaded from the proxy bytecode cache instead of being generated,
+     * tagged with the simple name of the proxy factory.
+     */
+    String PROXY_CLASSES_CACHE_HITS = "proxy.classes.cache.hits";
+
+    /**
+     * Counter of created contextual instances, tagged with the scope annotation name.
+     */
+    String INSTANCES_CREATED = "instances.created";
+
+    /**
+     * Gauge of the {@code @Dependent} instances which got created but not yet destroyed.
+     */
+    String DEPENDENT_INSTANCES_LIVE = "dependent.instances.live";
+
+    /**
+     * Gauge of the asynchronous observer notifications which got submitted but did not start yet.
+     */
+    String ASYNC_EVENTS_QUEUED = "async.events.queued";
+
+    /**
+     * Histogram of the number of contextual instances in a session context when it gets destroyed.
+     */
+    String SESSION_CONTEXT_SIZE = "session.context.size";
+
+    /**
+     * @return {@code false} if the container can skip reporting entirely
+     */
+    boolean isEnabled();
+
+    /**
+     * Increment a counter or gauge by one.
+     * @param name the metric name
+     * @param tag the tag of the metric, can be {@code null}
+     */
+    void increment(String name, String tag);
+
+    /**
+     * Decrement a gauge by one.
+     * @param name the metric name
+     * @param tag the tag of the metric, can be {@code null}
+     */
+    void decrement(String name, String tag);
+
+    /**
+     * Record a single value of a histogram.
+     * @param name the metric name
+     * @param tag the tag of the metric, can be {@code null}
+     * @param value the recorded value
+     */
+    void record(String name, String tag, long value);
+}
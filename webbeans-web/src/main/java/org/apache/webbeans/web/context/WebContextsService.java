@@ -33,9 +33,12 @@ import org.apache.webbeans.context.SessionContext;
 import org.apache.webbeans.context.SingletonContext;
 import org.apache.webbeans.conversation.ConversationManager;
 import org.apache.webbeans.el.ELContextStore;
+import org.apache.webbeans.intercept.RequestScopedBeanInterceptorHandler;
 import org.apache.webbeans.intercept.SessionScopedBeanInterceptorHandler;
+import org.apache.webbeans.jfr.JfrEvents;
+import org.apache.webbeans.jfr.JfrSupport;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
-import org.apache.webbeans.intercept.RequestScopedBeanInterceptorHandler;
+import org.apache.webbeans.spi.MetricsService;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.ContextException;
@@ -216,37 +219,48 @@ public class WebContextsService extends AbstractContextsService
      */
     @Override
     public void endContext(Class<? extends Annotation> scopeType, Object endParameters)
-    {        
-        if(scopeType.equals(RequestScoped.class))
-        {
-            destroyRequestContext(endParameters);
-        }
-        else if(scopeType.equals(SessionScoped.class))
-        {
-            destroySessionContext(endParameters);
-        }
-        else if(scopeType.equals(ApplicationScoped.class))
-        {
-            destroyApplicationContext(endParameters);
-        }
-        else if(supportsConversation && scopeType.equals(ConversationScoped.class))
-        {
-            destroyConversationContext();
-        }
-        else if(scopeType.equals(Dependent.class))
-        {
-            //Do nothing
-            return;
-        }
-        else if (scopeType.equals(Singleton.class))
+    {
+        Object jfrEvent = JfrSupport.AVAILABLE ? JfrEvents.beginContextLifecycle(scopeType, "end") : null;
+        try
         {
-            destroySingletonContext(endParameters);
+            if(scopeType.equals(RequestScoped.class))
+            {
+                destroyRequestContext(endParameters);
+            }
+            else if(scopeType.equals(SessionScoped.class))
+            {
+                destroySessionContext(endParameters);
+            }
+            else if(scopeType.equals(ApplicationScoped.class))
+            {
+                destroyApplicationContext(endParameters);
+            }
+            else if(supportsConversation && scopeType.equals(ConversationScoped.class))
+            {
+                destroyConversationContext();
+            }
+            else if(scopeType.equals(Dependent.class))
+            {
+                //Do nothing
+                return;
+            }
+            else if (scopeType.equals(Singleton.class))
+            {
+                destroySingletonContext(endParameters);
+            }
+            else
+            {
+                logger.warning("CDI-OpenWebBeans container does not support context scope "
+                        + scopeType.getSimpleName()
+                        + ". Scopes @Dependent, @RequestScoped, @ApplicationScoped and @Singleton are supported scope types");
+            }
         }
-        else
+        finally
         {
-            logger.warning("CDI-OpenWebBeans container does not support context scope "
-                    + scopeType.getSimpleName()
-                    + ". Scopes @Dependent, @RequestScoped, @ApplicationScoped and @Singleton are supported scope types");
+            if (jfrEvent != null)
+            {
+                JfrEvents.commit(jfrEvent);
+            }
         }
     }
 
@@ -307,36 +321,47 @@ public class WebContextsService extends AbstractContextsService
     @Override
     public void startContext(Class<? extends Annotation> scopeType, Object startParameter) throws ContextException
     {
-        if (scopeType.equals(RequestScoped.class))
+        Object jfrEvent = JfrSupport.AVAILABLE ? JfrEvents.beginContextLifecycle(scopeType, "start") : null;
+        try
         {
-            initRequestContext(startParameter);
-        }
-        else if (scopeType.equals(SessionScoped.class))
-        {
-            initSessionContext(startParameter);
-        }
-        else if (scopeType.equals(ApplicationScoped.class))
-        {
-            initApplicationContext(startParameter);
-        }
-        else if (supportsConversation && scopeType.equals(ConversationScoped.class))
-        {
-            initConversationContext(startParameter);
-        }
-        else if (scopeType.equals(Dependent.class))
-        {
-            //Do nothing
-            return;
-        }
-        else if (scopeType.equals(Singleton.class))
-        {
-            initSingletonContext(startParameter);
+            if (scopeType.equals(RequestScoped.class))
+            {
+                initRequestContext(startParameter);
+            }
+            else if (scopeType.equals(SessionScoped.class))
+            {
+                initSessionContext(startParameter);
+            }
+            else if (scopeType.equals(ApplicationScoped.class))
+            {
+                initApplicationContext(startParameter);
+            }
+            else if (supportsConversation && scopeType.equals(ConversationScoped.class))
+            {
+                initConversationContext(startParameter);
+            }
+            else if (scopeType.equals(Dependent.class))
+            {
+                //Do nothing
+                return;
+            }
+            else if (scopeType.equals(Singleton.class))
+            {
+                initSingletonContext(startParameter);
+            }
+            else
+            {
+                logger.warning("CDI-OpenWebBeans container does not support context scope "
+                        + scopeType.getSimpleName()
+                        + ". Scopes @Dependent, @RequestScoped, @ApplicationScoped and @Singleton are supported scope types");
+            }
         }
-        else
+        finally
         {
-            logger.warning("CDI-OpenWebBeans container does not support context scope "
-                    + scopeType.getSimpleName()
-                    + ". Scopes @Dependent, @RequestScoped, @ApplicationScoped and @Singleton are supported scope types");
+            if (jfrEvent != null)
+            {
+                JfrEvents.commit(jfrEvent);
+            }
         }
     }
 
@@ -564,6 +589,11 @@ public class WebContextsService extends AbstractContextsService
                 webBeansContext.getBeanManagerImpl().fireContextLifecyleEvent(
                     session != null ? session : new Object(), BeforeDestroyedLiteral.INSTANCE_SESSION_SCOPED);
 
+                MetricsService metrics = webBeansContext.getMetricsService();
+                if (metrics.isEnabled())
+                {
+                    metrics.record(MetricsService.SESSION_CONTEXT_SIZE, null, context.getInstanceCount());
+                }
                 context.destroy();
 
                 webBeansContext.getBeanManagerImpl().fireContextLifecyleEvent(
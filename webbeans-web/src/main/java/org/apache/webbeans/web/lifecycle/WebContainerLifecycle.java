@@ -135,6 +135,8 @@ public class WebContainerLifecycle extends AbstractLifeCycle
             servletContext.setAttribute(BeanManager.class.getName(), getBeanManager());
         }
 
+        initializeEagerBeans();
+
         // fire @Initialized(ApplicationScoped.class) if any observer for it exists
         if (webBeansContext.getNotificationManager().
             hasContextLifecycleObserver(InitializedLiteral.INSTANCE_APPLICATION_SCOPED))